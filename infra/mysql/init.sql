@@ -1,12 +1,30 @@
 -- 초기 데이터베이스 스키마나 데이터 설정
 USE devdb;
 
+-- 고객/상품 차원 테이블. 주문 테이블에는 이름 대신 id만 저장한다.
+-- 이름은 대소문자/공백까지 그대로 구분하도록 NO PAD 바이너리 콜레이션을 사용
+-- (utf8mb4_bin은 PAD SPACE라 'Alice'와 'Alice '가 같은 키가 되어 DimensionResolver가 id를 찾지 못한다)
+-- MariaDB에서는 utf8mb4_0900_bin이 utf8mb4_bin의 별칭이므로 utf8mb4_nopad_bin으로 바꿔 적용한다
+CREATE TABLE IF NOT EXISTS customers (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) COLLATE utf8mb4_0900_bin NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_customers_name (name)
+);
+
+CREATE TABLE IF NOT EXISTS products (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) COLLATE utf8mb4_0900_bin NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_products_name (name)
+);
+
 -- orders 테이블
 CREATE TABLE IF NOT EXISTS orders (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     order_id VARCHAR(50) NOT NULL,
-    customer_name VARCHAR(100) NOT NULL,
-    product_name VARCHAR(100) NOT NULL,
+    customer_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
     quantity INT NOT NULL,
     price DECIMAL(10,2) NOT NULL,
     total_amount DECIMAL(10,2) NOT NULL,
@@ -14,8 +32,8 @@ CREATE TABLE IF NOT EXISTS orders (
     status VARCHAR(50) NOT NULL,
     processed_at DATETIME NOT NULL,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
-    INDEX idx_order_id (order_id),
-    INDEX idx_customer_name (customer_name),
+    UNIQUE KEY uk_orders_order_id (order_id),
+    INDEX idx_orders_customer_id (customer_id),
     INDEX idx_order_date (order_date)
 );
 
@@ -23,8 +41,8 @@ CREATE TABLE IF NOT EXISTS orders (
 CREATE TABLE IF NOT EXISTS processed_orders (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     original_order_id VARCHAR(50) NOT NULL,
-    customer_name VARCHAR(100) NOT NULL,
-    product_name VARCHAR(100) NOT NULL,
+    customer_id BIGINT NOT NULL,
+    product_id BIGINT NOT NULL,
     quantity INT NOT NULL,
     price DECIMAL(10,2) NOT NULL,
     total_amount DECIMAL(10,2) NOT NULL,
@@ -32,5 +50,60 @@ CREATE TABLE IF NOT EXISTS processed_orders (
     status VARCHAR(50) NOT NULL,
     processed_at DATETIME NOT NULL,
     processing_result VARCHAR(50) NOT NULL,
-    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    UNIQUE KEY uk_processed_orders_original_order_id (original_order_id)
+);
+
+-- daily_product_sales 테이블 (일자 × 상품 매출 집계)
+-- 청크를 쓸 때 같은 트랜잭션에서 증분(delta)으로 갱신되므로 orders를 다시 집계하지 않아도 된다
+CREATE TABLE IF NOT EXISTS daily_product_sales (
+    sales_date DATE NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity BIGINT NOT NULL,
+    sales DECIMAL(15,2) NOT NULL,
+    order_count BIGINT NOT NULL,
+    PRIMARY KEY (sales_date, product_id)
+);
+
+-- job_product_sales 테이블 (Job 실행 리포트의 상품별 판매 현황)
+-- OrderReportAccumulator가 청크마다 같은 트랜잭션에서 증분으로 갱신한다. Step ExecutionContext에는 건수/매출 합계만 남긴다
+CREATE TABLE IF NOT EXISTS job_product_sales (
+    job_execution_id BIGINT NOT NULL,
+    step_name VARCHAR(100) NOT NULL,
+    product_id BIGINT NOT NULL,
+    quantity BIGINT NOT NULL,
+    sales DECIMAL(15,2) NOT NULL,
+    PRIMARY KEY (job_execution_id, step_name, product_id)
+);
+
+-- batch_partition_work 테이블 (batch.mode=distributed)
+-- manager가 파티션(StepExecution)마다 한 행을 게시하고, 같은 DB를 쓰는 여러 JVM의 워커가 SKIP LOCKED로 가져가 실행한다
+CREATE TABLE IF NOT EXISTS batch_partition_work (
+    step_execution_id BIGINT PRIMARY KEY,
+    job_execution_id BIGINT NOT NULL,
+    step_name VARCHAR(100) NOT NULL,
+    start_offset BIGINT,
+    end_offset BIGINT,
+    status VARCHAR(20) NOT NULL,           -- READY | CLAIMED | COMPLETED | FAILED
+    worker_id VARCHAR(100),
+    claim_count INT NOT NULL DEFAULT 0,    -- 1보다 크면 임대 만료로 다른 워커가 다시 가져간 것
+    heartbeat_at DATETIME(3),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_partition_work_status (status, step_execution_id),
+    INDEX idx_partition_work_job_execution_id (job_execution_id)
+);
+
+-- rejected_orders 테이블 (검증 실패 건, batch.reject.table-enabled=true일 때만 기록)
+CREATE TABLE IF NOT EXISTS rejected_orders (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_execution_id BIGINT NOT NULL,
+    order_id VARCHAR(50),
+    customer_name VARCHAR(100),
+    product_name VARCHAR(100),
+    quantity VARCHAR(50),
+    price VARCHAR(50),
+    order_date VARCHAR(50),
+    reason VARCHAR(255) NOT NULL,
+    rejected_at DATETIME NOT NULL,
+    INDEX idx_rejected_job_execution_id (job_execution_id)
 );
@@ -0,0 +1,25 @@
+-- customers / products 이름 콜레이션 확인 스크립트 (MySQL 8 전용, 데이터는 바꾸지 않는다)
+--   docker exec -i batch-mysql mysql -uroot -prootpassword -t < infra/mysql/name-collation-check.sql
+-- DimensionResolver는 IN 조회 → INSERT IGNORE → IN 조회로 이름의 id를 찾고, 조회 결과의 name 문자열로 매핑한다.
+-- PAD SPACE 콜레이션(utf8mb4_bin 등)에서는 뒤 공백만 다른 이름이 UNIQUE KEY에서 같은 값이 되어
+-- INSERT IGNORE가 무시되고, 조회 결과에 요청한 이름이 없으므로 "차원 id를 찾을 수 없습니다"로 청크가 실패한다.
+USE devdb;
+
+-- PAD_ATTRIBUTE가 NO PAD여야 한다 (init.sql은 utf8mb4_0900_bin)
+SELECT c.TABLE_NAME, c.COLUMN_NAME, c.COLLATION_NAME, l.PAD_ATTRIBUTE
+FROM information_schema.COLUMNS c
+         JOIN information_schema.COLLATIONS l ON l.COLLATION_NAME = c.COLLATION_NAME
+WHERE c.TABLE_SCHEMA = 'devdb' AND c.TABLE_NAME IN ('customers', 'products') AND c.COLUMN_NAME = 'name';
+
+-- DimensionResolver와 같은 순서로 실행한 뒤 롤백한다.
+-- NO PAD: 두 이름이 각각 한 행씩 2행 / PAD SPACE: 'name-collation-check'만 1행 (뒤 공백 이름은 매핑 불가)
+START TRANSACTION;
+INSERT IGNORE INTO customers (name) VALUES ('name-collation-check'), ('name-collation-check ');
+SELECT id, CONCAT('[', name, ']') AS name
+FROM customers
+WHERE name IN ('name-collation-check', 'name-collation-check ');
+ROLLBACK;
+
+-- utf8mb4_bin으로 만든 기존 테이블은 아래로 바꾼다 (기존 이름은 모두 서로 다르므로 UNIQUE KEY 충돌 없음)
+--   ALTER TABLE customers MODIFY name VARCHAR(100) COLLATE utf8mb4_0900_bin NOT NULL;
+--   ALTER TABLE products MODIFY name VARCHAR(100) COLLATE utf8mb4_0900_bin NOT NULL;
@@ -0,0 +1,45 @@
+-- orders / processed_orders를 order_date 기준 RANGE 파티션으로 바꾸는 스크립트 (MySQL 8 전용, 선택 적용)
+-- init.sql 적용 후 한 번 실행한다:
+--   docker exec -i batch-mysql mysql -uroot -prootpassword < infra/mysql/partitioning.sql
+-- 적용 후에는 application.yml의 batch.rollup.match-order-date를 true로 설정한다.
+USE devdb;
+
+-- 파티션 키는 모든 PRIMARY/UNIQUE KEY에 포함되어야 하므로 order_date를 키에 추가한다.
+-- 따라서 같은 order_id라도 주문일이 다르면 별개의 행으로 저장된다.
+ALTER TABLE orders
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, order_date),
+    DROP INDEX uk_orders_order_id,
+    ADD UNIQUE KEY uk_orders_order_id (order_id, order_date);
+
+ALTER TABLE orders
+    PARTITION BY RANGE COLUMNS (order_date) (
+        PARTITION p2023 VALUES LESS THAN ('2024-01-01'),
+        PARTITION p2024 VALUES LESS THAN ('2025-01-01'),
+        PARTITION p2025 VALUES LESS THAN ('2026-01-01'),
+        PARTITION p2026 VALUES LESS THAN ('2027-01-01'),
+        PARTITION pmax VALUES LESS THAN (MAXVALUE)
+    );
+
+ALTER TABLE processed_orders
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, order_date),
+    DROP INDEX uk_processed_orders_original_order_id,
+    ADD UNIQUE KEY uk_processed_orders_original_order_id (original_order_id, order_date);
+
+ALTER TABLE processed_orders
+    PARTITION BY RANGE COLUMNS (order_date) (
+        PARTITION p2023 VALUES LESS THAN ('2024-01-01'),
+        PARTITION p2024 VALUES LESS THAN ('2025-01-01'),
+        PARTITION p2025 VALUES LESS THAN ('2026-01-01'),
+        PARTITION p2026 VALUES LESS THAN ('2027-01-01'),
+        PARTITION pmax VALUES LESS THAN (MAXVALUE)
+    );
+
+-- 새 기간 추가 (pmax를 나눈다):
+--   ALTER TABLE orders REORGANIZE PARTITION pmax INTO (
+--       PARTITION p2027 VALUES LESS THAN ('2028-01-01'),
+--       PARTITION pmax VALUES LESS THAN (MAXVALUE));
+-- 오래된 기간 삭제 (DELETE 없이 즉시. daily_product_sales 집계는 그대로 남는다):
+--   ALTER TABLE orders DROP PARTITION p2023;
+--   ALTER TABLE processed_orders DROP PARTITION p2023;
@@ -0,0 +1,57 @@
+package com.example.batch.benchmark;
+
+import com.example.batch.reader.OpenCsvOrderLineMapper;
+import com.example.batch.reader.OrderCsvTokenizer;
+import com.example.batch.reader.OrderLineMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSV 한 줄 → {@code OrderInputDto} 변환 비용. opencsv 바인딩과 바이트 토크나이저를 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CsvBindingBenchmark {
+
+    private static final int LINES = 1_000;
+
+    @Param({"opencsv", "fast"})
+    public String parser;
+
+    private OrderLineMapper mapper;
+    private List<byte[]> lines;
+
+    @Setup
+    public void setUp() {
+        mapper = "fast".equals(parser) ? new OrderCsvTokenizer() : new OpenCsvOrderLineMapper();
+        mapper.readHeader(OrderBenchmarkData.HEADER);
+        lines = OrderBenchmarkData.lines(LINES, 0.95);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LINES)
+    public void map(Blackhole blackhole) throws Exception {
+        for (byte[] line : lines) {
+            blackhole.consume(mapper.map(line, line.length));
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package com.example.batch.benchmark;
+
+import com.example.batch.validation.OrderDateTimeParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문일자 검증 경로 비용. DateTimeFormatter 파싱과 {@link OrderDateTimeParser}의 고정 길이 파싱을 비교하고,
+ * 미래 날짜 검사를 위해 아이템마다 {@code LocalDateTime.now()}를 부르는 비용을 따로 본다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateParseBenchmark {
+
+    private static final int DATES = 1_000;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private String[] dates;
+
+    @Setup
+    public void setUp() {
+        dates = OrderBenchmarkData.dateStrings(DATES);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATES)
+    public void parse(Blackhole blackhole) {
+        for (String date : dates) {
+            blackhole.consume(LocalDateTime.parse(date, DATE_FORMATTER));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATES)
+    public void parseFixedLayout(Blackhole blackhole) {
+        for (String date : dates) {
+            blackhole.consume(OrderDateTimeParser.parse(date));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATES)
+    public void parseFixedLayoutWithChunkClock(Blackhole blackhole) {
+        LocalDateTime now = LocalDateTime.now();  // 청크당 한 번
+        for (String date : dates) {
+            blackhole.consume(OrderDateTimeParser.parse(date).isAfter(now));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(DATES)
+    public void parseAndCheckFuture(Blackhole blackhole) {
+        for (String date : dates) {
+            LocalDateTime orderDate = LocalDateTime.parse(date, DATE_FORMATTER);
+            blackhole.consume(orderDate.isAfter(LocalDateTime.now()));
+        }
+    }
+
+}
@@ -0,0 +1,149 @@
+package com.example.batch.benchmark;
+
+import com.example.batch.domain.Order;
+import com.example.batch.dto.OrderInputDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 주문 데이터. 시드를 고정해 실행마다 같은 데이터를 만든다.
+ */
+final class OrderBenchmarkData {
+
+    static final String HEADER = "order_id,customer_name,product_name,quantity,price,order_date";
+
+    private static final String[] CUSTOMERS = {"홍길동", "김철수", "이영희", "박지성", "손흥민", "김민재", "김연아", "류현진"};
+    private static final String[] PRODUCTS = {"노트북", "스마트폰", "태블릿", "헤드폰", "키보드", "마우스", "모니터", "의자", "\"USB-C, 2m\" 케이블"};
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private OrderBenchmarkData() {
+    }
+
+    /**
+     * CSV 한 줄씩을 UTF-8 바이트로 만든다. 쉼표와 따옴표가 들어간 상품명은 따옴표로 감싼다.
+     */
+    static List<byte[]> lines(int count, double validRatio) {
+        Random random = new Random(42);
+        List<byte[]> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String[] fields = fields(i, random, random.nextDouble() < validRatio);
+            StringBuilder line = new StringBuilder(96);
+            for (int f = 0; f < fields.length; f++) {
+                if (f > 0) {
+                    line.append(',');
+                }
+                String value = fields[f];
+                if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0) {
+                    line.append('"').append(value.replace("\"", "\"\"")).append('"');
+                } else {
+                    line.append(value);
+                }
+            }
+            lines.add(line.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        return lines;
+    }
+
+    /**
+     * opencsv 변환 결과와 같은 상태(문자열 필드만 채워진)의 입력 DTO를 만든다.
+     */
+    static List<OrderInputDto> inputs(int count, double validRatio) {
+        Random random = new Random(42);
+        List<OrderInputDto> inputs = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String[] fields = fields(i, random, random.nextDouble() < validRatio);
+            OrderInputDto dto = new OrderInputDto();
+            dto.setOrderId(fields[0]);
+            dto.setCustomerName(fields[1]);
+            dto.setProductName(fields[2]);
+            dto.setQuantityStr(fields[3]);
+            dto.setPriceStr(fields[4]);
+            dto.setOrderDateStr(fields[5]);
+            inputs.add(dto);
+        }
+        return inputs;
+    }
+
+    static List<Order> orders(int count) {
+        Random random = new Random(42);
+        LocalDateTime processedAt = LocalDateTime.of(2024, 2, 1, 0, 0);
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int quantity = 1 + random.nextInt(10);
+            long price = 1_000L * (1 + random.nextInt(900));
+            int customer = random.nextInt(CUSTOMERS.length);
+            int product = random.nextInt(PRODUCTS.length);
+            orders.add(Order.builder()
+                    .orderId(orderId(i))
+                    .customerId(customer + 1L)
+                    .productId(product + 1L)
+                    .customerName(CUSTOMERS[customer])
+                    .productName(PRODUCTS[product])
+                    .quantity(quantity)
+                    .price(price)
+                    .totalAmount(price * quantity)
+                    .orderDate(orderDate(random))
+                    .status("PROCESSED")
+                    .processedAt(processedAt)
+                    .build());
+        }
+        return orders;
+    }
+
+    static OrderInputDto copy(OrderInputDto source) {
+        OrderInputDto dto = new OrderInputDto();
+        dto.setOrderId(source.getOrderId());
+        dto.setCustomerName(source.getCustomerName());
+        dto.setProductName(source.getProductName());
+        dto.setQuantityStr(source.getQuantityStr());
+        dto.setPriceStr(source.getPriceStr());
+        dto.setOrderDateStr(source.getOrderDateStr());
+        return dto;
+    }
+
+    static String[] dateStrings(int count) {
+        Random random = new Random(42);
+        String[] dates = new String[count];
+        for (int i = 0; i < count; i++) {
+            dates[i] = orderDate(random).format(DATE_FORMATTER);
+        }
+        return dates;
+    }
+
+    private static String[] fields(int index, Random random, boolean valid) {
+        String quantity = Integer.toString(1 + random.nextInt(10));
+        String price = Long.toString(1_000L * (1 + random.nextInt(900)));
+        String orderDate = orderDate(random).format(DATE_FORMATTER);
+        if (!valid) {
+            // 실제 거부 사유 분포와 비슷하게 가격 초과 / 수량 0 / 형식 오류 / 미래 날짜를 섞는다
+            switch (random.nextInt(4)) {
+                case 0 -> price = "1500000";
+                case 1 -> quantity = "0";
+                case 2 -> quantity = "abc";
+                default -> orderDate = "2999-01-01 00:00:00";
+            }
+        }
+        return new String[]{
+                orderId(index),
+                CUSTOMERS[random.nextInt(CUSTOMERS.length)],
+                PRODUCTS[random.nextInt(PRODUCTS.length)],
+                quantity,
+                price,
+                orderDate
+        };
+    }
+
+    private static String orderId(int index) {
+        return "ORD" + String.format("%09d", index);
+    }
+
+    private static LocalDateTime orderDate(Random random) {
+        return LocalDateTime.of(2023, 1, 1, 0, 0).plusSeconds(random.nextInt(365 * 24 * 3600));
+    }
+
+}
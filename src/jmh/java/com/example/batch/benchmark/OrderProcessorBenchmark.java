@@ -0,0 +1,69 @@
+package com.example.batch.benchmark;
+
+import com.example.batch.dedup.DuplicateOrderFilter;
+import com.example.batch.dto.OrderInputDto;
+import com.example.batch.processor.OrderItemProcessor;
+import com.example.batch.validation.ChunkClock;
+import com.example.batch.validation.OrderValidator;
+import com.example.batch.validation.ValidationRuleProperties;
+import com.example.batch.writer.RejectedOrderSink;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link OrderItemProcessor#process}(검증 + 변환) 비용을 유효/무효 데이터 비율별로 측정한다.
+ * process가 입력 DTO를 변경하므로 매 호출마다 원본에서 복사한 DTO를 넘긴다(복사 비용은 모든 비율에 동일하게 포함).
+ * 무효 건은 거부 Sink에 쌓이므로 호출이 끝날 때마다 비운다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderProcessorBenchmark {
+
+    private static final int ITEMS = 1_000;
+
+    @Param({"1.0", "0.95", "0.5"})
+    public double validRatio;
+
+    private RejectedOrderSink rejectedOrderSink;
+    private OrderItemProcessor processor;
+    private List<OrderInputDto> inputs;
+
+    @Setup
+    public void setUp() {
+        rejectedOrderSink = new RejectedOrderSink(null, null);
+        // Step 컨텍스트가 없으므로 중복 검사는 건너뛴다
+        ChunkClock chunkClock = new ChunkClock();
+        chunkClock.beforeChunk(null);
+        processor = new OrderItemProcessor(rejectedOrderSink, new DuplicateOrderFilter(),
+                new OrderValidator(new ValidationRuleProperties()), chunkClock);
+        inputs = OrderBenchmarkData.inputs(ITEMS, validRatio);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void process(Blackhole blackhole) throws Exception {
+        for (OrderInputDto input : inputs) {
+            blackhole.consume(processor.process(OrderBenchmarkData.copy(input)));
+        }
+        rejectedOrderSink.beforeChunk(null);
+    }
+
+}
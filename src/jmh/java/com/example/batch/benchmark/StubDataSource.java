@@ -0,0 +1,100 @@
+package com.example.batch.benchmark;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+
+/**
+ * 네트워크 없이 파라미터 바인딩 비용만 측정하기 위한 JDBC 스텁.
+ * PreparedStatement는 바인딩된 값을 배열에 담기만 하고, executeBatch는 addBatch 횟수만큼 1을 돌려준다.
+ * 동적 프록시 호출 비용이 모든 setter에 일정하게 더해지므로 절대값보다 변경 전후 비교에 사용한다.
+ */
+class StubDataSource extends AbstractDataSource {
+
+    private final Connection connection = stub(Connection.class, new StubConnection());
+
+    @Override
+    public Connection getConnection() {
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) {
+        return connection;
+    }
+
+    private static final class StubConnection implements InvocationHandler {
+
+        private final DatabaseMetaData metaData = stub(DatabaseMetaData.class, (proxy, method, args) ->
+                "supportsBatchUpdates".equals(method.getName()) ? Boolean.TRUE : defaultValue(method.getReturnType()));
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            return switch (method.getName()) {
+                case "prepareStatement" -> stub(PreparedStatement.class, new StubPreparedStatement((Connection) proxy));
+                case "getMetaData" -> metaData;
+                case "getAutoCommit" -> Boolean.TRUE;
+                default -> defaultValue(method.getReturnType());
+            };
+        }
+    }
+
+    private static final class StubPreparedStatement implements InvocationHandler {
+
+        private final Connection connection;
+        private final Object[] parameters = new Object[32];
+        private int batchCount;
+
+        private StubPreparedStatement(Connection connection) {
+            this.connection = connection;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters[index] = args[1];
+                return null;
+            }
+            return switch (name) {
+                case "addBatch" -> {
+                    batchCount++;
+                    yield null;
+                }
+                case "executeBatch" -> {
+                    int[] counts = new int[batchCount];
+                    Arrays.fill(counts, 1);
+                    batchCount = 0;
+                    yield counts;
+                }
+                case "getConnection" -> connection;
+                default -> defaultValue(method.getReturnType());
+            };
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StubDataSource.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return Boolean.FALSE;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.example.batch.benchmark;
+
+import com.example.batch.domain.Order;
+import com.example.batch.writer.MySqlBulkLoader;
+import com.example.batch.writer.OrderItemWriter;
+import com.example.batch.writer.ProcessedOrderWriter;
+import com.example.batch.writer.TabSeparatedRows;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.batch.item.Chunk;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 청크 하나를 쓰는 데 드는 JVM 쪽 비용(SQL 파라미터 바인딩)을 {@link StubDataSource}로 측정한다.
+ * LOAD DATA 모드에서 같은 청크를 탭 구분 스트림으로 만드는 비용도 함께 비교한다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriterBindingBenchmark {
+
+    @Param({"100", "1000"})
+    public int chunkSize;
+
+    private OrderItemWriter orderItemWriter;
+    private ProcessedOrderWriter processedOrderWriter;
+    private Chunk<Order> chunk;
+
+    @Setup
+    public void setUp() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new StubDataSource());
+        // batch.writer.mode가 주입되지 않으므로 항상 배치 INSERT 경로를 탄다
+        MySqlBulkLoader bulkLoader = new MySqlBulkLoader(jdbcTemplate);
+        orderItemWriter = new OrderItemWriter(jdbcTemplate, bulkLoader);
+        processedOrderWriter = new ProcessedOrderWriter(jdbcTemplate, bulkLoader);
+        chunk = new Chunk<>(OrderBenchmarkData.orders(chunkSize));
+    }
+
+    @Benchmark
+    public Chunk<Order> orderItemWriter() throws Exception {
+        orderItemWriter.write(chunk);
+        return chunk;
+    }
+
+    @Benchmark
+    public Chunk<Order> processedOrderWriter() throws Exception {
+        processedOrderWriter.write(chunk);
+        return chunk;
+    }
+
+    @Benchmark
+    public TabSeparatedRows tabSeparatedRows() {
+        List<Order> orders = chunk.getItems();
+        TabSeparatedRows rows = new TabSeparatedRows(orders.size() * 104);
+        for (Order order : orders) {
+            rows.field(order.getOrderId())
+                    .field(order.getCustomerId())
+                    .field(order.getProductId())
+                    .field(order.getQuantity())
+                    .field(order.getPrice())
+                    .field(order.getTotalAmount())
+                    .field(order.getOrderDate())
+                    .field(order.getStatus())
+                    .field(order.getProcessedAt())
+                    .field("SUCCESS")
+                    .endRow();
+        }
+        return rows;
+    }
+
+}
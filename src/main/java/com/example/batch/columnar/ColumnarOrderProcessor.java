@@ -0,0 +1,80 @@
+package com.example.batch.columnar;
+
+import com.example.batch.dedup.DuplicateOrderFilter;
+import com.example.batch.dto.OrderInputDto;
+import com.example.batch.validation.OrderValidator;
+import com.example.batch.writer.RejectedOrderSink;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * {@link com.example.batch.processor.OrderItemProcessor}의 블록 버전. 검증 → 중복 검사 → 거부 기록 순서와 결과는 같다.
+ * 행을 통과/실패로만 판정하는 컬럼 검사를 먼저 돌리고, 실패한 행만 원문을 DTO로 다시 변환해 기존 검증으로 사유를 만든다.
+ * 통과한 행은 블록 앞쪽으로 모으고 total_amount / processed_at을 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ColumnarOrderProcessor {
+
+    private static final String DUPLICATE_MESSAGE = "Duplicate order_id in input file";
+
+    private final RejectedOrderSink rejectedOrderSink;
+    private final DuplicateOrderFilter duplicateOrderFilter;
+    private final OrderValidator orderValidator;
+
+    /**
+     * 블록을 검증하고 유효한 행만 남긴다.
+     *
+     * @param now 미래 날짜 검사와 processed_at 기준 시각 (청크 시작 시각)
+     * @return 거부한 행 수
+     */
+    public int process(OrderColumns block, LocalDateTime now) throws Exception {
+        long nowEpochSecond = now.toEpochSecond(ZoneOffset.UTC);
+        int rows = block.size();
+        int kept = 0;
+
+        for (int row = 0; row < rows; row++) {
+            if (!orderValidator.passes(block, row, nowEpochSecond)) {
+                reject(block, row, now);
+                continue;
+            }
+            // 유효한 행만 중복 검사 대상으로 등록 (같은 파일에서 먼저 나온 order_id가 있으면 거부)
+            if (duplicateOrderFilter.isDuplicate(block.orderId(row))) {
+                OrderInputDto item = block.toInput(row);
+                markInvalid(item, DUPLICATE_MESSAGE);
+                rejectedOrderSink.reject(item);
+                continue;
+            }
+
+            block.setTotal(row, block.price(row) * block.quantity(row));
+            block.moveRow(row, kept++);
+        }
+
+        block.truncate(kept);
+        block.setProcessedAt(now);
+        return rows - kept;
+    }
+
+    private void reject(OrderColumns block, int row, LocalDateTime now) throws Exception {
+        OrderInputDto item = block.toInput(row);
+        String error = orderValidator.validate(item, now);
+        if (error == null) {
+            // 두 검사는 같은 규칙에서 컴파일되므로 여기 오면 컬럼 변환과 DTO 변환이 서로 다르게 읽은 것이다
+            throw new IllegalStateException("컬럼 검사와 행 검사 결과가 다릅니다: " + item.getOrderId());
+        }
+        log.debug("데이터 유효성 검증 실패 - Order ID: {}, 이유: {}", item.getOrderId(), error);
+        markInvalid(item, error);
+        rejectedOrderSink.reject(item);
+    }
+
+    private void markInvalid(OrderInputDto item, String errorMessage) {
+        item.setValid(false);
+        item.setErrorMessage(errorMessage);
+    }
+
+}
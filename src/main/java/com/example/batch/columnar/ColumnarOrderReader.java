@@ -0,0 +1,138 @@
+package com.example.batch.columnar;
+
+import com.example.batch.reader.ByteLineReader;
+import com.example.batch.reader.InputCompression;
+import com.example.batch.reader.OrderCsvTokenizer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamSupport;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 주문 CSV를 블록 단위로 읽어 {@link OrderColumns}에 채우는 리더. 줄마다 DTO를 만들지 않고
+ * {@link OrderCsvTokenizer#mapColumns}로 바이트에서 바로 컬럼 배열에 옮긴다.
+ * 블록과 이름 사전은 Step 동안 한 번만 만들어 재사용한다. 사전은 batch.dimension.cache-size를 넘으면 블록 사이에서 비운다.
+ * 재시작 위치 저장 형식은 {@link com.example.batch.reader.OrderItemReader}와 같다(byte.offset / line.number).
+ */
+@Slf4j
+public class ColumnarOrderReader extends ItemStreamSupport {
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private static final String BYTE_OFFSET_KEY = "byte.offset";
+    private static final String LINE_NUMBER_KEY = "line.number";
+
+    private final String filePath;
+    private final int blockSize;
+    private final int maxDictionarySize;
+
+    private ByteLineReader lineReader;
+    private OrderCsvTokenizer tokenizer;
+    private OrderColumns block;
+    private long lineNumber;
+
+    /**
+     * @param blockSize         블록 하나(= 트랜잭션 하나)의 최대 행 수
+     * @param maxDictionarySize 고객명/상품명 사전 크기 상한
+     */
+    public ColumnarOrderReader(String filePath, int blockSize, int maxDictionarySize) {
+        this.filePath = filePath;
+        this.blockSize = blockSize;
+        this.maxDictionarySize = maxDictionarySize;
+        setName("columnarOrderReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        Path path = Paths.get(filePath);
+        if (!Files.exists(path)) {
+            throw new IllegalArgumentException("파일이 존재하지 않습니다: " + filePath);
+        }
+
+        try {
+            InputCompression compression = InputCompression.of(filePath);
+            lineReader = compression.isCompressed()
+                    ? new ByteLineReader(compression.open(path), BUFFER_SIZE)
+                    : new ByteLineReader(FileChannel.open(path, StandardOpenOption.READ), BUFFER_SIZE);
+            tokenizer = new OrderCsvTokenizer();
+            tokenizer.readHeader(readHeader());
+            block = new OrderColumns(blockSize, new NameDictionary(), new NameDictionary(), tokenizer);
+
+            if (executionContext.containsKey(getExecutionContextKey(BYTE_OFFSET_KEY))) {
+                long offset = executionContext.getLong(getExecutionContextKey(BYTE_OFFSET_KEY));
+                lineNumber = executionContext.getLong(getExecutionContextKey(LINE_NUMBER_KEY));
+                lineReader.seek(offset);
+                log.info("CSV 파일 재시작: {} (offset={}, line={})", filePath, offset, lineNumber);
+            } else {
+                log.info("CSV 파일 읽기 시작: {} (columnar, 블록 {}행)", filePath, blockSize);
+            }
+        } catch (IOException e) {
+            close();
+            throw new ItemStreamException("CSV 파일을 열 수 없습니다: " + filePath, e);
+        }
+    }
+
+    /**
+     * 다음 블록을 채운다. 같은 블록 인스턴스를 매번 비우고 다시 채워 돌려준다.
+     *
+     * @return 더 읽을 줄이 없으면 null
+     */
+    public OrderColumns read() throws IOException {
+        block.clear();
+        if (block.customers().size() > maxDictionarySize) {
+            block.customers().clear();
+        }
+        if (block.products().size() > maxDictionarySize) {
+            block.products().clear();
+        }
+
+        while (!block.isFull() && lineReader.readLine()) {
+            lineNumber++;
+            if (lineReader.lineLength() == 0) {
+                continue;  // 빈 줄은 건너뜀
+            }
+            tokenizer.mapColumns(lineReader.line(), lineReader.lineLength(), block);
+        }
+        return block.size() > 0 ? block : null;
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (lineReader != null) {
+            executionContext.putLong(getExecutionContextKey(BYTE_OFFSET_KEY), lineReader.position());
+            executionContext.putLong(getExecutionContextKey(LINE_NUMBER_KEY), lineNumber);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (lineReader != null) {
+            try {
+                lineReader.close();
+            } catch (IOException e) {
+                throw new ItemStreamException("CSV 파일을 닫을 수 없습니다: " + filePath, e);
+            } finally {
+                lineReader = null;
+                block = null;
+            }
+        }
+        super.close();
+    }
+
+    private String readHeader() throws IOException {
+        if (!lineReader.readLine()) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다: " + filePath);
+        }
+        lineNumber = 1;
+        String header = lineReader.lineAsString();
+        return header.startsWith("\uFEFF") ? header.substring(1) : header;
+    }
+
+}
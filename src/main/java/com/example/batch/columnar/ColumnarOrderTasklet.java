@@ -0,0 +1,100 @@
+package com.example.batch.columnar;
+
+import com.example.batch.jfr.ChunkWriteEvent;
+import com.example.batch.metrics.OrderBatchMetrics;
+import com.example.batch.validation.ChunkClock;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * columnar 모드 Step의 Tasklet. 호출 한 번(= 트랜잭션 하나)에 블록 하나를 읽고, 처리하고, 쓴다.
+ * 청크 지향 Step처럼 StepContribution에 읽기/필터/쓰기 건수를 행 단위로 반영하므로 StepExecution의 카운트 의미는 같다.
+ * 아이템 단위 스킵은 없다: 쓰기 오류는 블록 트랜잭션을 롤백하고 Step을 실패시키며, 재시작하면 마지막으로 커밋된 블록 다음부터 읽는다.
+ * Writer 순서와 이유는 {@link com.example.batch.writer.CompositeOrderWriter}와 같다.
+ * order.batch.process / write 타이머는 아이템이 아니라 블록 단위로 기록된다.
+ */
+public class ColumnarOrderTasklet implements Tasklet {
+
+    private final ColumnarOrderReader reader;
+    private final ColumnarOrderProcessor processor;
+    private final ChunkClock chunkClock;
+    private final OrderBatchMetrics metrics;
+    private final Map<String, OrderColumnsWriter> writers;
+
+    private List<Timer> writeTimers;
+    private Timer processTimer;
+
+    /**
+     * @param writers 실행 순서대로 writer 이름(order.batch.write의 writer 태그) → Writer
+     */
+    public ColumnarOrderTasklet(ColumnarOrderReader reader, ColumnarOrderProcessor processor, ChunkClock chunkClock,
+                                OrderBatchMetrics metrics, LinkedHashMap<String, OrderColumnsWriter> writers) {
+        this.reader = reader;
+        this.processor = processor;
+        this.chunkClock = chunkClock;
+        this.metrics = metrics;
+        this.writers = writers;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        OrderColumns block = reader.read();
+        if (block == null) {
+            return RepeatStatus.FINISHED;
+        }
+        StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+        initTimers(stepExecution);
+
+        int rows = block.size();
+        for (int row = 0; row < rows; row++) {
+            contribution.incrementReadCount();
+        }
+
+        long start = System.nanoTime();
+        int rejected = processor.process(block, chunkClock.now());
+        processTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        contribution.incrementFilterCount(rejected);
+
+        if (block.size() > 0) {
+            write(block, stepExecution.getStepName());
+            contribution.incrementWriteCount(block.size());
+        }
+        return RepeatStatus.CONTINUABLE;
+    }
+
+    private void write(OrderColumns block, String step) throws Exception {
+        int index = 0;
+        for (Map.Entry<String, OrderColumnsWriter> writer : writers.entrySet()) {
+            ChunkWriteEvent event = ChunkWriteEvent.begin(step, writer.getKey(), block.size());
+            long start = System.nanoTime();
+            try {
+                writer.getValue().write(block);
+            } finally {
+                writeTimers.get(index++).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                event.commit();
+            }
+        }
+    }
+
+    private void initTimers(StepExecution stepExecution) {
+        if (processTimer != null) {
+            return;
+        }
+        processTimer = metrics.timer("process", stepExecution);
+        writeTimers = new ArrayList<>(writers.size());
+        for (String name : writers.keySet()) {
+            writeTimers.add(metrics.timer("write", stepExecution, "writer", name));
+        }
+    }
+
+}
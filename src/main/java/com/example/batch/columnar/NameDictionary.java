@@ -0,0 +1,123 @@
+package com.example.batch.columnar;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 고객명/상품명 같은 반복되는 텍스트 컬럼을 정수 코드로 바꾸는 사전.
+ * 줄의 바이트 구간을 그대로 해시/비교하므로 이미 본 이름은 문자열을 다시 만들지 않고, 처음 보는 이름만 한 번 디코딩한다.
+ * 코드별로 차원 테이블 id({@link #id})를 함께 들고 있어 블록마다 같은 이름을 다시 조회하지 않는다.
+ * 한 Step 스레드에서만 쓴다.
+ */
+public class NameDictionary {
+
+    private static final int NONE = -1;
+
+    private byte[][] keys = new byte[256][];
+    private String[] names = new String[256];
+    private int[] hashes = new int[256];
+    private long[] ids = new long[256];
+    private int[] table = newTable(512);
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * bytes[from, to) 구간(UTF-8)의 코드. 처음 보는 이름이면 등록한다.
+     */
+    public int code(byte[] bytes, int from, int to) {
+        int hash = hash(bytes, from, to);
+        int mask = table.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int code = table[slot];
+            if (code == NONE) {
+                return add(slot, hash, Arrays.copyOfRange(bytes, from, to));
+            }
+            if (hashes[code] == hash && Arrays.equals(keys[code], 0, keys[code].length, bytes, from, to)) {
+                return code;
+            }
+        }
+    }
+
+    /**
+     * 따옴표 이스케이프 등으로 이미 디코딩된 이름의 코드.
+     */
+    public int code(String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        return code(bytes, 0, bytes.length);
+    }
+
+    public String name(int code) {
+        return names[code];
+    }
+
+    /**
+     * 차원 테이블 id. 아직 찾지 않았으면 0.
+     */
+    public long id(int code) {
+        return ids[code];
+    }
+
+    public void setId(int code, long id) {
+        ids[code] = id;
+    }
+
+    /**
+     * 블록 사이에서만 호출한다. 코드가 모두 무효가 된다.
+     */
+    public void clear() {
+        Arrays.fill(keys, 0, size, null);
+        Arrays.fill(names, 0, size, null);
+        Arrays.fill(ids, 0, size, 0L);
+        Arrays.fill(table, NONE);
+        size = 0;
+    }
+
+    private int add(int slot, int hash, byte[] key) {
+        if (size == keys.length) {
+            int capacity = size * 2;
+            keys = Arrays.copyOf(keys, capacity);
+            names = Arrays.copyOf(names, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+        }
+        int code = size++;
+        keys[code] = key;
+        names[code] = new String(key, StandardCharsets.UTF_8);
+        hashes[code] = hash;
+        table[slot] = code;
+        if (size * 2 > table.length) {
+            rehash(table.length * 2);
+        }
+        return code;
+    }
+
+    private void rehash(int capacity) {
+        table = newTable(capacity);
+        int mask = capacity - 1;
+        for (int code = 0; code < size; code++) {
+            int slot = hashes[code] & mask;
+            while (table[slot] != NONE) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = code;
+        }
+    }
+
+    private static int[] newTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, NONE);
+        return table;
+    }
+
+    private static int hash(byte[] bytes, int from, int to) {
+        int hash = 1;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+}
@@ -0,0 +1,237 @@
+package com.example.batch.columnar;
+
+import com.example.batch.dto.OrderInputDto;
+import com.example.batch.reader.OrderLineMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * 주문 한 블록(청크)을 컬럼별 배열로 담는 구조(struct-of-arrays). 블록마다 다시 만들지 않고 같은 인스턴스를 채워 쓴다.
+ * <ul>
+ *     <li>quantity는 int[], price/total은 long[], order_date는 epoch 초(UTC 기준 LocalDateTime) long[]</li>
+ *     <li>고객명/상품명은 {@link NameDictionary} 코드(int[])로만 들고, 행마다 문자열을 만들지 않는다</li>
+ *     <li>order_id만 행마다 문자열이다 (중복 검사와 JDBC 바인딩에 필요)</li>
+ * </ul>
+ * 원문 줄도 한 바이트 배열에 이어 붙여 두는데, 검증에 실패한 행만 {@link #toInput}으로 {@link OrderInputDto}를 만들어
+ * 기존 검증 메시지와 거부 파일 형식을 그대로 쓰기 위해서다. 처리 단계에서 유효한 행만 남기도록 압축({@link #moveRow})한 뒤에는
+ * 원문 줄과 행 번호가 맞지 않으므로 쓰지 않는다.
+ */
+public class OrderColumns {
+
+    private static final String PROCESSED_STATUS = "PROCESSED";
+
+    private final int capacity;
+    private final NameDictionary customers;
+    private final NameDictionary products;
+    private final OrderLineMapper lineMapper;
+
+    private final String[] orderIds;
+    private final int[] customerCodes;
+    private final int[] productCodes;
+    private final int[] quantities;
+    private final long[] prices;
+    private final long[] totals;
+    private final long[] orderDates;
+    private final boolean[] parsed;
+
+    private byte[] lines;
+    private final int[] lineStarts;
+    private final int[] lineLengths;
+    private int linesLength;
+
+    private int size;
+    private LocalDateTime processedAt;
+
+    /**
+     * @param lineMapper 원문 줄을 DTO로 다시 변환할 변환기 (헤더를 읽은 상태)
+     */
+    public OrderColumns(int capacity, NameDictionary customers, NameDictionary products, OrderLineMapper lineMapper) {
+        this.capacity = capacity;
+        this.customers = customers;
+        this.products = products;
+        this.lineMapper = lineMapper;
+        this.orderIds = new String[capacity];
+        this.customerCodes = new int[capacity];
+        this.productCodes = new int[capacity];
+        this.quantities = new int[capacity];
+        this.prices = new long[capacity];
+        this.totals = new long[capacity];
+        this.orderDates = new long[capacity];
+        this.parsed = new boolean[capacity];
+        this.lines = new byte[capacity * 96];
+        this.lineStarts = new int[capacity];
+        this.lineLengths = new int[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isFull() {
+        return size == capacity;
+    }
+
+    public void clear() {
+        Arrays.fill(orderIds, 0, size, null);
+        size = 0;
+        linesLength = 0;
+        processedAt = null;
+    }
+
+    /**
+     * 원문 줄을 복사해 새 행을 추가한다. 컬럼 값은 {@link #set}으로 채우며, 채우지 않으면 파싱 실패 행으로 남는다.
+     *
+     * @return 추가된 행 번호
+     */
+    public int append(byte[] line, int length) {
+        if (linesLength + length > lines.length) {
+            lines = Arrays.copyOf(lines, Math.max(lines.length * 2, linesLength + length));
+        }
+        System.arraycopy(line, 0, lines, linesLength, length);
+        int row = size++;
+        lineStarts[row] = linesLength;
+        lineLengths[row] = length;
+        linesLength += length;
+        parsed[row] = false;
+        return row;
+    }
+
+    public void set(int row, String orderId, int customerCode, int productCode, int quantity, long price, long orderDate) {
+        orderIds[row] = orderId;
+        customerCodes[row] = customerCode;
+        productCodes[row] = productCode;
+        quantities[row] = quantity;
+        prices[row] = price;
+        orderDates[row] = orderDate;
+        parsed[row] = true;
+    }
+
+    /**
+     * 모든 컬럼이 값으로 파싱되었는지. false면 컬럼이 빠졌거나 숫자/날짜 형식이 틀린 행이다.
+     */
+    public boolean isParsed(int row) {
+        return parsed[row];
+    }
+
+    /**
+     * 원문 줄을 기존 변환기로 다시 변환한다. 검증 실패 행의 사유/거부 기록에만 쓴다.
+     */
+    public OrderInputDto toInput(int row) throws Exception {
+        int start = lineStarts[row];
+        return lineMapper.map(Arrays.copyOfRange(lines, start, start + lineLengths[row]), lineLengths[row]);
+    }
+
+    /**
+     * from 행의 컬럼 값을 to 행으로 옮긴다 (to ≤ from). 유효한 행을 앞으로 모을 때 쓴다.
+     */
+    public void moveRow(int from, int to) {
+        if (from == to) {
+            return;
+        }
+        orderIds[to] = orderIds[from];
+        customerCodes[to] = customerCodes[from];
+        productCodes[to] = productCodes[from];
+        quantities[to] = quantities[from];
+        prices[to] = prices[from];
+        totals[to] = totals[from];
+        orderDates[to] = orderDates[from];
+        parsed[to] = parsed[from];
+    }
+
+    /**
+     * 앞쪽 size개 행만 남긴다.
+     */
+    public void truncate(int size) {
+        Arrays.fill(orderIds, size, this.size, null);
+        this.size = size;
+    }
+
+    public void setTotal(int row, long total) {
+        totals[row] = total;
+    }
+
+    public void setProcessedAt(LocalDateTime processedAt) {
+        this.processedAt = processedAt;
+    }
+
+    public NameDictionary customers() {
+        return customers;
+    }
+
+    public NameDictionary products() {
+        return products;
+    }
+
+    public String orderId(int row) {
+        return orderIds[row];
+    }
+
+    public int customerCode(int row) {
+        return customerCodes[row];
+    }
+
+    public int productCode(int row) {
+        return productCodes[row];
+    }
+
+    public String customerName(int row) {
+        return customers.name(customerCodes[row]);
+    }
+
+    public String productName(int row) {
+        return products.name(productCodes[row]);
+    }
+
+    public long customerId(int row) {
+        return customers.id(customerCodes[row]);
+    }
+
+    public long productId(int row) {
+        return products.id(productCodes[row]);
+    }
+
+    public int quantity(int row) {
+        return quantities[row];
+    }
+
+    public long price(int row) {
+        return prices[row];
+    }
+
+    public long totalAmount(int row) {
+        return totals[row];
+    }
+
+    public long orderDateEpochSecond(int row) {
+        return orderDates[row];
+    }
+
+    /**
+     * JDBC 바인딩용. 호출할 때마다 새 객체를 만든다.
+     */
+    public LocalDateTime orderDate(int row) {
+        return LocalDateTime.ofEpochSecond(orderDates[row], 0, ZoneOffset.UTC);
+    }
+
+    public LocalDate salesDate(int row) {
+        return LocalDate.ofEpochDay(Math.floorDiv(orderDates[row], 86_400L));
+    }
+
+    /**
+     * 블록의 모든 행이 같은 처리 시각을 갖는다 (청크 시작 시각).
+     */
+    public LocalDateTime processedAt() {
+        return processedAt;
+    }
+
+    /**
+     * 처리 후 블록에 남은 행은 모두 검증과 중복 검사를 통과한 행이다.
+     */
+    public String status() {
+        return PROCESSED_STATUS;
+    }
+
+}
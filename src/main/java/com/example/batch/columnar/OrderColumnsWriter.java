@@ -0,0 +1,12 @@
+package com.example.batch.columnar;
+
+/**
+ * 처리된 {@link OrderColumns} 블록을 쓰는 Writer. 기존 ItemWriter&lt;Order&gt; 구현이 같은 SQL로 블록도 쓸 수 있도록 함께 구현한다.
+ * 블록에는 유효한 행만 앞쪽 size()개에 남아 있다.
+ */
+@FunctionalInterface
+public interface OrderColumnsWriter {
+
+    void write(OrderColumns block) throws Exception;
+
+}
@@ -1,32 +1,82 @@
 package com.example.batch.config;
 
+import com.example.batch.columnar.ColumnarOrderProcessor;
+import com.example.batch.columnar.ColumnarOrderReader;
+import com.example.batch.columnar.ColumnarOrderTasklet;
+import com.example.batch.dedup.DuplicateOrderFilter;
 import com.example.batch.domain.Order;
 import com.example.batch.dto.OrderInputDto;
+import com.example.batch.error.PipelineAbortedException;
+import com.example.batch.jfr.ChunkEventListener;
+import com.example.batch.jfr.JfrRecordingListener;
 import com.example.batch.listener.JobCompletionNotificationListener;
 import com.example.batch.listener.StepExecuteListener;
+import com.example.batch.metrics.OrderBatchMetrics;
+import com.example.batch.metrics.StepMetricsListener;
+import com.example.batch.metrics.TimedItemProcessor;
+import com.example.batch.partition.DatabasePartitionHandler;
+import com.example.batch.partition.OrderFilePartitioner;
+import com.example.batch.partition.PartitionWorkRepository;
+import com.example.batch.partition.PartitionWorker;
+import com.example.batch.pipeline.PipelinedOrderReader;
+import com.example.batch.pipeline.StagedOrder;
+import com.example.batch.pipeline.StagedOrderProcessor;
+import com.example.batch.policy.AdaptiveChunkCompletionPolicy;
 import com.example.batch.processor.OrderItemProcessor;
+import com.example.batch.reader.OpenCsvOrderLineMapper;
+import com.example.batch.reader.OrderCsvTokenizer;
 import com.example.batch.reader.OrderItemReader;
+import com.example.batch.reader.OrderLineMapper;
+import com.example.batch.report.OrderReportAccumulator;
+import com.example.batch.validation.ChunkClock;
+import com.example.batch.validation.DryRunValidationTasklet;
+import com.example.batch.validation.OrderValidator;
+import com.example.batch.validation.ValidationRuleProperties;
 import com.example.batch.writer.CompositeOrderWriter;
+import com.example.batch.writer.RejectedOrderSink;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.SkipListener;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.core.job.builder.JobBuilder;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.FaultTolerantStepBuilder;
 import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.integration.async.AsyncItemProcessor;
+import org.springframework.batch.integration.async.AsyncItemWriter;
 import org.springframework.batch.item.support.CompositeItemProcessor;
 import org.springframework.batch.item.support.builder.CompositeItemProcessorBuilder;
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.interceptor.DefaultTransactionAttribute;
+import org.springframework.transaction.interceptor.TransactionAttribute;
 
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Slf4j
 @Configuration
 @RequiredArgsConstructor
+@EnableConfigurationProperties(ValidationRuleProperties.class)
 public class BatchConfig {
 
     private final JobRepository jobRepository;
@@ -35,36 +85,381 @@ public class BatchConfig {
     private final CompositeOrderWriter compositeOrderWriter;
     private final JobCompletionNotificationListener jobCompletionListener;
     private final StepExecuteListener stepExecuteListener;
+    private final RejectedOrderSink rejectedOrderSink;
+    private final OrderReportAccumulator orderReportAccumulator;
+    private final DuplicateOrderFilter duplicateOrderFilter;
+    private final StepMetricsListener stepMetricsListener;
+    private final OrderBatchMetrics orderBatchMetrics;
+    private final ChunkClock chunkClock;
+    private final JobExplorer jobExplorer;
+    private final PartitionWorkRepository partitionWorkRepository;
+    private final PartitionWorker partitionWorker;
+    private final OrderValidator orderValidator;
+    private final ChunkEventListener chunkEventListener;
+    private final JfrRecordingListener jfrRecordingListener;
+    private final ColumnarOrderProcessor columnarOrderProcessor;
+
+    @Value("${batch.partition.grid-size:8}")
+    private int gridSize;
+
+    @Value("${batch.partition.threads:8}")
+    private int partitionThreads;
+
+    @Value("${batch.distributed.poll-interval-ms:1000}")
+    private long distributedPollIntervalMs;
+
+    @Value("${batch.distributed.timeout-ms:0}")
+    private long distributedTimeoutMs;
+
+    @Value("${batch.dry-run.parallelism:0}")
+    private int dryRunParallelism;
+
+    @Value("${batch.dry-run.sample-size:5}")
+    private int dryRunSampleSize;
+
+    @Value("${batch.reject.dir:rejects}")
+    private String rejectDir;
+
+    @Value("${batch.reject.max-ratio:0.05}")
+    private double maxRejectRatio;
+
+    @Value("${batch.chunk.initial-size:100}")
+    private int chunkInitialSize;
+
+    @Value("${batch.chunk.min-size:10}")
+    private int chunkMinSize;
+
+    @Value("${batch.chunk.max-size:5000}")
+    private int chunkMaxSize;
+
+    @Value("${batch.chunk.target-latency-ms:1000}")
+    private long chunkTargetLatencyMs;
+
+    @Value("${batch.async.threads:8}")
+    private int asyncThreads;
+
+    @Value("${batch.async.queue-capacity:1000}")
+    private int asyncQueueCapacity;
+
+    @Value("${batch.async.virtual-threads:false}")
+    private boolean asyncVirtualThreads;
+
+    @Value("${batch.pipeline.workers:4}")
+    private int pipelineWorkers;
+
+    @Value("${batch.pipeline.buffer-size:4096}")
+    private int pipelineBufferSize;
+
+    @Value("${batch.columnar.block-size:2000}")
+    private int columnarBlockSize;
+
+    @Value("${batch.dimension.cache-size:100000}")
+    private int dimensionCacheSize;
 
     @Bean
     @StepScope  // Job 실행시마다 새로운 빈 생성
     public OrderItemReader orderItemReader(
+            @Value("#{jobParameters['inputFile']}") String inputFile,
+            @Value("${batch.reader.parser:opencsv}") String parser,
+            @Value("#{stepExecutionContext['startOffset']}") Long startOffset,
+            @Value("#{stepExecutionContext['endOffset']}") Long endOffset) {
+        OrderItemReader reader = new OrderItemReader(inputFile, orderLineMapper(parser));
+        if (startOffset != null && endOffset != null) {
+            reader.setRange(startOffset, endOffset);  // 파티션 워커로 실행될 때만 구간 지정
+        }
+        return reader;
+    }
+
+    @Bean
+    @StepScope
+    public OrderFilePartitioner orderFilePartitioner(
             @Value("#{jobParameters['inputFile']}") String inputFile) {
-        return new OrderItemReader(inputFile);
+        return new OrderFilePartitioner(inputFile);
     }
 
     @Bean
     public Job processOrderJob() {
+        ExecutionModeDecider modeDecider = new ExecutionModeDecider();
         return new JobBuilder("processOrderJob", jobRepository)
-                .start(processOrderStep())
+                .start(modeDecider)
+                    .on(ExecutionMode.PARTITIONED.name()).to(processOrderManagerStep())
+                .from(modeDecider)
+                    .on(ExecutionMode.ASYNC.name()).to(processOrderAsyncStep())
+                .from(modeDecider)
+                    .on(ExecutionMode.DISTRIBUTED.name()).to(processOrderDistributedManagerStep())
+                .from(modeDecider)
+                    .on(ExecutionMode.DRY_RUN.name()).to(dryRunValidationStep())
+                .from(modeDecider)
+                    .on(ExecutionMode.PIPELINED.name()).to(processOrderPipelinedStep())
+                .from(modeDecider)
+                    .on(ExecutionMode.COLUMNAR.name()).to(processOrderColumnarStep())
+                .from(modeDecider)
+                    .on("*").to(processOrderStep())
+                .end()
                 .listener(jobCompletionListener)
+                .listener(duplicateOrderFilter)
+                .listener(jfrRecordingListener)  // batch.jfr.enabled=true일 때 실행 동안 JFR 기록
+                .build();
+    }
+
+    @Bean
+    public Step processOrderManagerStep() {
+        return new StepBuilder("processOrderManagerStep", jobRepository)
+                .partitioner("processOrderStep", orderFilePartitioner(null))
+                .step(processOrderStep())  // 워커 Step: 파티션마다 별도의 StepExecution으로 실행
+                .gridSize(gridSize)
+                .taskExecutor(partitionTaskExecutor())
+                .listener(stepExecuteListener)  // 워커들의 읽기/쓰기/스킵 카운트가 합산되어 전달됨
+                .build();
+    }
+
+    /**
+     * 파티션을 batch_partition_work 테이블에 게시하고 여러 JVM의 워커가 나누어 실행하게 하는 manager Step.
+     * 워커 JVM은 batch.job=worker로 실행하며, 입력 파일은 모든 노드에서 같은 경로로 읽을 수 있어야 한다.
+     */
+    @Bean
+    public Step processOrderDistributedManagerStep() {
+        return new StepBuilder("processOrderDistributedManagerStep", jobRepository)
+                .partitioner("processOrderStep", orderFilePartitioner(null))
+                .partitionHandler(databasePartitionHandler())
+                .listener(stepExecuteListener)
+                .build();
+    }
+
+    @Bean
+    public DatabasePartitionHandler databasePartitionHandler() {
+        DatabasePartitionHandler handler = new DatabasePartitionHandler(partitionWorkRepository, partitionWorker,
+                jobExplorer, "processOrderStep",
+                Duration.ofMillis(distributedPollIntervalMs), Duration.ofMillis(distributedTimeoutMs));
+        handler.setGridSize(gridSize);
+        return handler;
+    }
+
+    /**
+     * 검증만 병렬로 실행하는 Step. 트랜잭션 자원이 필요 없으므로 DB 커넥션을 잡지 않는다.
+     * 읽기 카운트와 필터(거부) 카운트만 기록되므로 StepExecuteListener는 붙이지 않는다.
+     */
+    @Bean
+    public Step dryRunValidationStep() {
+        return new StepBuilder("dryRunValidationStep", jobRepository)
+                .tasklet(dryRunValidationTasklet(null, null), new ResourcelessTransactionManager())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public DryRunValidationTasklet dryRunValidationTasklet(
+            @Value("#{jobParameters['inputFile']}") String inputFile,
+            @Value("${batch.reader.parser:opencsv}") String parser) {
+        return new DryRunValidationTasklet(inputFile, () -> orderLineMapper(parser), orderValidator,
+                dryRunParallelism, dryRunSampleSize, rejectDir, maxRejectRatio);
+    }
+
+    @Bean
+    public TaskExecutor partitionTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(partitionThreads);
+        executor.setMaxPoolSize(partitionThreads);
+        executor.setThreadNamePrefix("partition-");
+        executor.setDaemon(true);  // 배치 종료 후 JVM이 유휴 워커 스레드 때문에 남아있지 않도록
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 청크 크기를 측정된 커밋 지연 시간에 맞춰 조절하는 정책. Step 실행마다 별도 인스턴스가 필요하다.
+     */
+    @Bean
+    @StepScope
+    public AdaptiveChunkCompletionPolicy chunkCompletionPolicy() {
+        return new AdaptiveChunkCompletionPolicy(chunkInitialSize, chunkMinSize, chunkMaxSize,
+                Duration.ofMillis(chunkTargetLatencyMs));
+    }
+
+    /**
+     * 청크(블록) 트랜잭션 속성. READ COMMITTED로 실행해 DailySalesRollupWriter의 FOR UPDATE가 이미 있는 orders 행만 잠그고
+     * 아직 없는 order_id 구간에는 갭 잠금을 걸지 않게 한다. REPEATABLE READ에서는 동시에 실행되는 청크(파티션, distributed,
+     * inbox 동시 실행)가 서로 잠근 갭에 INSERT하면서 교착이 난다. 롤백 조건은 TaskletStep 기본값(모든 예외)과 같다.
+     */
+    private TransactionAttribute chunkTransactionAttribute() {
+        DefaultTransactionAttribute attribute = new DefaultTransactionAttribute() {
+            @Override
+            public boolean rollbackOn(Throwable ex) {
+                return true;
+            }
+        };
+        attribute.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        return attribute;
+    }
+
+    /**
+     * chunk / async / pipelined Step에 공통인 스킵/재시도 정책, 트랜잭션 속성, 스트림, 리스너를 붙인다.
+     * 리스너 순서가 곧 호출 순서이므로 세 Step이 같은 순서를 쓰도록 한곳에 둔다.
+     */
+    private <I, O> Step orderChunkStep(FaultTolerantStepBuilder<I, O> builder, AdaptiveChunkCompletionPolicy chunkPolicy) {
+        return builder
+                .skip(Exception.class)
+                .skipLimit(10)  // 검증 실패는 스킵이 아닌 필터링으로 처리되므로 읽기/쓰기 오류에만 적용
+                .retry(PessimisticLockingFailureException.class)  // 교착/잠금 대기 시간 초과는 청크를 다시 시도
+                .retryLimit(3)
+                .noSkip(PessimisticLockingFailureException.class)  // 재시도 후에도 실패하면 주문을 버리지 않고 Step 실패
+                .transactionAttribute(chunkTransactionAttribute())
+                .stream(chunkPolicy)
+                .stream(rejectedOrderSink)
+                .listener((ChunkListener) chunkClock)  // 청크마다 현재 시각을 한 번만 읽음
+                .listener((ChunkListener) chunkPolicy)
+                .listener((ItemReadListener<Object>) chunkPolicy)
+                .listener((ItemProcessListener<Object, Object>) chunkPolicy)
+                .listener((ItemWriteListener<Object>) chunkPolicy)
+                .listener((ChunkListener) rejectedOrderSink)  // 검증 실패 건은 청크 커밋 직전에 거부 파일/테이블에 기록
+                .listener((StepExecutionListener) rejectedOrderSink)
+                .listener((ChunkListener) orderReportAccumulator)  // 커밋된 청크만 리포트 집계에 반영
+                .listener((ChunkListener) duplicateOrderFilter)  // 롤백된 청크의 order_id는 중복 검사에서 되돌림
+                .listener((StepExecutionListener) stepMetricsListener)  // 읽기/청크/커밋/스킵 지표
+                .listener((ChunkListener) stepMetricsListener)
+                .listener((ItemReadListener<Object>) stepMetricsListener)
+                .listener((ItemWriteListener<Object>) stepMetricsListener)
+                .listener((SkipListener<Object, Object>) stepMetricsListener)
+                .listener((ChunkListener) chunkEventListener)  // 청크 단계별 JFR 이벤트
+                .listener((ItemReadListener<Object>) chunkEventListener)
+                .listener((ItemProcessListener<Object, Object>) chunkEventListener)
+                .listener((ItemWriteListener<Object>) chunkEventListener)
+                .listener(stepExecuteListener)
                 .build();
     }
 
     @Bean
     public Step processOrderStep() {
-        return new StepBuilder("processOrderStep", jobRepository)
-                .<OrderInputDto, Order>chunk(10, transactionManager) // 청크 사이즈 10으로 줄임 (테스트용)
-                .reader(orderItemReader(null))  // 런타임에 주입됨
+        AdaptiveChunkCompletionPolicy chunkPolicy = chunkCompletionPolicy();
+        return orderChunkStep(new StepBuilder("processOrderStep", jobRepository)
+                .<OrderInputDto, Order>chunk(chunkPolicy, transactionManager)
+                .reader(orderItemReader(null, null, null, null))  // 런타임에 주입됨
                 .processor(compositeItemProcessor())
                 .writer(compositeOrderWriter.compositeWriter())  // Composite Writer 사용
+                .faultTolerant(), chunkPolicy);
+    }
+
+    /**
+     * 처리(검증/변환)를 별도 스레드 풀에서 수행하는 Step.
+     * 리더가 다음 아이템을 읽는 동안 앞선 아이템들의 처리가 병렬로 진행되고,
+     * AsyncItemWriter가 읽은 순서대로 Future를 기다려 기존 Composite Writer에 넘긴다.
+     * 처리 중 발생한 예외는 쓰기 단계에서 드러나므로 스킵은 write skip으로 집계된다.
+     * 검증 실패 건은 AsyncItemWriter가 버리는 null 결과이므로 filter count에는 잡히지 않고 거부 파일에만 남는다.
+     */
+    @Bean
+    public Step processOrderAsyncStep() {
+        AdaptiveChunkCompletionPolicy chunkPolicy = chunkCompletionPolicy();
+        return orderChunkStep(new StepBuilder("processOrderAsyncStep", jobRepository)
+                .<OrderInputDto, Future<Order>>chunk(chunkPolicy, transactionManager)
+                .reader(orderItemReader(null, null, null, null))
+                .processor(asyncItemProcessor())
+                .writer(asyncItemWriter())
+                .faultTolerant(), chunkPolicy);
+    }
+
+    /**
+     * 읽기 / 검증·변환 / 쓰기를 링 버퍼로 이어 서로 다른 스레드에서 동시에 진행하는 Step.
+     * 리더가 파일 순서대로 돌려주는 결과는 이미 검증/변환이 끝난 상태이고, Step 스레드는 중복 검사와 거부 기록,
+     * 청크 쓰기와 커밋만 한다. 매핑 실패는 read skip, 검증 중 예외는 process skip으로 기존 Step과 같게 집계된다.
+     */
+    @Bean
+    public Step processOrderPipelinedStep() {
+        AdaptiveChunkCompletionPolicy chunkPolicy = chunkCompletionPolicy();
+        return orderChunkStep(new StepBuilder("processOrderPipelinedStep", jobRepository)
+                .<StagedOrder, Order>chunk(chunkPolicy, transactionManager)
+                .reader(pipelinedOrderReader(null, null))
+                .processor(new TimedItemProcessor<>(new StagedOrderProcessor(orderItemProcessor, chunkClock), orderBatchMetrics))
+                .writer(compositeOrderWriter.compositeWriter())
                 .faultTolerant()
-                .skip(Exception.class)
-                .skipLimit(10)  // 스킵 제한을 10으로 줄임 (테스트용)
+                .noSkip(PipelineAbortedException.class), chunkPolicy);  // 읽기/처리 스레드 실패는 Step 실패
+    }
+
+    @Bean
+    @StepScope
+    public PipelinedOrderReader pipelinedOrderReader(
+            @Value("#{jobParameters['inputFile']}") String inputFile,
+            @Value("${batch.reader.parser:opencsv}") String parser) {
+        return new PipelinedOrderReader(inputFile, () -> orderLineMapper(parser), orderItemProcessor,
+                chunkClock::now, orderBatchMetrics, pipelineWorkers, pipelineBufferSize);
+    }
+
+    /**
+     * 블록(batch.columnar.block-size행)마다 트랜잭션 하나로 읽기 / 검증 / 쓰기를 하는 Step.
+     * 청크 지향 Step이 아니므로 리스너는 청크/Step 단위만 붙고, 아이템 단위 스킵 없이 오류는 Step 실패로 끝난다.
+     * 검증 실패/중복은 기존과 같이 필터 카운트와 거부 파일로 처리된다.
+     */
+    @Bean
+    public Step processOrderColumnarStep() {
+        return new StepBuilder("processOrderColumnarStep", jobRepository)
+                .tasklet(columnarOrderTasklet(null), transactionManager)
+                .transactionAttribute(chunkTransactionAttribute())
+                .stream(columnarOrderReader(null))
+                .stream(rejectedOrderSink)
+                .stream(orderReportAccumulator)  // 청크 Step에서는 Composite Writer가 열어 주던 스트림
+                .listener((ChunkListener) chunkClock)  // 블록마다 현재 시각을 한 번만 읽음
+                .listener((ChunkListener) rejectedOrderSink)  // 검증 실패 건은 청크 커밋 직전에 거부 파일/테이블에 기록
+                .listener((StepExecutionListener) rejectedOrderSink)
+                .listener((ChunkListener) orderReportAccumulator)  // 커밋된 블록만 리포트 집계에 반영
+                .listener((ChunkListener) duplicateOrderFilter)  // 롤백된 블록의 order_id는 중복 검사에서 되돌림
+                .listener((StepExecutionListener) stepMetricsListener)
+                .listener((ChunkListener) stepMetricsListener)
+                .listener((ChunkListener) chunkEventListener)  // 블록 단위 JFR 청크 이벤트
                 .listener(stepExecuteListener)
                 .build();
     }
 
+    @Bean
+    @StepScope
+    public ColumnarOrderReader columnarOrderReader(
+            @Value("#{jobParameters['inputFile']}") String inputFile) {
+        return new ColumnarOrderReader(inputFile, columnarBlockSize, dimensionCacheSize);
+    }
+
+    @Bean
+    @StepScope
+    public ColumnarOrderTasklet columnarOrderTasklet(
+            @Value("#{jobParameters['inputFile']}") String inputFile) {
+        return new ColumnarOrderTasklet(columnarOrderReader(inputFile), columnarOrderProcessor, chunkClock,
+                orderBatchMetrics, compositeOrderWriter.columnarWriters());
+    }
+
+    @Bean
+    public AsyncItemProcessor<OrderInputDto, Order> asyncItemProcessor() {
+        AsyncItemProcessor<OrderInputDto, Order> processor = new AsyncItemProcessor<>();
+        processor.setDelegate(compositeItemProcessor());
+        processor.setTaskExecutor(asyncTaskExecutor());
+        return processor;
+    }
+
+    @Bean(destroyMethod = "")  // close는 Step이 호출한다 (CompositeOrderWriter 참고)
+    public AsyncItemWriter<Order> asyncItemWriter() {
+        AsyncItemWriter<Order> writer = new AsyncItemWriter<>();
+        writer.setDelegate(compositeOrderWriter.compositeWriter());
+        return writer;
+    }
+
+    @Bean
+    public TaskExecutor asyncTaskExecutor() {
+        if (asyncVirtualThreads) {
+            // JDK 21 이상에서만 사용 가능. 동시 실행 수는 threads 값으로 제한
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("async-process-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(asyncThreads);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(asyncThreads);
+        executor.setMaxPoolSize(asyncThreads);
+        executor.setQueueCapacity(asyncQueueCapacity);
+        // 큐가 가득 차면 리더 스레드가 직접 처리하여 자연스럽게 읽기 속도를 늦춘다
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setThreadNamePrefix("async-process-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
     @Bean
     public Step reportStep() {
         return new StepBuilder("reportStep", jobRepository)
@@ -77,10 +472,18 @@ public class BatchConfig {
                 .build();
     }
 
+    private OrderLineMapper orderLineMapper(String parser) {
+        // fast: 리플렉션 없는 바이트 토크나이저, opencsv: @CsvBindByName 바인딩
+        if ("fast".equalsIgnoreCase(parser)) {
+            return new OrderCsvTokenizer();
+        }
+        return new OpenCsvOrderLineMapper();
+    }
+
     @Bean
     public CompositeItemProcessor<OrderInputDto, Order> compositeItemProcessor() {
         return new CompositeItemProcessorBuilder<OrderInputDto, Order>()
-                .delegates(Arrays.asList(orderItemProcessor))
+                .delegates(Arrays.asList(new TimedItemProcessor<>(orderItemProcessor, orderBatchMetrics)))
                 .build();
     }
 
@@ -0,0 +1,36 @@
+package com.example.batch.config;
+
+/**
+ * processOrderJob의 실행 방식. Job 파라미터 {@code mode}로 선택한다.
+ */
+public enum ExecutionMode {
+
+    /** 단일 스레드 청크 처리 (기본값) */
+    CHUNK,
+
+    /** 입력 파일을 바이트 구간으로 나누어 여러 스레드에서 처리 */
+    PARTITIONED,
+
+    /** 검증/변환을 별도 스레드 풀에서 병렬 처리 (AsyncItemProcessor/AsyncItemWriter) */
+    ASYNC,
+
+    /** 바이트 구간 파티션을 DB 작업 테이블에 게시하고 같은 DB를 쓰는 여러 JVM이 나누어 처리 */
+    DISTRIBUTED,
+
+    /** DB에 쓰지 않고 파일 구간을 병렬로 검증만 해서 거부 사유별 건수와 예시 행을 보고 */
+    DRY_RUN,
+
+    /** 읽기 스레드 → 검증/변환 스레드 N개 → Step 스레드(쓰기)를 링 버퍼로 이어 단계별로 동시에 처리 */
+    PIPELINED,
+
+    /** 블록 하나를 컬럼별 기본형 배열로 읽고 검증/쓰기까지 배열 위에서 처리 (행마다 DTO/Order를 만들지 않음) */
+    COLUMNAR;
+
+    public static ExecutionMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return CHUNK;
+        }
+        return valueOf(value.trim().replace('-', '_').toUpperCase());
+    }
+
+}
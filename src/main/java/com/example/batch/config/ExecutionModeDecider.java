@@ -0,0 +1,24 @@
+package com.example.batch.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+
+/**
+ * Job 파라미터 {@code mode}를 읽어 실행할 Step 흐름을 고른다.
+ */
+@Slf4j
+public class ExecutionModeDecider implements JobExecutionDecider {
+
+    public static final String MODE_PARAMETER = "mode";
+
+    @Override
+    public FlowExecutionStatus decide(JobExecution jobExecution, StepExecution stepExecution) {
+        ExecutionMode mode = ExecutionMode.from(jobExecution.getJobParameters().getString(MODE_PARAMETER));
+        log.info("### 실행 모드: {}", mode);
+        return new FlowExecutionStatus(mode.name());
+    }
+
+}
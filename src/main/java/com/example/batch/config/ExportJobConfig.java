@@ -0,0 +1,134 @@
+package com.example.batch.config;
+
+import com.example.batch.domain.ProcessedOrder;
+import com.example.batch.listener.StepExecuteListener;
+import com.example.batch.metrics.StepMetricsListener;
+import com.example.batch.writer.ProcessedOrderCsvExportWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcCursorItemReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * processed_orders를 주문일 기간으로 조회해 CSV(.gz)로 내보내는 exportProcessedOrdersJob.
+ * 고객명/상품명은 customers / products 차원 테이블과 조인해 채운다.
+ * 서버 측 커서로 한 행씩 읽고 청크 단위로 파일에 쓰므로 내보내는 행 수와 무관하게 힙 사용량이 일정하다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ExportJobConfig {
+
+    private static final String EXPORT_SQL = """
+            SELECT o.id, o.original_order_id, o.customer_id, o.product_id, c.name, p.name,
+                   o.quantity, o.price, o.total_amount, o.order_date, o.status, o.processed_at, o.processing_result
+            FROM processed_orders o
+            JOIN customers c ON c.id = o.customer_id
+            JOIN products p ON p.id = o.product_id
+            WHERE o.order_date >= ? AND o.order_date < ? AND o.id > ?
+            ORDER BY o.id
+            """;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final StepExecuteListener stepExecuteListener;
+    private final StepMetricsListener stepMetricsListener;
+
+    @Value("${batch.export.chunk-size:5000}")
+    private int chunkSize;
+
+    @Bean
+    public Job exportProcessedOrdersJob() {
+        return new JobBuilder("exportProcessedOrdersJob", jobRepository)
+                .start(exportProcessedOrdersStep())
+                .build();
+    }
+
+    @Bean
+    public Step exportProcessedOrdersStep() {
+        ProcessedOrderCsvExportWriter writer = processedOrderExportWriter(null);
+        return new StepBuilder("exportProcessedOrdersStep", jobRepository)
+                .<ProcessedOrder, ProcessedOrder>chunk(chunkSize, transactionManager)
+                .reader(processedOrderExportReader(null, null, null, null, null))  // 런타임에 주입됨
+                .writer(writer)
+                .listener((StepExecutionListener) stepMetricsListener)
+                .listener((ChunkListener) stepMetricsListener)
+                .listener((ItemReadListener<Object>) stepMetricsListener)
+                .listener((ItemWriteListener<Object>) stepMetricsListener)
+                .listener(stepExecuteListener)
+                .build();
+    }
+
+    /**
+     * MySQL은 fetchSize가 Integer.MIN_VALUE일 때만 결과를 한 행씩 스트리밍한다(그 외에는 전체를 메모리에 적재).
+     * 스트리밍 결과셋은 현재 행 번호를 지원하지 않으므로 커서 위치 검증을 끄고,
+     * 재시작 위치는 건수 대신 Writer가 커밋한 마지막 id(id > ?)로 찾는다.
+     */
+    @Bean
+    @StepScope
+    public JdbcCursorItemReader<ProcessedOrder> processedOrderExportReader(
+            DataSource dataSource,
+            @Value("#{jobParameters['from']}") String from,
+            @Value("#{jobParameters['to']}") String to,
+            @Value("#{stepExecutionContext['processedOrderCsvExportWriter." + ProcessedOrderCsvExportWriter.LAST_ID_KEY + "']}") Long lastId,
+            @Value("${batch.export.fetch-size:-2147483648}") Integer fetchSize) {
+        LocalDateTime fromTime = LocalDate.parse(from).atStartOfDay();
+        LocalDateTime toTime = LocalDate.parse(to).plusDays(1).atStartOfDay();  // to 날짜 포함
+
+        JdbcCursorItemReader<ProcessedOrder> reader = new JdbcCursorItemReader<>();
+        reader.setName("processedOrderExportReader");
+        reader.setDataSource(dataSource);
+        reader.setSql(EXPORT_SQL);
+        reader.setPreparedStatementSetter(ps -> {
+            ps.setObject(1, fromTime);
+            ps.setObject(2, toTime);
+            ps.setLong(3, lastId == null ? 0 : lastId);
+        });
+        reader.setRowMapper(processedOrderRowMapper());
+        reader.setFetchSize(fetchSize);
+        reader.setVerifyCursorPosition(false);
+        reader.setSaveState(false);
+        return reader;
+    }
+
+    @Bean
+    @StepScope
+    public ProcessedOrderCsvExportWriter processedOrderExportWriter(
+            @Value("#{jobParameters['outputFile']}") String outputFile) {
+        return new ProcessedOrderCsvExportWriter(outputFile);
+    }
+
+    private static RowMapper<ProcessedOrder> processedOrderRowMapper() {
+        return (rs, rowNum) -> new ProcessedOrder(
+                rs.getLong(1),
+                rs.getString(2),
+                rs.getLong(3),
+                rs.getLong(4),
+                rs.getString(5),
+                rs.getString(6),
+                rs.getInt(7),
+                rs.getLong(8),
+                rs.getLong(9),
+                rs.getObject(10, LocalDateTime.class),
+                rs.getString(11),
+                rs.getObject(12, LocalDateTime.class),
+                rs.getString(13));
+    }
+
+}
@@ -1,17 +1,104 @@
 package com.example.batch.config;
 
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import javax.sql.DataSource;
 
+@Slf4j
 @Configuration
 public class JdbcConfig {
 
+    static final String MAXIMUM_POOL_SIZE = "spring.datasource.hikari.maximum-pool-size";
+
     @Bean
     public JdbcTemplate jdbcTemplate(DataSource dataSource) {
         return new JdbcTemplate(dataSource);
     }
 
+    /**
+     * batch.writer.mode=bulk일 때만 Connector/J의 allowLoadLocalInfile을 켠다 (MySqlBulkLoader의 LOAD DATA LOCAL INFILE).
+     * 이 속성이 켜진 커넥션은 서버가 요청하는 로컬 파일을 읽어 보낼 수 있으므로 공용 JDBC URL에는 넣지 않는다.
+     * AOT 빌드에서도 실행 시 모드를 따르도록 조건부 빈이 아니라 Environment로 확인한다.
+     */
+    @Bean
+    public static BeanPostProcessor bulkLoadDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource
+                        && "bulk".equalsIgnoreCase(environment.getProperty("batch.writer.mode", "batch"))) {
+                    dataSource.addDataSourceProperty("allowLoadLocalInfile", "true");
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 실행 모드와 스레드 설정에 맞춰 커넥션 풀 크기를 정한다.
+     * maximum-pool-size를 지정하지 않았으면 필요한 크기(기본 10 이상)로 늘리고,
+     * 지정한 값이 필요한 크기보다 작으면 청크 도중 커넥션을 기다리다 멈추지 않도록 기동 시 실패시킨다.
+     */
+    @Bean
+    public static BeanPostProcessor connectionPoolSizingPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource) {
+                    sizePool(dataSource, environment);
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static void sizePool(HikariDataSource dataSource, Environment environment) {
+        int required = requiredConnections(environment);
+        boolean configured = Binder.get(environment).bind(MAXIMUM_POOL_SIZE, Integer.class).isBound();
+        if (dataSource.getMaximumPoolSize() >= required) {
+            return;
+        }
+        if (configured) {
+            throw new IllegalStateException(String.format(
+                    "%s=%d는 현재 설정에 필요한 커넥션 수 %d보다 작습니다 (동시 Step 수 × Step당 커넥션 + 1). "
+                            + "값을 늘리거나 batch.partition.threads / batch.distributed.workers / batch.watch.concurrency / "
+                            + "batch.writer.fan-out.enabled를 줄이세요.",
+                    MAXIMUM_POOL_SIZE, dataSource.getMaximumPoolSize(), required));
+        }
+        log.info("커넥션 풀 크기를 {}에서 {}로 늘립니다 (동시 Step 수와 Step당 커넥션 수 기준)",
+                dataSource.getMaximumPoolSize(), required);
+        dataSource.setMaximumPoolSize(required);
+    }
+
+    /**
+     * 동시에 실행되는 Step마다 청크 트랜잭션 커넥션 1개와, 그 트랜잭션을 잡은 채 DimensionResolver가 여는
+     * REQUIRES_NEW 트랜잭션 커넥션 1개가 필요하다. fan-out이 켜져 있으면 processed_orders용 커넥션이 1개 더 필요하다.
+     * 여기에 청크 밖의 Job 저장소 갱신 / 파티션 조회 / heartbeat용으로 1개를 더한다.
+     */
+    static int requiredConnections(Environment environment) {
+        int perStep = 2 + (environment.getProperty("batch.writer.fan-out.enabled", Boolean.class, false) ? 1 : 0);
+        int steps;
+        if ("worker".equalsIgnoreCase(environment.getProperty("batch.job", "process"))) {
+            steps = environment.getProperty("batch.distributed.workers", Integer.class, 2);
+        } else {
+            steps = switch (ExecutionMode.from(environment.getProperty("batch.mode", "chunk"))) {
+                case PARTITIONED -> Math.min(environment.getProperty("batch.partition.threads", Integer.class, 8),
+                        environment.getProperty("batch.partition.grid-size", Integer.class, 8));
+                case DISTRIBUTED -> Math.max(environment.getProperty("batch.distributed.workers", Integer.class, 2), 1);
+                default -> 1;
+            };
+        }
+        if (environment.getProperty("batch.watch.enabled", Boolean.class, false)) {
+            steps *= environment.getProperty("batch.watch.concurrency", Integer.class, 2);
+        }
+        return steps * perStep + 1;
+    }
+
 }
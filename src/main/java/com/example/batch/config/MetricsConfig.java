@@ -0,0 +1,86 @@
+package com.example.batch.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmCompilationMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmHeapPressureMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmInfoMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.logging.LogbackMetrics;
+import io.micrometer.core.instrument.binder.system.FileDescriptorMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.core.instrument.binder.system.UptimeMetrics;
+import io.micrometer.prometheusmetrics.PrometheusConfig;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Micrometer 레지스트리 구성. 웹 서버가 없는 배치이므로 actuator 없이 Prometheus 레지스트리 하나만 두고,
+ * 스크레이프와 파일 저장은 PrometheusMetricsExporter가 맡는다.
+ * actuator가 자동으로 붙여 주던 JVM/프로세스/로그/커넥션 풀 지표는 여기서 직접 등록한다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public PrometheusMeterRegistry prometheusMeterRegistry() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        new ClassLoaderMetrics().bindTo(registry);
+        new JvmMemoryMetrics().bindTo(registry);
+        new JvmThreadMetrics().bindTo(registry);
+        new JvmInfoMetrics().bindTo(registry);
+        new JvmCompilationMetrics().bindTo(registry);
+        new ProcessorMetrics().bindTo(registry);
+        new UptimeMetrics().bindTo(registry);
+        new FileDescriptorMetrics().bindTo(registry);
+        // Spring Batch는 spring.batch.* 지표를 전역 레지스트리(Metrics.globalRegistry)에 기록한다
+        Metrics.addRegistry(registry);
+        return registry;
+    }
+
+    // 아래 바인더는 백그라운드 리스너를 등록하므로 종료 시 close된다 (destroy 메서드 추론)
+    @Bean
+    public JvmGcMetrics jvmGcMetrics(MeterRegistry meterRegistry) {
+        JvmGcMetrics metrics = new JvmGcMetrics();
+        metrics.bindTo(meterRegistry);
+        return metrics;
+    }
+
+    @Bean
+    public JvmHeapPressureMetrics jvmHeapPressureMetrics(MeterRegistry meterRegistry) {
+        JvmHeapPressureMetrics metrics = new JvmHeapPressureMetrics();
+        metrics.bindTo(meterRegistry);
+        return metrics;
+    }
+
+    @Bean
+    public LogbackMetrics logbackMetrics(MeterRegistry meterRegistry) {
+        LogbackMetrics metrics = new LogbackMetrics();
+        metrics.bindTo(meterRegistry);
+        return metrics;
+    }
+
+    /**
+     * Hikari 커넥션 풀 지표(hikaricp.connections.*). 풀이 시작되기 전에만 설정할 수 있으므로 초기화 전에 붙인다.
+     */
+    @Bean
+    public static BeanPostProcessor hikariMetricsPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource dataSource && dataSource.getMetricRegistry() == null) {
+                    dataSource.setMetricRegistry(meterRegistry.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.example.batch.dedup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 한 번의 Job 실행 안에서 같은 order_id가 다시 나오는지 검사한다(파일 내 중복).
+ * Job 실행마다 {@link OrderIdFingerprintSet}을 하나 두고 모든 Step/파티션/비동기 처리 스레드가 공유한다.
+ * 청크가 롤백되면 그 청크에서 등록한 지문을 되돌려, 재처리할 때 같은 행이 중복으로 잘못 걸리지 않게 한다.
+ * 실행 간(재실행/재시작) 중복은 orders / processed_orders의 UNIQUE KEY와 upsert가 처리한다.
+ * <p>
+ * 검사 범위가 JobExecution과 JVM으로 한정되므로 다음 경우에는 파일 내 중복이라도 거부되지 않거나 어느 행이 남을지 정해지지 않는다.
+ * <ul>
+ *     <li>재시작: 새 JobExecution은 빈 집합에서 시작하므로, 실패 전에 커밋된 행과 같은 order_id는 upsert로 덮어쓴다.</li>
+ *     <li>distributed: 노드마다 집합이 따로 있어 다른 노드의 파티션과 겹치는 order_id는 거부되지 않는다.</li>
+ *     <li>partitioned / async: 여러 스레드가 동시에 검사하므로 먼저 등록한 쪽이 이기며, 파일에서 먼저 나온 행이라는 보장이 없다.
+ *     한 Step 스레드가 파일 순서대로 검사하는 chunk / pipelined / columnar 모드에서만 가장 앞의 행이 남는다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class DuplicateOrderFilter implements ChunkListener, JobExecutionListener {
+
+    @Value("${batch.dedup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${batch.dedup.expected-rows:1000000}")
+    private long expectedRows;
+
+    private final Map<Long, OrderIdFingerprintSet> seenByJob = new ConcurrentHashMap<>();
+    private final Map<Long, PendingFingerprints> pendingByStep = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 Job 실행에서 처음 보는 order_id면 등록하고 false, 이미 본 order_id면 true를 반환한다.
+     * Step 컨텍스트 밖에서 호출되거나 비활성화된 경우에는 항상 false.
+     */
+    public boolean isDuplicate(String orderId) {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (!enabled || context == null) {
+            return false;
+        }
+
+        StepExecution stepExecution = context.getStepExecution();
+        OrderIdFingerprintSet seen = seenByJob.computeIfAbsent(stepExecution.getJobExecutionId(),
+                id -> new OrderIdFingerprintSet(expectedRows));
+        long fingerprint = OrderIdFingerprintSet.fingerprint(orderId);
+        if (!seen.add(fingerprint)) {
+            return true;
+        }
+        pendingByStep.computeIfAbsent(stepExecution.getId(), id -> new PendingFingerprints()).add(fingerprint);
+        return false;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        PendingFingerprints pending = pendingByStep.get(stepExecutionId(context));
+        if (pending != null) {
+            pending.clear();
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        PendingFingerprints pending = pendingByStep.get(stepExecution.getId());
+        OrderIdFingerprintSet seen = seenByJob.get(stepExecution.getJobExecutionId());
+        if (pending != null && seen != null) {
+            pending.drainTo(seen);
+        }
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        OrderIdFingerprintSet seen = seenByJob.remove(jobExecution.getId());
+        jobExecution.getStepExecutions().forEach(step -> pendingByStep.remove(step.getId()));
+        if (seen != null) {
+            log.info("### 중복 검사 order_id 수: {}", seen.size());
+        }
+    }
+
+    /**
+     * 다른 JVM이 manager인 Job의 파티션을 실행한 워커(PartitionWorker)가 호출한다.
+     * 이 JVM에서는 afterJob이 호출되지 않으므로 대신 Job의 중복 검사 상태를 정리한다.
+     */
+    public void release(long jobExecutionId, Collection<Long> stepExecutionIds) {
+        seenByJob.remove(jobExecutionId);
+        stepExecutionIds.forEach(pendingByStep::remove);
+    }
+
+    private static Long stepExecutionId(ChunkContext context) {
+        return context.getStepContext().getStepExecution().getId();
+    }
+
+    /**
+     * 커밋 전인 청크에서 새로 등록한 지문 목록. 비동기 처리 시 여러 스레드가 추가한다.
+     */
+    private static final class PendingFingerprints {
+
+        private long[] fingerprints = new long[256];
+        private int size;
+
+        synchronized void add(long fingerprint) {
+            if (size == fingerprints.length) {
+                fingerprints = Arrays.copyOf(fingerprints, size * 2);
+            }
+            fingerprints[size++] = fingerprint;
+        }
+
+        synchronized void clear() {
+            size = 0;
+        }
+
+        synchronized void drainTo(OrderIdFingerprintSet seen) {
+            for (int i = 0; i < size; i++) {
+                seen.remove(fingerprints[i]);
+            }
+            size = 0;
+        }
+    }
+
+}
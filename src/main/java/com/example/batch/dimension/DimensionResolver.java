@@ -0,0 +1,178 @@
+package com.example.batch.dimension;
+
+import com.example.batch.columnar.NameDictionary;
+import com.example.batch.columnar.OrderColumns;
+import com.example.batch.columnar.OrderColumnsWriter;
+import com.example.batch.domain.Order;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 주문의 고객명/상품명을 customers / products 차원 테이블의 id로 바꿔 Order에 채우는 Writer.
+ * Composite Writer의 첫 번째 delegate로 실행되어 뒤의 두 Writer가 이름 대신 id를 저장하게 한다.
+ * <ul>
+ *     <li>이름 → id는 크기가 제한된 Caffeine 캐시(W-TinyLFU)에서 먼저 찾는다.</li>
+ *     <li>캐시에 없는 이름은 청크 단위로 모아 IN 조회 한 번, 없으면 INSERT IGNORE 배치 한 번, 다시 IN 조회 한 번으로 해결한다.</li>
+ *     <li>차원 행 생성은 별도 트랜잭션(REQUIRES_NEW)에서 커밋한다. 청크가 롤백되어도 차원 행은 남으므로
+ *     캐시에는 항상 커밋된 id만 들어가고, 다른 파티션이 만든 행도 바로 보인다(READ COMMITTED).</li>
+ * </ul>
+ * 청크 트랜잭션과 별도로 커넥션을 하나 더 쓰므로 커넥션 풀 크기는 동시 Step 수보다 커야 한다.
+ * columnar 모드에서는 블록의 이름 사전 코드마다 id를 한 번만 찾아 사전에 기록한다.
+ */
+@Slf4j
+@Component
+public class DimensionResolver implements ItemWriter<Order>, OrderColumnsWriter {
+
+    private static final int IN_LIST_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+    private final Cache<String, Long> customerIds;
+    private final Cache<String, Long> productIds;
+
+    public DimensionResolver(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry,
+                             @Value("${batch.dimension.cache-size:100000}") long cacheSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // REPEATABLE READ면 INSERT IGNORE 뒤의 재조회가 첫 조회의 스냅샷을 읽어 다른 Step이 방금 커밋한 이름을 보지 못한다
+        this.requiresNew.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.customerIds = Caffeine.newBuilder().maximumSize(cacheSize).recordStats().build();
+        this.productIds = Caffeine.newBuilder().maximumSize(cacheSize).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, customerIds, "order.batch.dimension.customers");
+        CaffeineCacheMetrics.monitor(meterRegistry, productIds, "order.batch.dimension.products");
+    }
+
+    @Override
+    public void write(Chunk<? extends Order> chunk) {
+        resolve("customers", customerIds, chunk, Order::getCustomerName, Order::setCustomerId);
+        resolve("products", productIds, chunk, Order::getProductName, Order::setProductId);
+    }
+
+    @Override
+    public void write(OrderColumns block) {
+        resolve("customers", customerIds, block, block.customers(), block::customerCode);
+        resolve("products", productIds, block, block.products(), block::productCode);
+    }
+
+    /**
+     * 블록에서 쓰인 사전 코드 중 id가 아직 없는 것만 캐시 → DB 순으로 찾아 사전에 기록한다.
+     */
+    private void resolve(String table, Cache<String, Long> cache, OrderColumns block, NameDictionary dictionary,
+                         IntUnaryOperator code) {
+        Set<String> pending = new HashSet<>();
+        for (int row = 0; row < block.size(); row++) {
+            int name = code.applyAsInt(row);
+            if (dictionary.id(name) != 0) {
+                continue;
+            }
+            Long id = cache.getIfPresent(dictionary.name(name));
+            if (id != null) {
+                dictionary.setId(name, id);
+            } else {
+                pending.add(dictionary.name(name));
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<String> names = pending.stream().sorted().toList();
+        Map<String, Long> ids = requiresNew.execute(status -> findOrCreate(table, names));
+        cache.putAll(ids);
+
+        for (int row = 0; row < block.size(); row++) {
+            int name = code.applyAsInt(row);
+            if (dictionary.id(name) != 0) {
+                continue;
+            }
+            Long id = ids.get(dictionary.name(name));
+            if (id == null) {
+                throw new IllegalStateException(table + " 차원 id를 찾을 수 없습니다 (name 콜레이션이 NO PAD인지 확인): " + dictionary.name(name));
+            }
+            dictionary.setId(name, id);
+        }
+    }
+
+    private void resolve(String table, Cache<String, Long> cache, Chunk<? extends Order> chunk,
+                         Function<Order, String> name, BiConsumer<Order, Long> setId) {
+        List<Order> pending = new ArrayList<>();
+        for (Order order : chunk) {
+            Long id = cache.getIfPresent(name.apply(order));
+            if (id != null) {
+                setId.accept(order, id);
+            } else {
+                pending.add(order);
+            }
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        // 여러 파티션이 같은 이름을 동시에 만들 때 잠금 순서가 같도록 정렬
+        List<String> names = pending.stream().map(name).distinct().sorted().toList();
+        Map<String, Long> ids = requiresNew.execute(status -> findOrCreate(table, names));
+        cache.putAll(ids);
+
+        for (Order order : pending) {
+            Long id = ids.get(name.apply(order));
+            if (id == null) {
+                throw new IllegalStateException(table + " 차원 id를 찾을 수 없습니다 (name 콜레이션이 NO PAD인지 확인): " + name.apply(order));
+            }
+            setId.accept(order, id);
+        }
+    }
+
+    private Map<String, Long> findOrCreate(String table, List<String> names) {
+        Map<String, Long> ids = find(table, names);
+        if (ids.size() == names.size()) {
+            return ids;
+        }
+
+        List<String> absent = names.stream().filter(name -> !ids.containsKey(name)).toList();
+        // 다른 Step이 먼저 만든 이름은 UNIQUE KEY 충돌로 무시된다
+        jdbcTemplate.batchUpdate("INSERT IGNORE INTO " + table + " (name) VALUES (?)",
+                absent, absent.size(), (ps, name) -> ps.setString(1, name));
+        ids.putAll(find(table, absent));
+        log.debug("{} 차원 행 {}개 추가", table, absent.size());
+        return ids;
+    }
+
+    private Map<String, Long> find(String table, List<String> names) {
+        Map<String, Long> ids = new HashMap<>(names.size() * 2);
+        for (int from = 0; from < names.size(); from += IN_LIST_SIZE) {
+            List<String> batch = names.subList(from, Math.min(from + IN_LIST_SIZE, names.size()));
+            String sql = "SELECT id, name FROM " + table + " WHERE name IN ("
+                    + String.join(", ", Collections.nCopies(batch.size(), "?")) + ")";
+            jdbcTemplate.query(sql, rs -> {
+                ids.put(rs.getString(2), rs.getLong(1));
+            }, batch.toArray());
+        }
+        return ids;
+    }
+
+}
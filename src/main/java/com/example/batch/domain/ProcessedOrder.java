@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -31,9 +32,16 @@ public class ProcessedOrder {
     private String originalOrderId;
 
     @Column(nullable = false)
-    private String customerName;
+    private Long customerId;
 
     @Column(nullable = false)
+    private Long productId;
+
+    // 이름은 customers / products 차원 테이블에 있고, 처리 중에만 들고 다닌다
+    @Transient
+    private String customerName;
+
+    @Transient
     private String productName;
 
     @Column(nullable = false)
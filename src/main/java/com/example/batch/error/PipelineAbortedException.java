@@ -0,0 +1,12 @@
+package com.example.batch.error;
+
+/**
+ * pipelined 모드에서 다른 단계가 실패하거나 Step이 닫혀 파이프라인이 중단되었다.
+ */
+public class PipelineAbortedException extends RuntimeException {
+
+    public PipelineAbortedException(Throwable cause) {
+        super("파이프라인이 중단되었습니다: " + cause.getMessage(), cause);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.example.batch.error;
+
+public class RejectThresholdExceededException extends RuntimeException {
+
+    public RejectThresholdExceededException(String message) {
+        super(message);
+    }
+
+}
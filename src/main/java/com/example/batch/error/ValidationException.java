@@ -1,9 +0,0 @@
-package com.example.batch.error;
-
-public class ValidationException extends RuntimeException {
-
-    public ValidationException(String message) {
-        super(message);
-    }
-
-}
@@ -0,0 +1,32 @@
+package com.example.batch.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 쓰기가 끝난 뒤 청크 트랜잭션 커밋(ExecutionContext 저장 포함)까지의 구간.
+ */
+@Name("com.example.batch.ChunkCommit")
+@Label("Chunk Commit")
+@Category("Order Batch")
+@StackTrace(false)  // 호출 위치가 항상 같으므로 스택 수집 비용을 아낀다
+@Description("청크 쓰기 완료부터 커밋 완료까지")
+public class ChunkCommitEvent extends jdk.jfr.Event {
+
+    @Label("Step")
+    String step;
+
+    @Label("Chunk")
+    long chunk;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("End Offset")
+    @Description("커밋과 함께 저장된 재시작 바이트 오프셋")
+    long endOffset;
+
+}
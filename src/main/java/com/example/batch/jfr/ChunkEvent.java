@@ -0,0 +1,54 @@
+package com.example.batch.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 청크 하나 전체. 단계별 소요 시간을 함께 담아 {@link ChunkRecordingReport}가 이 이벤트만으로 느린 청크와 단계별 비중을 계산한다.
+ */
+@Name("com.example.batch.Chunk")
+@Label("Chunk")
+@Category("Order Batch")
+@StackTrace(false)  // 호출 위치가 항상 같으므로 스택 수집 비용을 아낀다
+@Description("청크 시작부터 커밋(또는 롤백)까지")
+public class ChunkEvent extends jdk.jfr.Event {
+
+    @Label("Step")
+    String step;
+
+    @Label("Chunk")
+    long chunk;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Start Offset")
+    long startOffset;
+
+    @Label("End Offset")
+    long endOffset;
+
+    @Label("Committed")
+    boolean committed;
+
+    @Label("Read Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long readTime;
+
+    @Label("Process Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long processTime;
+
+    @Label("Write Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long writeTime;
+
+    @Label("Commit Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long commitTime;
+
+}
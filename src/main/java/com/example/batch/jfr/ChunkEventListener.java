@@ -0,0 +1,181 @@
+package com.example.batch.jfr;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 청크의 읽기 → 처리 → 쓰기 → 커밋 단계를 JFR 이벤트로 남기는 리스너.
+ * Spring Batch는 청크마다 아이템을 모두 읽은 뒤 처리하고, 처리가 끝나면 한 번에 쓰므로 각 단계는 연속된 한 구간이다.
+ * JFR 기록 중이 아니면 이벤트는 만들어지지만 커밋되지 않으므로 비용은 시각 측정 정도다.
+ * <p>
+ * 바이트 오프셋은 리더가 ExecutionContext에 저장한 재시작 위치(*.byte.offset)다.
+ * 청크 시작 시에는 직전 커밋 위치, 커밋 후에는 이 청크의 끝 위치가 들어 있다.
+ */
+@Component
+@StepScope
+public class ChunkEventListener implements ChunkListener, ItemReadListener<Object>,
+        ItemProcessListener<Object, Object>, ItemWriteListener<Object> {
+
+    private static final String OFFSET_KEY_SUFFIX = "byte.offset";
+
+    private long chunkNumber;
+    private ChunkEvent chunk;
+    private ChunkReadEvent read;
+    private ChunkProcessEvent process;
+    private ChunkCommitEvent commit;
+    private long phaseStart;
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        StepExecution stepExecution = context.getStepContext().getStepExecution();
+        String step = stepExecution.getStepName();
+        long offset = offset(stepExecution.getExecutionContext());
+        chunkNumber++;
+
+        chunk = new ChunkEvent();
+        chunk.step = step;
+        chunk.chunk = chunkNumber;
+        chunk.startOffset = offset;
+        chunk.begin();
+
+        read = new ChunkReadEvent();
+        read.step = step;
+        read.chunk = chunkNumber;
+        read.startOffset = offset;
+
+        process = new ChunkProcessEvent();
+        process.step = step;
+        process.chunk = chunkNumber;
+
+        commit = new ChunkCommitEvent();
+        commit.step = step;
+        commit.chunk = chunkNumber;
+    }
+
+    @Override
+    public void beforeRead() {
+        if (read != null && read.rows == 0 && chunk.readTime == 0) {
+            read.begin();
+            phaseStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterRead(Object item) {
+        if (read != null) {
+            read.rows++;
+        }
+    }
+
+    @Override
+    public void beforeProcess(Object item) {
+        endRead();
+        if (process != null && process.rows == 0) {
+            process.begin();
+            phaseStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterProcess(Object item, Object result) {
+        if (process != null) {
+            process.rows++;
+            if (result == null) {
+                process.filtered++;
+            }
+        }
+    }
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        endRead();
+        endProcess();
+        if (chunk != null) {
+            chunk.rows = items.size();
+            phaseStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        if (chunk != null) {
+            chunk.writeTime = System.nanoTime() - phaseStart;
+            commit.rows = items.size();
+            commit.begin();
+            phaseStart = System.nanoTime();
+        }
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        if (chunk == null) {
+            return;
+        }
+        // 쓸 아이템이 없던 청크(모두 필터링 등)는 afterWrite 없이 여기로 온다
+        endRead();
+        endProcess();
+        long offset = offset(context.getStepContext().getStepExecution().getExecutionContext());
+        if (commit.rows > 0) {
+            chunk.commitTime = System.nanoTime() - phaseStart;
+            commit.endOffset = offset;
+            commit.commit();
+        }
+        chunk.endOffset = offset;
+        chunk.committed = true;
+        chunk.commit();
+        clear();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        if (chunk == null) {
+            return;
+        }
+        endRead();
+        endProcess();
+        chunk.endOffset = chunk.startOffset;
+        chunk.commit();
+        clear();
+    }
+
+    private void endRead() {
+        if (read != null && chunk.readTime == 0 && read.rows > 0) {
+            chunk.readTime = System.nanoTime() - phaseStart;
+            read.commit();
+        }
+    }
+
+    private void endProcess() {
+        if (process != null && chunk.processTime == 0 && process.rows > 0) {
+            chunk.processTime = System.nanoTime() - phaseStart;
+            process.commit();
+        }
+    }
+
+    private void clear() {
+        chunk = null;
+        read = null;
+        process = null;
+        commit = null;
+    }
+
+    private static long offset(ExecutionContext executionContext) {
+        for (Map.Entry<String, Object> entry : executionContext.entrySet()) {
+            if (entry.getKey().endsWith(OFFSET_KEY_SUFFIX) && entry.getValue() instanceof Long value) {
+                return value;
+            }
+        }
+        return -1;
+    }
+
+}
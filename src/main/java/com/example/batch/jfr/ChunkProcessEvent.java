@@ -0,0 +1,32 @@
+package com.example.batch.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 청크 하나의 검증/변환 구간.
+ */
+@Name("com.example.batch.ChunkProcess")
+@Label("Chunk Process")
+@Category("Order Batch")
+@StackTrace(false)  // 호출 위치가 항상 같으므로 스택 수집 비용을 아낀다
+@Description("청크 하나 분량의 OrderItemProcessor.process 호출")
+public class ChunkProcessEvent extends jdk.jfr.Event {
+
+    @Label("Step")
+    String step;
+
+    @Label("Chunk")
+    long chunk;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Filtered")
+    @Description("검증 실패 등으로 걸러진 건수")
+    int filtered;
+
+}
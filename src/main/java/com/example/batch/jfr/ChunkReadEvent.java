@@ -0,0 +1,32 @@
+package com.example.batch.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 청크 하나를 채우기까지의 읽기(파일 읽기 + 토큰화) 구간.
+ */
+@Name("com.example.batch.ChunkRead")
+@Label("Chunk Read")
+@Category("Order Batch")
+@StackTrace(false)  // 호출 위치가 항상 같으므로 스택 수집 비용을 아낀다
+@Description("청크 하나 분량의 OrderItemReader.read 호출")
+public class ChunkReadEvent extends jdk.jfr.Event {
+
+    @Label("Step")
+    String step;
+
+    @Label("Chunk")
+    long chunk;
+
+    @Label("Rows")
+    int rows;
+
+    @Label("Start Offset")
+    @Description("청크 시작 시 저장되어 있던 재시작 바이트 오프셋")
+    long startOffset;
+
+}
@@ -0,0 +1,116 @@
+package com.example.batch.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JFR 기록 파일에서 청크 이벤트를 읽어 가장 느린 청크들과 단계별(읽기/처리/쓰기/커밋) 시간 비중을 로그로 남긴다.
+ * Writer별 쓰기 시간은 {@link ChunkWriteEvent}에서 합산한다.
+ */
+@Slf4j
+@Component
+public class ChunkRecordingReport {
+
+    private static final String CHUNK_EVENT = "com.example.batch.Chunk";
+    private static final String WRITE_EVENT = "com.example.batch.ChunkWrite";
+
+    @Value("${batch.jfr.slowest-chunks:10}")
+    private int slowestChunks;
+
+    record ChunkSample(String step, long chunk, int rows, long startOffset, long endOffset, boolean committed,
+                       long total, long read, long process, long write, long commit) {
+    }
+
+    public void log(Path file) {
+        List<ChunkSample> chunks = new ArrayList<>();
+        Map<String, long[]> writers = new TreeMap<>();  // writer → {호출 수, 나노초}
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                switch (event.getEventType().getName()) {
+                    case CHUNK_EVENT -> chunks.add(toSample(event));
+                    case WRITE_EVENT -> {
+                        long[] total = writers.computeIfAbsent(event.getString("writer"), writer -> new long[2]);
+                        total[0]++;
+                        total[1] += event.getDuration().toNanos();
+                    }
+                    default -> {
+                    }
+                }
+            }
+        } catch (IOException e) {
+            log.warn("JFR 기록을 읽지 못했습니다: {}", file, e);
+            return;
+        }
+
+        if (chunks.isEmpty()) {
+            log.info("### JFR 청크 리포트: 기록된 청크가 없습니다 ({})", file);
+            return;
+        }
+
+        long total = 0, read = 0, process = 0, write = 0, commit = 0, rolledBack = 0;
+        for (ChunkSample chunk : chunks) {
+            total += chunk.total();
+            read += chunk.read();
+            process += chunk.process();
+            write += chunk.write();
+            commit += chunk.commit();
+            if (!chunk.committed()) {
+                rolledBack++;
+            }
+        }
+        long other = Math.max(0, total - read - process - write - commit);
+
+        log.info("========================================");
+        log.info("        JFR 청크 리포트 ({})", file.getFileName());
+        log.info("========================================");
+        log.info("청크 {}개 (롤백 {}개), 합계 {}", chunks.size(), rolledBack, millis(total));
+        log.info("단계별 비중: 읽기 {} / 처리 {} / 쓰기 {} / 커밋 {} / 기타 {}",
+                share(read, total), share(process, total), share(write, total), share(commit, total), share(other, total));
+        if (!writers.isEmpty()) {
+            log.info("Writer별 쓰기 시간:");
+            for (Map.Entry<String, long[]> writer : writers.entrySet()) {
+                long[] sum = writer.getValue();
+                log.info("  - {}: {} ({}회, 전체의 {})", writer.getKey(), millis(sum[1]), sum[0], share(sum[1], total));
+            }
+        }
+        log.info("가장 느린 청크 {}개:", Math.min(slowestChunks, chunks.size()));
+        chunks.stream()
+                .sorted(Comparator.comparingLong(ChunkSample::total).reversed())
+                .limit(slowestChunks)
+                .forEach(chunk -> log.info("  - {} #{}: {}, {}행, offset {}~{}{} (읽기 {} / 처리 {} / 쓰기 {} / 커밋 {})",
+                        chunk.step(), chunk.chunk(), millis(chunk.total()), chunk.rows(),
+                        chunk.startOffset(), chunk.endOffset(), chunk.committed() ? "" : " 롤백",
+                        millis(chunk.read()), millis(chunk.process()), millis(chunk.write()), millis(chunk.commit())));
+        log.info("========================================");
+    }
+
+    private static ChunkSample toSample(RecordedEvent event) {
+        return new ChunkSample(event.getString("step"), event.getLong("chunk"), event.getInt("rows"),
+                event.getLong("startOffset"), event.getLong("endOffset"), event.getBoolean("committed"),
+                event.getDuration().toNanos(),
+                event.getDuration("readTime").toNanos(), event.getDuration("processTime").toNanos(),
+                event.getDuration("writeTime").toNanos(), event.getDuration("commitTime").toNanos());
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%,dms", Duration.ofNanos(nanos).toMillis());
+    }
+
+    private static String share(long part, long whole) {
+        return String.format("%.1f%%", whole == 0 ? 0.0 : part * 100.0 / whole);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.example.batch.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Writer delegate 하나의 write 호출 (orders / processed_orders 배치 INSERT 등).
+ */
+@Name("com.example.batch.ChunkWrite")
+@Label("Chunk Write")
+@Category("Order Batch")
+@StackTrace(false)  // 호출 위치가 항상 같으므로 스택 수집 비용을 아낀다
+@Description("Composite Writer delegate 하나의 write 호출")
+public class ChunkWriteEvent extends jdk.jfr.Event {
+
+    @Label("Step")
+    String step;
+
+    @Label("Writer")
+    String writer;
+
+    @Label("Rows")
+    int rows;
+
+    /**
+     * 시작된 이벤트를 만든다. 기록 중이 아니면 필드 설정을 건너뛴다.
+     */
+    public static ChunkWriteEvent begin(String step, String writer, int rows) {
+        ChunkWriteEvent event = new ChunkWriteEvent();
+        if (event.isEnabled()) {
+            event.step = step;
+            event.writer = writer;
+            event.rows = rows;
+            event.begin();
+        }
+        return event;
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.example.batch.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * batch.jfr.enabled=true이면 Job 실행 동안 JFR 기록을 켜고, 끝나면 {jfr.dir}/{job}.{executionId}.jfr로 저장한 뒤
+ * {@link ChunkRecordingReport}로 느린 청크와 단계별 시간 비중을 로그에 남긴다.
+ * 실패한 실행도 원인을 봐야 하므로 Step이 아니라 afterJob에서 정리한다.
+ * JVM 옵션(-XX:StartFlightRecording)으로 직접 기록해도 청크 이벤트는 같이 남는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JfrRecordingListener implements JobExecutionListener {
+
+    private final ChunkRecordingReport report;
+
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+
+    @Value("${batch.jfr.enabled:false}")
+    private boolean enabled;
+
+    @Value("${batch.jfr.dir:jfr}")
+    private String dir;
+
+    @Value("${batch.jfr.settings:default}")
+    private String settings;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            Path file = Paths.get(dir, jobExecution.getJobInstance().getJobName() + "." + jobExecution.getId() + ".jfr");
+            Files.createDirectories(file.getParent());
+
+            Recording recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("order-batch-" + jobExecution.getId());
+            recording.setToDisk(true);
+            recording.setDestination(file);
+            recording.start();
+            recordings.put(jobExecution.getId(), recording);
+            log.info("### JFR 기록 시작: {} (settings={})", file, settings);
+        } catch (IOException | ParseException e) {
+            // 진단용 기능이므로 기록을 시작하지 못해도 Job은 그대로 실행한다
+            log.warn("JFR 기록을 시작하지 못했습니다 (settings={})", settings, e);
+        }
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        Recording recording = recordings.remove(jobExecution.getId());
+        if (recording == null) {
+            return;
+        }
+        Path file = recording.getDestination();
+        recording.stop();  // destination에 기록된다
+        recording.close();
+        log.info("### JFR 기록 저장: {}", file);
+        report.log(file);
+    }
+
+}
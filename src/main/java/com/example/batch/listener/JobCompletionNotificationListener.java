@@ -1,23 +1,32 @@
 package com.example.batch.listener;
 
+import com.example.batch.metrics.PrometheusMetricsExporter;
+import com.example.batch.report.JobProductSalesRepository;
+import com.example.batch.report.OrderReport;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.JobExecutionListener;
-import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JobCompletionNotificationListener implements JobExecutionListener {
 
-    private final JdbcTemplate jdbcTemplate;
+    private final JobExplorer jobExplorer;
+    private final JobProductSalesRepository jobProductSalesRepository;
+    private final PrometheusMetricsExporter metricsExporter;
 
     @Override
     public void beforeJob(JobExecution jobExecution) {
@@ -32,20 +41,9 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
         Duration duration = Duration.between(startTime, endTime);
         DecimalFormat decimalFormat = new DecimalFormat("#,###");
 
-        // orders 테이블 통계
-        Integer successCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders WHERE status = 'PROCESSED'", Integer.class);
-
-        // processed_orders 테이블 통계
-        Integer processedCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM processed_orders WHERE processing_result = 'SUCCESS'", Integer.class);
-
-        // 총 매출 합계
-        Long totalSales = jdbcTemplate.queryForObject("SELECT SUM(total_amount) FROM orders WHERE status = 'PROCESSED'", Long.class);
-
-        // 상품별 판매량
-        var productSales = jdbcTemplate.queryForList(
-                "SELECT product_name, SUM(quantity) as total_quantity, SUM(total_amount) as total_sales " +
-                        "FROM orders WHERE status = 'PROCESSED' " +
-                        "GROUP BY product_name ORDER BY total_sales DESC");
+        // 건수/매출은 각 Step이 청크마다 ExecutionContext에 누적한 합계를, 상품별 현황은 job_product_sales를 합산
+        List<JobExecution> executions = jobExplorer.getJobExecutions(jobExecution.getJobInstance());
+        OrderReport report = aggregate(executions);
 
         log.info("========================================");
         log.info("        배치 처리 리포트");
@@ -56,25 +54,42 @@ public class JobCompletionNotificationListener implements JobExecutionListener {
         log.info("소요 시간: {}초", duration.toSeconds());
         log.info("----------------------------------------");
         log.info("처리 결과:");
-        log.info("  - 성공 처리 건수 (orders): {}", (successCount != null ? successCount : 0));
-        log.info("  - 리포트 저장 건수 (processed_orders): {}", (processedCount != null ? processedCount : 0));
-        log.info("  - 총 매출액: {}원", (totalSales != null ? decimalFormat.format(totalSales) : 0));
+        log.info("  - 성공 처리 건수 (orders): {}", report.getSuccessCount());
+        log.info("  - 리포트 저장 건수 (processed_orders): {}", report.getProcessedCount());
+        log.info("  - 총 매출액: {}원", decimalFormat.format(report.getTotalSales()));
         log.info("  - 작업 상태: {}", jobExecution.getStatus());
         log.info("----------------------------------------");
 
-        if (productSales != null && !productSales.isEmpty()) {
+        if (!report.isEmpty()) {
             log.info("상품별 판매 현황:");
-            for (var row : productSales) {
-                String productName = (String) row.get("product_name");
-                Long quantity = ((BigDecimal) row.get("total_quantity")).longValue();
-                Long sales = ((BigDecimal) row.get("total_sales")).longValue();
-                log.info("  - {}: {}개, {}원", productName, quantity, sales != null ? decimalFormat.format(sales) : 0);
+            List<Long> executionIds = executions.stream().map(JobExecution::getId).toList();
+            for (JobProductSalesRepository.ProductSales row : jobProductSalesRepository.findByJobExecutionIds(executionIds)) {
+                log.info("  - {}: {}개, {}원", row.productName(), row.quantity(), decimalFormat.format(row.sales()));
             }
         }
 
         log.info("========================================");
 
         log.info("Job 완료 리포트 출력 완료");
+
+        metricsExporter.dump(jobExecution);
+    }
+
+    /**
+     * Job 인스턴스의 Step별 마지막 실행 결과를 합산한다.
+     * 재시작된 경우 이전 실행에서 이미 완료되어 다시 실행되지 않은 Step(파티션)의 집계도 포함된다.
+     * distributed 모드의 파티션은 다른 JVM이 저장소에 기록하므로 현재 실행도 메모리가 아닌 저장소에서 읽는다.
+     */
+    private OrderReport aggregate(List<JobExecution> executions) {
+        Map<String, StepExecution> lastStepExecutions = new HashMap<>();
+        executions.stream()
+                .sorted(Comparator.comparing(JobExecution::getId))
+                .forEach(execution -> execution.getStepExecutions()
+                        .forEach(step -> lastStepExecutions.put(step.getStepName(), step)));
+
+        OrderReport report = new OrderReport();
+        lastStepExecutions.values().forEach(step -> report.mergeFrom(step.getExecutionContext()));
+        return report;
     }
 
-}
\ No newline at end of file
+}
@@ -6,6 +6,9 @@ import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
 @Slf4j
 @Component
 public class StepExecuteListener implements StepExecutionListener {
@@ -23,13 +26,22 @@ public class StepExecuteListener implements StepExecutionListener {
         log.info("### 읽기 카운트: {}", stepExecution.getReadCount());
         log.info("### 쓰기 카운트: {}", stepExecution.getWriteCount());
         log.info("### 스킵 카운트: {}", stepExecution.getSkipCount());
-        log.info("### 처리 시간: {}", stepExecution.getCommitCount());
+        log.info("### 필터(거부) 카운트: {}", stepExecution.getFilterCount());
+        log.info("### 커밋 카운트: {}", stepExecution.getCommitCount());
+        log.info("### 처리 시간: {}ms", elapsed(stepExecution).toMillis());
 
-        long failedCount = stepExecution.getReadCount() - stepExecution.getWriteCount() - stepExecution.getSkipCount();
+        long failedCount = stepExecution.getReadCount() - stepExecution.getWriteCount()
+                - stepExecution.getSkipCount() - stepExecution.getFilterCount();
         if (failedCount > 0) {
             log.info("### 실패 건수: {}", failedCount);
         }
 
         return stepExecution.getExitStatus();
     }
+
+    private Duration elapsed(StepExecution stepExecution) {
+        // afterStep 시점에는 종료 시간이 아직 기록되지 않았을 수 있다
+        LocalDateTime endTime = stepExecution.getEndTime() != null ? stepExecution.getEndTime() : LocalDateTime.now();
+        return Duration.between(stepExecution.getStartTime(), endTime);
+    }
 }
\ No newline at end of file
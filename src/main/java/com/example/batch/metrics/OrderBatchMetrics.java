@@ -0,0 +1,260 @@
+package com.example.batch.metrics;
+
+import com.example.batch.pipeline.OrderPipeline;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToLongFunction;
+
+/**
+ * 주문 배치의 Micrometer 지표를 한곳에서 생성한다. 모든 지표에는 job / step 태그가 붙는다.
+ * 타이머/카운터는 같은 Job/Step을 실행한 모든 JobExecution(상주 모드에서 동시에 처리되는 파일 포함)이 함께 누적하고,
+ * 현재 값을 보여 주는 게이지는 실행마다 따로 두어 execution(JobExecution id) 태그를 붙이고 Step이 끝나면 레지스트리에서 뺀다.
+ * <ul>
+ *     <li>order.batch.read / process / write — 단계별 처리 시간 (write는 writer 태그로 delegate 구분)</li>
+ *     <li>order.batch.chunk.size / order.batch.chunk.commit — 커밋된 청크에서 읽은 건수와 커밋 지연 히스토그램</li>
+ *     <li>order.batch.read.rate / write.rate — 실행 중인 Step의 시작 이후 초당 처리 건수 (execution 태그)</li>
+ *     <li>order.batch.skips / rejects — 사유별 스킵/거부 건수</li>
+ *     <li>order.batch.startup.first.chunk — JVM 기동부터 첫 청크 커밋까지 걸린 시간 (JVM당 한 번)</li>
+ *     <li>order.batch.pipeline.buffer.occupancy — 실행 중인 pipelined Step의 링 점유 칸 수 (execution 태그)</li>
+ *     <li>order.batch.pipeline.wait — pipelined 모드의 단계별 누적 대기 시간. 끝난 파이프라인의 대기 시간도 계속 더해 두므로 줄어들지 않는다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderBatchMetrics {
+
+    private static final String PREFIX = "order.batch.";
+
+    private final MeterRegistry meterRegistry;
+
+    // 게이지는 상태 객체를 약한 참조로 들고 있으므로 Step이 끝날 때까지 여기서 강하게 참조한다 (StepExecution id 기준)
+    private final Map<Long, StepRates> rates = new ConcurrentHashMap<>();
+    private final Map<Long, List<Meter.Id>> pipelineGauges = new ConcurrentHashMap<>();
+    // pipeline.wait 카운터는 Job/Step마다 하나이며, 그 Step을 실행 중인 파이프라인과 끝난 파이프라인의 대기 시간을 합산한다
+    private final Map<String, PipelineWaits> pipelineWaits = new ConcurrentHashMap<>();
+    private final AtomicBoolean firstChunkRecorded = new AtomicBoolean();
+
+    public Timer timer(String name, StepExecution stepExecution, String... tags) {
+        return Timer.builder(PREFIX + name)
+                .tags(tags(stepExecution).and(tags))
+                .register(meterRegistry);
+    }
+
+    public DistributionSummary chunkSize(StepExecution stepExecution) {
+        return DistributionSummary.builder(PREFIX + "chunk.size")
+                .baseUnit("items")
+                .tags(tags(stepExecution))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1.0)
+                .maximumExpectedValue(100_000.0)
+                .register(meterRegistry);
+    }
+
+    public Timer commitLatency(StepExecution stepExecution) {
+        return Timer.builder(PREFIX + "chunk.commit")
+                .tags(tags(stepExecution))
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    public void recordSkip(StepExecution stepExecution, String phase, Throwable error) {
+        meterRegistry.counter(PREFIX + "skips",
+                tags(stepExecution).and("phase", phase, "reason", error.getClass().getSimpleName())).increment();
+    }
+
+    public void recordReject(StepExecution stepExecution, String reason) {
+        meterRegistry.counter(PREFIX + "rejects",
+                tags(stepExecution).and("reason", normalizeReason(reason))).increment();
+    }
+
+    /**
+     * 이 JVM에서 처음 커밋된 청크라면 JVM 기동 후 경과 시간을 기록한다. 기동 시간 비교(StartupBenchmark)에 쓰인다.
+     */
+    public void recordFirstChunk(StepExecution stepExecution) {
+        if (!firstChunkRecorded.compareAndSet(false, true)) {
+            return;
+        }
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        TimeGauge.builder(PREFIX + "startup.first.chunk", () -> uptimeMillis, TimeUnit.MILLISECONDS)
+                .tags(tags(stepExecution))
+                .register(meterRegistry);
+        log.info("### 첫 청크 커밋: JVM 기동 후 {}ms ({})", uptimeMillis, stepExecution.getStepName());
+    }
+
+    /**
+     * Step 시작 이후의 초당 읽기/쓰기 건수 게이지를 갱신한다.
+     */
+    public void updateRates(StepExecution stepExecution, Duration elapsed) {
+        StepRates stepRates = rates.computeIfAbsent(stepExecution.getId(), id -> registerRates(stepExecution));
+        double seconds = Math.max(elapsed.toNanos(), 1) / 1_000_000_000.0;
+        stepRates.read = stepExecution.getReadCount() / seconds;
+        stepRates.write = stepExecution.getWriteCount() / seconds;
+    }
+
+    /**
+     * 끝난 Step의 처리율 게이지를 레지스트리에서 뺀다.
+     */
+    public void releaseRates(StepExecution stepExecution) {
+        StepRates stepRates = rates.remove(stepExecution.getId());
+        if (stepRates != null) {
+            stepRates.gauges.forEach(meterRegistry::remove);
+        }
+    }
+
+    private StepRates registerRates(StepExecution stepExecution) {
+        StepRates stepRates = new StepRates();
+        stepRates.gauges.add(Gauge.builder(PREFIX + "read.rate", stepRates, r -> r.read)
+                .baseUnit("rows.per.second")
+                .tags(executionTags(stepExecution))
+                .register(meterRegistry).getId());
+        stepRates.gauges.add(Gauge.builder(PREFIX + "write.rate", stepRates, r -> r.write)
+                .baseUnit("rows.per.second")
+                .tags(executionTags(stepExecution))
+                .register(meterRegistry).getId());
+        return stepRates;
+    }
+
+    /**
+     * pipelined 모드 Step이 시작한 파이프라인을 지표에 연결한다. 파이프라인을 닫을 때 {@link #unregisterPipeline}을 호출해야 한다.
+     */
+    public void registerPipeline(StepExecution stepExecution, OrderPipeline pipeline) {
+        List<Meter.Id> gauges = new ArrayList<>(2);
+        gauges.add(Gauge.builder(PREFIX + "pipeline.buffer.occupancy", pipeline, p -> p.lineRing().occupancy())
+                .baseUnit("slots")
+                .tags(executionTags(stepExecution).and("buffer", "input"))
+                .register(meterRegistry).getId());
+        gauges.add(Gauge.builder(PREFIX + "pipeline.buffer.occupancy", pipeline, p -> p.resultRing().occupancy())
+                .baseUnit("slots")
+                .tags(executionTags(stepExecution).and("buffer", "output"))
+                .register(meterRegistry).getId());
+        pipelineGauges.put(stepExecution.getId(), gauges);
+        pipelineWaits.computeIfAbsent(key(stepExecution), key -> registerPipelineWaits(stepExecution)).start(pipeline);
+    }
+
+    /**
+     * 닫힌 파이프라인의 점유 게이지를 빼고, 대기 시간은 누적 카운터에 남긴다.
+     */
+    public void unregisterPipeline(StepExecution stepExecution, OrderPipeline pipeline) {
+        List<Meter.Id> gauges = pipelineGauges.remove(stepExecution.getId());
+        if (gauges != null) {
+            gauges.forEach(meterRegistry::remove);
+        }
+        PipelineWaits waits = pipelineWaits.get(key(stepExecution));
+        if (waits != null) {
+            waits.finish(pipeline);
+        }
+    }
+
+    private PipelineWaits registerPipelineWaits(StepExecution stepExecution) {
+        PipelineWaits waits = new PipelineWaits();
+        registerWait(stepExecution, waits, "reader", "input.full", p -> p.lineRing().producerWaitNanos());
+        registerWait(stepExecution, waits, "processor", "input.empty", p -> p.lineRing().consumerWaitNanos());
+        registerWait(stepExecution, waits, "processor", "output.full", p -> p.resultRing().producerWaitNanos());
+        registerWait(stepExecution, waits, "writer", "output.empty", p -> p.resultRing().consumerWaitNanos());
+        return waits;
+    }
+
+    private void registerWait(StepExecution stepExecution, PipelineWaits waits, String stage, String cause,
+                              ToLongFunction<OrderPipeline> waitNanos) {
+        PipelineWait wait = waits.add(waitNanos);
+        FunctionCounter.builder(PREFIX + "pipeline.wait", waits, w -> w.seconds(wait))
+                .baseUnit("seconds")
+                .tags(tags(stepExecution).and("stage", stage, "cause", cause))
+                .register(meterRegistry);
+    }
+
+    private static Tags tags(StepExecution stepExecution) {
+        return Tags.of("job", stepExecution.getJobExecution().getJobInstance().getJobName(),
+                "step", stepExecution.getStepName());
+    }
+
+    private static Tags executionTags(StepExecution stepExecution) {
+        return tags(stepExecution).and("execution", String.valueOf(stepExecution.getJobExecutionId()));
+    }
+
+    private static String key(StepExecution stepExecution) {
+        return stepExecution.getJobExecution().getJobInstance().getJobName() + "/" + stepExecution.getStepName();
+    }
+
+    /**
+     * 거부 사유에서 값 부분(':' 이후)을 잘라 태그 카디널리티가 입력 데이터에 따라 늘어나지 않게 한다.
+     * 예) "Invalid quantity format: abc" → "Invalid quantity format"
+     */
+    public static String normalizeReason(String reason) {
+        if (reason == null || reason.isBlank()) {
+            return "unknown";
+        }
+        int colon = reason.indexOf(':');
+        return (colon < 0 ? reason : reason.substring(0, colon)).trim();
+    }
+
+    /**
+     * 한 Job/Step의 파이프라인 대기 시간. 실행 중인 파이프라인의 현재 값과 끝난 파이프라인의 최종 값을 합산하며,
+     * 파이프라인이 끝나는 순간에도 값이 줄어들지 않도록 조회와 정산을 같은 잠금 아래에서 한다.
+     */
+    private static final class PipelineWaits {
+        private final Set<OrderPipeline> active = ConcurrentHashMap.newKeySet();
+        private final List<PipelineWait> waits = new ArrayList<>(4);
+
+        PipelineWait add(ToLongFunction<OrderPipeline> waitNanos) {
+            PipelineWait wait = new PipelineWait(waitNanos);
+            waits.add(wait);
+            return wait;
+        }
+
+        synchronized void start(OrderPipeline pipeline) {
+            active.add(pipeline);
+        }
+
+        synchronized void finish(OrderPipeline pipeline) {
+            if (active.remove(pipeline)) {
+                waits.forEach(wait -> wait.finishedNanos += wait.waitNanos.applyAsLong(pipeline));
+            }
+        }
+
+        synchronized double seconds(PipelineWait wait) {
+            long nanos = wait.finishedNanos;
+            for (OrderPipeline pipeline : active) {
+                nanos += wait.waitNanos.applyAsLong(pipeline);
+            }
+            return nanos / 1_000_000_000.0;
+        }
+    }
+
+    private static final class PipelineWait {
+        private final ToLongFunction<OrderPipeline> waitNanos;
+        private long finishedNanos;
+
+        PipelineWait(ToLongFunction<OrderPipeline> waitNanos) {
+            this.waitNanos = waitNanos;
+        }
+    }
+
+    private static final class StepRates {
+        private final List<Meter.Id> gauges = new ArrayList<>(2);
+        private volatile double read;
+        private volatile double write;
+    }
+
+}
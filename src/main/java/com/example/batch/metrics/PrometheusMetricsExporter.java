@@ -0,0 +1,86 @@
+package com.example.batch.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.prometheusmetrics.PrometheusMeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Prometheus 형식으로 지표를 내보낸다.
+ * batch.metrics.http-port가 0보다 크면 해당 포트의 /metrics에서 스크레이프할 수 있고(장기 실행 호스트용),
+ * batch.metrics.dump-dir가 지정되어 있으면 Job이 끝날 때 같은 내용을 파일로 남긴다(일회성 실행용).
+ * 배치는 웹 서버를 띄우지 않으므로 actuator 엔드포인트 대신 JDK 내장 HttpServer로 레지스트리({@code MetricsConfig})를 노출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PrometheusMetricsExporter {
+
+    private final PrometheusMeterRegistry prometheusMeterRegistry;
+
+    @Value("${batch.metrics.http-port:0}")
+    private int httpPort;
+
+    @Value("${batch.metrics.dump-dir:}")
+    private String dumpDir;
+
+    private HttpServer server;
+
+    @PostConstruct
+    public void start() throws IOException {
+        if (httpPort <= 0) {
+            return;
+        }
+        server = HttpServer.create(new InetSocketAddress(httpPort), 0);
+        server.createContext("/metrics", exchange -> {
+            byte[] body = prometheusMeterRegistry.scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        server.start();
+        log.info("Prometheus 지표 엔드포인트 시작: http://localhost:{}/metrics", httpPort);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+    }
+
+    /**
+     * 현재 지표를 dump-dir/{jobName}.{jobExecutionId}.prom 파일로 저장한다.
+     */
+    public void dump(JobExecution jobExecution) {
+        if (dumpDir == null || dumpDir.isBlank()) {
+            return;
+        }
+        Path file = Paths.get(dumpDir,
+                jobExecution.getJobInstance().getJobName() + "." + jobExecution.getId() + ".prom");
+        try {
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, prometheusMeterRegistry.scrape());
+            log.info("지표 파일 저장: {}", file);
+        } catch (IOException e) {
+            log.warn("지표 파일 저장 실패: {}", file, e);
+        }
+    }
+
+}
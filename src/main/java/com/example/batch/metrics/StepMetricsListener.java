@@ -0,0 +1,128 @@
+package com.example.batch.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Step 단위로 읽기 시간, 청크 크기, 커밋 지연, 처리율, 스킵 건수를 기록하는 리스너.
+ * 청크 크기는 커밋된 청크에서 읽은 건수(필터/스킵 전)이고, 커밋 지연은 쓰기가 끝난 시점부터 afterChunk(커밋 완료)까지의 시간이다.
+ * 처리/쓰기 시간은 {@link TimedItemProcessor}, {@link TimedItemWriter}가 기록한다.
+ */
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class StepMetricsListener implements StepExecutionListener, ChunkListener,
+        ItemReadListener<Object>, ItemWriteListener<Object>, SkipListener<Object, Object> {
+
+    private final OrderBatchMetrics metrics;
+
+    private StepExecution stepExecution;
+    private Timer readTimer;
+    private Timer commitTimer;
+    private DistributionSummary chunkSize;
+
+    private long stepStart;
+    private long readStart;
+    private long writeEnd;
+    private long chunkReadStart;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+        this.readTimer = metrics.timer("read", stepExecution);
+        this.commitTimer = metrics.commitLatency(stepExecution);
+        this.chunkSize = metrics.chunkSize(stepExecution);
+        this.stepStart = System.nanoTime();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        metrics.releaseRates(stepExecution);
+        return null;
+    }
+
+    @Override
+    public void beforeRead() {
+        readStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterRead(Object item) {
+        readTimer.record(System.nanoTime() - readStart, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        readTimer.record(System.nanoTime() - readStart, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        writeEnd = 0;
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        writeEnd = System.nanoTime();
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        chunkReadStart = stepExecution.getReadCount();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        // beforeWrite의 아이템 수는 필터된 건을 뺀 쓰기 건수이므로, 커밋된 읽기 건수의 증가분을 청크 크기로 기록한다
+        long readInChunk = stepExecution.getReadCount() - chunkReadStart;
+        if (readInChunk > 0) {
+            chunkSize.record(readInChunk);
+        }
+        if (writeEnd > 0) {
+            commitTimer.record(System.nanoTime() - writeEnd, TimeUnit.NANOSECONDS);
+            writeEnd = 0;
+        }
+        metrics.recordFirstChunk(stepExecution);
+        updateRates();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        writeEnd = 0;
+    }
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        metrics.recordSkip(stepExecution, "read", t);
+    }
+
+    @Override
+    public void onSkipInProcess(Object item, Throwable t) {
+        metrics.recordSkip(stepExecution, "process", t);
+    }
+
+    @Override
+    public void onSkipInWrite(Object item, Throwable t) {
+        metrics.recordSkip(stepExecution, "write", t);
+    }
+
+    private void updateRates() {
+        metrics.updateRates(stepExecution, Duration.ofNanos(System.nanoTime() - stepStart));
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.example.batch.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * delegate의 process 호출 시간을 order.batch.process 타이머에 기록한다.
+ * AsyncItemProcessor 안에서도 작업 스레드에 Step 컨텍스트가 등록되므로 job / step 태그가 그대로 붙는다.
+ */
+public class TimedItemProcessor<I, O> implements ItemProcessor<I, O> {
+
+    private final ItemProcessor<I, O> delegate;
+    private final OrderBatchMetrics metrics;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public TimedItemProcessor(ItemProcessor<I, O> delegate, OrderBatchMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public O process(I item) throws Exception {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            return delegate.process(item);
+        }
+
+        Timer timer = timers.computeIfAbsent(context.getStepName(),
+                step -> metrics.timer("process", context.getStepExecution()));
+        long start = System.nanoTime();
+        try {
+            return delegate.process(item);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+}
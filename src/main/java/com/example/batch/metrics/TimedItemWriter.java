@@ -0,0 +1,78 @@
+package com.example.batch.metrics;
+
+import com.example.batch.jfr.ChunkWriteEvent;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamWriter;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * delegate의 write 호출 시간을 writer 태그를 붙여 order.batch.write 타이머에 기록한다.
+ * JFR 기록 중이면 같은 구간을 {@link ChunkWriteEvent}로도 남긴다.
+ * CompositeItemWriter는 ItemStream인 delegate에만 open/update/close를 전달하므로
+ * delegate가 ItemStream이면 그 호출도 그대로 넘긴다.
+ */
+public class TimedItemWriter<T> implements ItemStreamWriter<T> {
+
+    private final String name;
+    private final ItemWriter<T> delegate;
+    private final OrderBatchMetrics metrics;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public TimedItemWriter(String name, ItemWriter<T> delegate, OrderBatchMetrics metrics) {
+        this.name = name;
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void write(Chunk<? extends T> chunk) throws Exception {
+        StepContext context = StepSynchronizationManager.getContext();
+        if (context == null) {
+            delegate.write(chunk);
+            return;
+        }
+
+        Timer timer = timers.computeIfAbsent(context.getStepName(),
+                step -> metrics.timer("write", context.getStepExecution(), "writer", name));
+        ChunkWriteEvent event = ChunkWriteEvent.begin(context.getStepName(), name, chunk.size());
+        long start = System.nanoTime();
+        try {
+            delegate.write(chunk);
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.commit();
+        }
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (delegate instanceof ItemStream stream) {
+            stream.open(executionContext);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (delegate instanceof ItemStream stream) {
+            stream.update(executionContext);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (delegate instanceof ItemStream stream) {
+            stream.close();
+        }
+    }
+
+}
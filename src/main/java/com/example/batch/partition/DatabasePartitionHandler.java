@@ -0,0 +1,90 @@
+package com.example.batch.partition;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.partition.support.AbstractPartitionHandler;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 파티션을 batch_partition_work 테이블에 게시하고, 같은 DB를 바라보는 여러 JVM의 {@link PartitionWorker}가
+ * 가져가 실행하게 하는 PartitionHandler. 메시지 브로커 없이 Job 저장소 DB만으로 조정한다.
+ * manager는 모든 파티션이 끝날 때까지 작업 테이블을 주기적으로 조회하며, 기다리는 동안 이 JVM의 워커도 파티션을 처리한다.
+ * 결과는 워커들이 Job 저장소에 기록한 StepExecution을 다시 읽어 돌려준다.
+ */
+@Slf4j
+public class DatabasePartitionHandler extends AbstractPartitionHandler {
+
+    private final PartitionWorkRepository workRepository;
+    private final PartitionWorker worker;
+    private final JobExplorer jobExplorer;
+    private final String stepName;
+    private final Duration pollInterval;
+    private final Duration timeout;
+
+    /**
+     * @param stepName 워커가 실행할 Step 빈 이름
+     * @param timeout  전체 파티션 완료를 기다리는 최대 시간. 0이면 무제한
+     */
+    public DatabasePartitionHandler(PartitionWorkRepository workRepository, PartitionWorker worker,
+                                    JobExplorer jobExplorer, String stepName,
+                                    Duration pollInterval, Duration timeout) {
+        this.workRepository = workRepository;
+        this.worker = worker;
+        this.jobExplorer = jobExplorer;
+        this.stepName = stepName;
+        this.pollInterval = pollInterval;
+        this.timeout = timeout;
+    }
+
+    @Override
+    protected Set<StepExecution> doHandle(StepExecution managerStepExecution,
+                                          Set<StepExecution> partitionStepExecutions) throws Exception {
+        if (partitionStepExecutions.isEmpty()) {
+            return partitionStepExecutions;  // 재시작 시 모든 파티션이 이미 완료된 경우
+        }
+
+        long jobExecutionId = managerStepExecution.getJobExecutionId();
+        workRepository.publish(jobExecutionId, stepName, partitionStepExecutions);
+        log.info("### 파티션 {}개 게시 (jobExecutionId={}, 로컬 워커 {}개)",
+                partitionStepExecutions.size(), jobExecutionId, worker.getWorkers());
+
+        AtomicBoolean finished = new AtomicBoolean();
+        CompletableFuture<Void> localWorkers = worker.start(finished::get, Duration.ZERO);
+        try {
+            awaitPartitions(jobExecutionId);
+        } finally {
+            finished.set(true);
+            localWorkers.join();  // 로컬에서 실행 중인 파티션은 끝까지 처리
+        }
+
+        Set<StepExecution> result = new HashSet<>();
+        for (StepExecution partition : partitionStepExecutions) {
+            result.add(jobExplorer.getStepExecution(jobExecutionId, partition.getId()));
+        }
+        return result;
+    }
+
+    private void awaitPartitions(long jobExecutionId) throws InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        int reported = -1;
+        int open;
+        while ((open = workRepository.countOpen(jobExecutionId)) > 0) {
+            if (open != reported) {
+                log.info("### 남은 파티션: {}", open);
+                reported = open;
+            }
+            if (!timeout.isZero() && System.nanoTime() - deadline > 0) {
+                throw new TimeoutException("파티션 " + open + "개가 " + timeout.toSeconds() + "초 안에 끝나지 않았습니다");
+            }
+            Thread.sleep(pollInterval.toMillis());
+        }
+    }
+
+}
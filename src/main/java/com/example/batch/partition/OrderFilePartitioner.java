@@ -0,0 +1,105 @@
+package com.example.batch.partition;
+
+import com.example.batch.reader.InputCompression;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 입력 CSV를 줄 경계에 맞춘 바이트 구간으로 나누는 Partitioner.
+ * 각 파티션의 ExecutionContext에 [startOffset, endOffset) 구간을 담아 워커 Step의 리더에 전달한다.
+ * 압축 입력은 중간부터 해제할 수 없으므로 파일 전체를 하나의 파티션으로 처리한다.
+ */
+@Slf4j
+public class OrderFilePartitioner implements Partitioner {
+
+    public static final String START_OFFSET_KEY = "startOffset";
+    public static final String END_OFFSET_KEY = "endOffset";
+
+    private static final int SCAN_BUFFER_SIZE = 8 * 1024;
+
+    private final String filePath;
+
+    public OrderFilePartitioner(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        if (InputCompression.of(filePath).isCompressed()) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(START_OFFSET_KEY, 0);
+            context.putLong(END_OFFSET_KEY, Long.MAX_VALUE);
+            log.info("압축 입력은 분할할 수 없어 단일 파티션으로 처리합니다: {}", filePath);
+            return Map.of("partition0", context);
+        }
+
+        Path path = Paths.get(filePath);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = nextLineStart(channel, 0, size);
+            long rangeSize = Math.max(1, (size - dataStart) / Math.max(1, gridSize));
+
+            Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+            long start = dataStart;
+            for (int i = 0; i < gridSize && start < size; i++) {
+                long end = (i == gridSize - 1) ? size : nextLineStart(channel, start + rangeSize, size);
+
+                ExecutionContext context = new ExecutionContext();
+                context.putLong(START_OFFSET_KEY, start);
+                context.putLong(END_OFFSET_KEY, end);
+                partitions.put("partition" + i, context);
+                log.info("파티션 생성: partition{} [{}, {})", i, start, end);
+
+                start = end;
+            }
+
+            if (partitions.isEmpty()) {
+                // 데이터가 없는 파일도 워커 Step은 한 번 실행되도록 빈 구간을 만든다
+                ExecutionContext context = new ExecutionContext();
+                context.putLong(START_OFFSET_KEY, dataStart);
+                context.putLong(END_OFFSET_KEY, dataStart);
+                partitions.put("partition0", context);
+            }
+            return partitions;
+        } catch (IOException e) {
+            throw new UncheckedIOException("입력 파일을 분할할 수 없습니다: " + filePath, e);
+        }
+    }
+
+    /**
+     * from 이후 처음 시작하는 줄의 오프셋. from-1 위치가 줄바꿈이면 from 자체가 줄의 시작이다.
+     */
+    private long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+        if (from <= 0) {
+            from = 1;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long position = from - 1;
+        while (position < size) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.example.batch.partition;
+
+import org.springframework.batch.core.StepExecution;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * batch_partition_work 테이블 접근. 파티션(StepExecution) 하나가 한 행이며 READY → CLAIMED → COMPLETED / FAILED로 진행한다.
+ * 시각은 모두 DB의 NOW(3)을 기준으로 기록/비교하므로 노드 간 시계 차이가 임대 만료 판단에 영향을 주지 않는다.
+ */
+@Component
+public class PartitionWorkRepository {
+
+    public static final String READY = "READY";
+    public static final String CLAIMED = "CLAIMED";
+    public static final String COMPLETED = "COMPLETED";
+    public static final String FAILED = "FAILED";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO batch_partition_work
+                (step_execution_id, job_execution_id, step_name, start_offset, end_offset, status)
+            VALUES (?, ?, ?, ?, ?, 'READY')
+            """;
+
+    // 다른 워커가 잠근 행은 기다리지 않고 건너뛴다. heartbeat가 끊긴 CLAIMED 행도 다시 가져갈 수 있다
+    private static final String CLAIM_SQL = """
+            SELECT step_execution_id, job_execution_id, step_name
+            FROM batch_partition_work
+            WHERE status = 'READY'
+               OR (status = 'CLAIMED' AND heartbeat_at < TIMESTAMPADD(MICROSECOND, ?, NOW(3)))
+            ORDER BY step_execution_id
+            LIMIT 1
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public PartitionWorkRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * 워커가 가져간 파티션.
+     *
+     * @param stepName 실행할 워커 Step 빈 이름
+     */
+    public record PartitionWork(long stepExecutionId, long jobExecutionId, String stepName, int claimCount) {
+    }
+
+    /**
+     * 파티션 StepExecution들을 READY 상태로 게시한다. 구간(startOffset/endOffset)은 조회용으로만 함께 기록한다.
+     */
+    public void publish(long jobExecutionId, String stepName, Collection<StepExecution> partitions) {
+        List<Object[]> rows = new ArrayList<>(partitions.size());
+        for (StepExecution partition : partitions) {
+            rows.add(new Object[]{partition.getId(), jobExecutionId, stepName,
+                    partition.getExecutionContext().get(OrderFilePartitioner.START_OFFSET_KEY),
+                    partition.getExecutionContext().get(OrderFilePartitioner.END_OFFSET_KEY)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * 실행할 파티션 하나를 가져간다.
+     *
+     * @return 가져갈 파티션이 없으면 null
+     */
+    public PartitionWork claim(String workerId, Duration leaseTimeout) {
+        return transactionTemplate.execute(status -> {
+            List<PartitionWork> candidates = jdbcTemplate.query(CLAIM_SQL,
+                    (rs, rowNum) -> new PartitionWork(rs.getLong(1), rs.getLong(2), rs.getString(3), 0),
+                    -leaseTimeout.toNanos() / 1000);
+            if (candidates.isEmpty()) {
+                return null;
+            }
+            PartitionWork work = candidates.get(0);
+            jdbcTemplate.update("""
+                    UPDATE batch_partition_work
+                    SET status = 'CLAIMED', worker_id = ?, claim_count = claim_count + 1, heartbeat_at = NOW(3)
+                    WHERE step_execution_id = ?
+                    """, workerId, work.stepExecutionId());
+            Integer claimCount = jdbcTemplate.queryForObject(
+                    "SELECT claim_count FROM batch_partition_work WHERE step_execution_id = ?",
+                    Integer.class, work.stepExecutionId());
+            return new PartitionWork(work.stepExecutionId(), work.jobExecutionId(), work.stepName(), claimCount);
+        });
+    }
+
+    /**
+     * 임대를 연장한다.
+     *
+     * @return 다른 워커가 이미 가져갔으면 false
+     */
+    public boolean heartbeat(long stepExecutionId, String workerId) {
+        return jdbcTemplate.update("""
+                UPDATE batch_partition_work SET heartbeat_at = NOW(3)
+                WHERE step_execution_id = ? AND worker_id = ? AND status = 'CLAIMED'
+                """, stepExecutionId, workerId) > 0;
+    }
+
+    /**
+     * 파티션 실행 결과를 기록한다. 임대를 잃은 워커의 기록은 무시된다.
+     */
+    public void finish(long stepExecutionId, String workerId, String status) {
+        jdbcTemplate.update("""
+                UPDATE batch_partition_work SET status = ?, heartbeat_at = NOW(3)
+                WHERE step_execution_id = ? AND worker_id = ? AND status = 'CLAIMED'
+                """, status, stepExecutionId, workerId);
+    }
+
+    /**
+     * 아직 끝나지 않은(READY / CLAIMED) 파티션 수.
+     */
+    public int countOpen(long jobExecutionId) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM batch_partition_work
+                WHERE job_execution_id = ? AND status IN ('READY', 'CLAIMED')
+                """, Integer.class, jobExecutionId);
+        return count == null ? 0 : count;
+    }
+
+}
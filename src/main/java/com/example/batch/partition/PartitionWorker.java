@@ -0,0 +1,226 @@
+package com.example.batch.partition;
+
+import com.example.batch.dedup.DuplicateOrderFilter;
+import com.example.batch.partition.PartitionWorkRepository.PartitionWork;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobInterruptedException;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.BooleanSupplier;
+
+/**
+ * batch_partition_work 테이블에서 파티션을 가져가(SKIP LOCKED) 워커 Step을 실행하는 워커.
+ * distributed 모드 manager JVM과 batch.job=worker로 띄운 JVM 모두에서 같은 방식으로 동작한다.
+ * <ul>
+ *     <li>StepExecution은 Job 저장소에서 다시 읽으므로, 죽은 워커의 파티션을 가져가면 마지막으로 커밋된 청크 다음부터 이어서 처리한다.</li>
+ *     <li>실행 중에는 heartbeat-interval마다 임대를 연장하고, 임대를 잃으면(다른 워커가 가져감) 다음 청크 경계에서 Step을 중단한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PartitionWorker {
+
+    private final PartitionWorkRepository workRepository;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final BeanFactory beanFactory;
+    private final DuplicateOrderFilter duplicateOrderFilter;
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName();  // pid@host
+    private final int workers;
+    private final Duration pollInterval;
+    private final Duration heartbeatInterval;
+    private final Duration leaseTimeout;
+    private final ThreadPoolTaskExecutor executor;
+    private final ThreadPoolTaskScheduler heartbeatScheduler;
+
+    // 이 JVM에서 실행한 파티션의 Job 실행 id → 실행 중인 파티션 수. 중복 검사 상태 정리에 쓴다
+    private final Map<Long, Integer> activeByJob = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Long>> finishedByJob = new ConcurrentHashMap<>();
+
+    public PartitionWorker(PartitionWorkRepository workRepository,
+                           JobExplorer jobExplorer,
+                           JobRepository jobRepository,
+                           BeanFactory beanFactory,
+                           DuplicateOrderFilter duplicateOrderFilter,
+                           @Value("${batch.distributed.workers:2}") int workers,
+                           @Value("${batch.distributed.poll-interval-ms:1000}") long pollIntervalMs,
+                           @Value("${batch.distributed.heartbeat-interval-ms:5000}") long heartbeatIntervalMs,
+                           @Value("${batch.distributed.lease-timeout-ms:30000}") long leaseTimeoutMs) {
+        this.workRepository = workRepository;
+        this.jobExplorer = jobExplorer;
+        this.jobRepository = jobRepository;
+        this.beanFactory = beanFactory;
+        this.duplicateOrderFilter = duplicateOrderFilter;
+        this.workers = workers;
+        this.pollInterval = Duration.ofMillis(pollIntervalMs);
+        this.heartbeatInterval = Duration.ofMillis(heartbeatIntervalMs);
+        this.leaseTimeout = Duration.ofMillis(leaseTimeoutMs);
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(1, workers));
+        executor.setMaxPoolSize(Math.max(1, workers));
+        executor.setThreadNamePrefix("partition-worker-");
+        executor.setDaemon(true);
+        executor.initialize();
+
+        this.heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("partition-heartbeat-");
+        heartbeatScheduler.setDaemon(true);
+        heartbeatScheduler.initialize();
+    }
+
+    public String getWorkerId() {
+        return workerId;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * batch.distributed.workers개의 워커 루프를 시작한다.
+     *
+     * @param stopped     true를 반환하면 실행 중인 파티션을 마친 뒤 종료
+     * @param idleTimeout 이 시간 동안 가져갈 파티션이 없으면 종료. 0이면 무제한
+     * @return 모든 루프가 끝나면 완료되는 Future
+     */
+    public CompletableFuture<Void> start(BooleanSupplier stopped, Duration idleTimeout) {
+        CompletableFuture<?>[] loops = new CompletableFuture<?>[workers];
+        for (int i = 0; i < workers; i++) {
+            loops[i] = CompletableFuture.runAsync(() -> run(stopped, idleTimeout), executor);
+        }
+        return CompletableFuture.allOf(loops);
+    }
+
+    private void run(BooleanSupplier stopped, Duration idleTimeout) {
+        long idleSince = System.nanoTime();
+        while (!stopped.getAsBoolean()) {
+            PartitionWork work;
+            try {
+                work = workRepository.claim(workerId, leaseTimeout);
+            } catch (RuntimeException e) {
+                log.warn("파티션을 가져오지 못했습니다. {}ms 후 재시도", pollInterval.toMillis(), e);
+                work = null;
+            }
+
+            if (work != null) {
+                execute(work);
+                idleSince = System.nanoTime();
+                continue;
+            }
+
+            releaseFinishedJobs();
+            if (!idleTimeout.isZero() && System.nanoTime() - idleSince > idleTimeout.toNanos()) {
+                return;
+            }
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void execute(PartitionWork work) {
+        StepExecution stepExecution = jobExplorer.getStepExecution(work.jobExecutionId(), work.stepExecutionId());
+        if (stepExecution == null) {
+            log.error("파티션 StepExecution을 찾을 수 없습니다: {}", work.stepExecutionId());
+            workRepository.finish(work.stepExecutionId(), workerId, PartitionWorkRepository.FAILED);
+            return;
+        }
+        if (stepExecution.getStatus() == BatchStatus.COMPLETED) {
+            // 이전 워커가 Step을 마쳤지만 작업 테이블에 기록하기 전에 죽은 경우
+            workRepository.finish(work.stepExecutionId(), workerId, PartitionWorkRepository.COMPLETED);
+            return;
+        }
+
+        log.info("### 파티션 실행: {} (worker={}, claim={}{})", stepExecution.getStepName(), workerId,
+                work.claimCount(), work.claimCount() > 1 ? ", 이전 워커 임대 만료로 재할당" : "");
+        activeByJob.merge(work.jobExecutionId(), 1, Integer::sum);
+        ScheduledFuture<?> heartbeat = heartbeatScheduler.scheduleAtFixedRate(
+                () -> heartbeat(stepExecution), heartbeatInterval);
+        try {
+            Step step = beanFactory.getBean(work.stepName(), Step.class);
+            step.execute(stepExecution);
+        } catch (JobInterruptedException e) {
+            stepExecution.setStatus(BatchStatus.STOPPED);
+            updateQuietly(stepExecution);
+        } catch (Throwable e) {
+            stepExecution.addFailureException(e);
+            stepExecution.setStatus(BatchStatus.FAILED);
+            updateQuietly(stepExecution);
+        } finally {
+            heartbeat.cancel(false);
+            activeByJob.merge(work.jobExecutionId(), -1, Integer::sum);
+            finishedByJob.computeIfAbsent(work.jobExecutionId(), id -> ConcurrentHashMap.newKeySet())
+                    .add(work.stepExecutionId());
+        }
+
+        boolean completed = stepExecution.getStatus() == BatchStatus.COMPLETED;
+        workRepository.finish(work.stepExecutionId(), workerId,
+                completed ? PartitionWorkRepository.COMPLETED : PartitionWorkRepository.FAILED);
+        log.info("### 파티션 종료: {} ({})", stepExecution.getStepName(), stepExecution.getStatus());
+    }
+
+    private void heartbeat(StepExecution stepExecution) {
+        try {
+            if (!workRepository.heartbeat(stepExecution.getId(), workerId)) {
+                log.warn("파티션 임대를 잃어 다음 청크에서 중단합니다: {}", stepExecution.getStepName());
+                stepExecution.setTerminateOnly();
+            }
+        } catch (RuntimeException e) {
+            // DB 일시 장애는 다음 주기에 다시 시도. lease-timeout 안에 회복되지 않으면 다른 워커가 가져간다
+            log.warn("heartbeat 실패: {}", stepExecution.getStepName(), e);
+        }
+    }
+
+    private void updateQuietly(StepExecution stepExecution) {
+        try {
+            jobRepository.update(stepExecution);
+        } catch (RuntimeException e) {
+            log.error("파티션 상태 저장 실패: {}", stepExecution.getStepName(), e);
+        }
+    }
+
+    /**
+     * manager가 다른 JVM이면 이 JVM에서는 afterJob이 호출되지 않으므로,
+     * 실행 중인 파티션이 없는 Job의 중복 검사 상태를 유휴 시점에 정리한다.
+     */
+    private void releaseFinishedJobs() {
+        for (Long jobExecutionId : finishedByJob.keySet()) {
+            if (activeByJob.getOrDefault(jobExecutionId, 0) == 0) {
+                Set<Long> stepExecutionIds = finishedByJob.remove(jobExecutionId);
+                activeByJob.remove(jobExecutionId);
+                if (stepExecutionIds != null) {
+                    duplicateOrderFilter.release(jobExecutionId, stepExecutionIds);
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatScheduler.shutdown();
+        executor.shutdown();
+    }
+
+}
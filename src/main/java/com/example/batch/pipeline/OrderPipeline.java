@@ -0,0 +1,293 @@
+package com.example.batch.pipeline;
+
+import com.example.batch.domain.Order;
+import com.example.batch.dto.OrderInputDto;
+import com.example.batch.error.PipelineAbortedException;
+import com.example.batch.processor.OrderItemProcessor;
+import com.example.batch.reader.ByteLineReader;
+import com.example.batch.reader.OrderLineMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 스레드 1개 → 처리 스레드 N개 → Step 스레드(쓰기)로 이어지는 파이프라인.
+ * <ul>
+ *     <li>읽기 스레드는 줄의 바이트만 입력 링의 미리 할당된 칸에 복사한다.</li>
+ *     <li>처리 스레드는 입력 링에서 시퀀스를 하나씩 가져가 토큰화와 {@link OrderItemProcessor#convert}를 실행하고,
+ *     같은 시퀀스의 출력 링 칸에 결과를 둔다.</li>
+ *     <li>Step 스레드는 {@link #next()}로 출력 링을 시퀀스 순서대로 꺼낸다. 청크 트랜잭션과 커밋은 기존 Step이 그대로 담당한다.</li>
+ * </ul>
+ * 링이 가득 차면 앞 단계가 기다리므로(backpressure) 메모리 사용량은 링 크기로 제한된다.
+ * 결과마다 그 줄 다음의 바이트 오프셋을 함께 전달하므로, Step 스레드가 마지막으로 꺼낸 아이템의 오프셋이 곧 재시작 위치다.
+ */
+@Slf4j
+public class OrderPipeline {
+
+    private static final class LineSlot {
+        private byte[] bytes = new byte[256];
+        private int length;
+        private long nextOffset;
+        private long lineNumber;
+
+        void set(byte[] line, int lineLength, long nextOffset, long lineNumber) {
+            if (bytes.length < lineLength) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, lineLength));
+            }
+            System.arraycopy(line, 0, bytes, 0, lineLength);
+            this.length = lineLength;
+            this.nextOffset = nextOffset;
+            this.lineNumber = lineNumber;
+        }
+    }
+
+    private static final class ResultSlot {
+        private OrderInputDto input;
+        private Order order;
+        private Exception readError;
+        private RuntimeException processError;
+        private long nextOffset;
+        private long lineNumber;
+    }
+
+    private final ByteLineReader lineReader;
+    private final String header;
+    private final Supplier<OrderLineMapper> lineMappers;
+    private final OrderItemProcessor processor;
+    private final Supplier<LocalDateTime> clock;
+    private final StepExecution stepExecution;
+    private final int workers;
+
+    private final SequenceRing<LineSlot> lines;
+    private final SequenceRing<ResultSlot> results;
+    private final AtomicLong nextToProcess = new AtomicLong();
+    private final List<Thread> threads = new ArrayList<>();
+    private long lineNumber;
+    private long startNanos;
+    private long endNanos;
+
+    // Step 스레드 전용
+    private long consumed;
+    private long nextOffset;
+    private long consumedLineNumber;
+
+    /**
+     * @param lineReader 헤더를 읽고 시작 위치로 이동해 둔 리더. 파이프라인이 닫는다
+     * @param lineNumber lineReader가 마지막으로 읽은 줄 번호
+     * @param clock      처리 스레드가 미래 날짜 검사에 쓸 시각 (processed_at은 StagedOrderProcessor가 Step 스레드에서 다시 찍음)
+     */
+    public OrderPipeline(ByteLineReader lineReader, long lineNumber, String header,
+                         Supplier<OrderLineMapper> lineMappers, OrderItemProcessor processor,
+                         Supplier<LocalDateTime> clock, StepExecution stepExecution,
+                         int workers, int bufferSize) {
+        this.lineReader = lineReader;
+        this.lineNumber = lineNumber;
+        this.header = header;
+        this.lineMappers = lineMappers;
+        this.processor = processor;
+        this.clock = clock;
+        this.stepExecution = stepExecution;
+        this.workers = Math.max(1, workers);
+        this.lines = new SequenceRing<>(bufferSize, LineSlot::new);
+        this.results = new SequenceRing<>(bufferSize, ResultSlot::new);
+        this.nextOffset = lineReader.position();
+        this.consumedLineNumber = lineNumber;
+    }
+
+    public void start() {
+        startNanos = System.nanoTime();
+        threads.add(new Thread(this::read, "pipeline-read"));
+        for (int i = 0; i < workers; i++) {
+            threads.add(new Thread(this::process, "pipeline-process-" + (i + 1)));
+        }
+        for (Thread thread : threads) {
+            thread.setDaemon(true);
+            thread.start();
+        }
+        log.info("### 파이프라인 시작: 처리 스레드 {}개, 링 크기 {}", workers, lines.capacity());
+    }
+
+    /**
+     * 다음 아이템을 파일 순서대로 꺼낸다. Step 스레드에서만 호출한다.
+     *
+     * @return 파일 끝이면 null
+     * @throws Exception 줄을 변환하지 못한 경우 (read skip 대상). 오프셋은 그 줄 다음으로 이미 넘어가 있다
+     */
+    public StagedOrder next() throws Exception {
+        ResultSlot slot = results.await(consumed);
+        if (slot == null) {
+            return null;
+        }
+        OrderInputDto input = slot.input;
+        Order order = slot.order;
+        Exception readError = slot.readError;
+        RuntimeException processError = slot.processError;
+        nextOffset = slot.nextOffset;
+        consumedLineNumber = slot.lineNumber;
+        results.release(consumed++);
+
+        if (readError != null) {
+            throw readError;
+        }
+        return new StagedOrder(input, order, processError);
+    }
+
+    /**
+     * Step 스레드가 마지막으로 꺼낸 줄 다음의 바이트 오프셋.
+     */
+    public long nextOffset() {
+        return nextOffset;
+    }
+
+    public long lineNumber() {
+        return consumedLineNumber;
+    }
+
+    /**
+     * 모든 스레드를 멈추고 기다린다. 읽기 스레드가 아직 돌고 있으면 중단시킨다.
+     */
+    public void close() {
+        IllegalStateException stop = new IllegalStateException("Step 종료");
+        lines.abort(stop);
+        results.abort(stop);
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        endNanos = System.nanoTime();
+    }
+
+    public SequenceRing<?> lineRing() {
+        return lines;
+    }
+
+    public SequenceRing<?> resultRing() {
+        return results;
+    }
+
+    public int workers() {
+        return workers;
+    }
+
+    /**
+     * 단계별로 기다린 시간을 정리한 한 줄 요약. 가장 덜 기다린 단계가 병목이다.
+     */
+    public String summary() {
+        long elapsed = Math.max(1, (endNanos == 0 ? System.nanoTime() : endNanos) - startNanos);
+        double readerBlocked = (double) lines.producerWaitNanos() / elapsed;
+        double processorStarved = (double) lines.consumerWaitNanos() / workers / elapsed;
+        double processorBlocked = (double) results.producerWaitNanos() / workers / elapsed;
+        double writerStarved = (double) results.consumerWaitNanos() / elapsed;
+
+        String bottleneck;
+        if (writerStarved < 0.1) {
+            bottleneck = "writer (Step 스레드가 거의 기다리지 않음)";
+        } else if (readerBlocked > processorStarved) {
+            bottleneck = "processor (입력 링이 가득 참)";
+        } else {
+            bottleneck = "reader (처리 스레드가 입력을 기다림)";
+        }
+        return String.format("%,dms 중 대기 비율 — reader: 입력 링 가득 %.0f%%, processor: 입력 대기 %.0f%% / 출력 링 가득 %.0f%%, "
+                        + "writer: 결과 대기 %.0f%% → 병목: %s",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), readerBlocked * 100, processorStarved * 100,
+                processorBlocked * 100, writerStarved * 100, bottleneck);
+    }
+
+    private void read() {
+        long sequence = 0;
+        try {
+            while (lineReader.readLine()) {
+                lineNumber++;
+                if (lineReader.lineLength() == 0) {
+                    continue;
+                }
+                lines.claim(sequence).set(lineReader.line(), lineReader.lineLength(), lineReader.position(), lineNumber);
+                lines.publish(sequence++);
+            }
+            lines.close(sequence);
+            results.close(sequence);
+        } catch (PipelineAbortedException e) {
+            // close()에 의한 중단
+        } catch (Throwable e) {
+            fail(e);
+        } finally {
+            try {
+                lineReader.close();
+            } catch (IOException e) {
+                log.warn("CSV 파일 닫기 실패", e);
+            }
+        }
+    }
+
+    private void process() {
+        StepSynchronizationManager.register(stepExecution);  // Step 범위 빈(ChunkClock 등) 사용
+        try {
+            OrderLineMapper lineMapper = lineMappers.get();
+            lineMapper.readHeader(header);
+            while (true) {
+                long sequence = nextToProcess.getAndIncrement();
+                LineSlot line = lines.await(sequence);
+                if (line == null) {
+                    return;
+                }
+
+                long lineOffset = line.nextOffset;
+                long number = line.lineNumber;
+                OrderInputDto input = null;
+                Exception readError = null;
+                try {
+                    input = lineMapper.map(line.bytes, line.length);
+                } catch (Exception e) {
+                    readError = e;
+                }
+                lines.release(sequence);
+
+                Order order = null;
+                RuntimeException processError = null;
+                if (input != null) {
+                    try {
+                        order = processor.convert(input, clock.get());
+                    } catch (RuntimeException e) {
+                        processError = e;
+                    }
+                }
+
+                ResultSlot result = results.claim(sequence);
+                result.input = input;
+                result.order = order;
+                result.readError = readError;
+                result.processError = processError;
+                result.nextOffset = lineOffset;
+                result.lineNumber = number;
+                results.publish(sequence);
+            }
+        } catch (PipelineAbortedException e) {
+            // close() 또는 다른 단계 실패에 의한 중단
+        } catch (Throwable e) {
+            fail(e);
+        } finally {
+            // release()는 Step 범위 빈의 소멸 콜백까지 실행하므로 등록 해제만 한다 (AsyncItemProcessor와 같은 방식)
+            StepSynchronizationManager.close();
+        }
+    }
+
+    private void fail(Throwable e) {
+        log.error("파이프라인 단계 실패: {}", Thread.currentThread().getName(), e);
+        lines.abort(e);
+        results.abort(e);
+    }
+
+}
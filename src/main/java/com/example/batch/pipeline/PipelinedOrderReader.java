@@ -0,0 +1,140 @@
+package com.example.batch.pipeline;
+
+import com.example.batch.metrics.OrderBatchMetrics;
+import com.example.batch.processor.OrderItemProcessor;
+import com.example.batch.reader.ByteLineReader;
+import com.example.batch.reader.InputCompression;
+import com.example.batch.reader.OrderLineMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+
+/**
+ * pipelined 모드 Step의 리더. open에서 {@link OrderPipeline}을 시작하고, read는 처리 스레드가 미리 검증/변환한 결과를 파일 순서대로 꺼낸다.
+ * 저장하는 재시작 위치는 읽기 스레드가 앞서 읽은 위치가 아니라 Step 스레드가 마지막으로 꺼낸 아이템 다음의 오프셋이므로,
+ * 청크가 커밋될 때 ExecutionContext에 남는 위치는 그 청크의 마지막 행과 정확히 일치한다.
+ * 저장 형식은 {@link com.example.batch.reader.OrderItemReader}와 같다(byte.offset / line.number).
+ */
+@Slf4j
+public class PipelinedOrderReader extends ItemStreamSupport implements ItemStreamReader<StagedOrder> {
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private static final String BYTE_OFFSET_KEY = "byte.offset";
+    private static final String LINE_NUMBER_KEY = "line.number";
+
+    private final String filePath;
+    private final Supplier<OrderLineMapper> lineMappers;
+    private final OrderItemProcessor processor;
+    private final Supplier<LocalDateTime> clock;
+    private final OrderBatchMetrics metrics;
+    private final int workers;
+    private final int bufferSize;
+
+    private OrderPipeline pipeline;
+    private StepExecution stepExecution;
+
+    /**
+     * @param workers    처리 스레드 수
+     * @param bufferSize 입력/출력 링 크기 (2의 거듭제곱으로 올림)
+     */
+    public PipelinedOrderReader(String filePath, Supplier<OrderLineMapper> lineMappers, OrderItemProcessor processor,
+                                Supplier<LocalDateTime> clock, OrderBatchMetrics metrics, int workers, int bufferSize) {
+        this.filePath = filePath;
+        this.lineMappers = lineMappers;
+        this.processor = processor;
+        this.clock = clock;
+        this.metrics = metrics;
+        this.workers = workers;
+        this.bufferSize = bufferSize;
+        setName("pipelinedOrderReader");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        Path path = Paths.get(filePath);
+        if (!Files.exists(path)) {
+            throw new IllegalArgumentException("파일이 존재하지 않습니다: " + filePath);
+        }
+
+        ByteLineReader lineReader = null;
+        try {
+            InputCompression compression = InputCompression.of(filePath);
+            lineReader = compression.isCompressed()
+                    ? new ByteLineReader(compression.open(path), BUFFER_SIZE)
+                    : new ByteLineReader(FileChannel.open(path, StandardOpenOption.READ), BUFFER_SIZE);
+            String header = readHeader(lineReader);
+            long lineNumber = 1;
+
+            if (executionContext.containsKey(getExecutionContextKey(BYTE_OFFSET_KEY))) {
+                long offset = executionContext.getLong(getExecutionContextKey(BYTE_OFFSET_KEY));
+                lineNumber = executionContext.getLong(getExecutionContextKey(LINE_NUMBER_KEY));
+                lineReader.seek(offset);
+                log.info("CSV 파일 재시작: {} (offset={}, line={})", filePath, offset, lineNumber);
+            } else {
+                log.info("CSV 파일 읽기 시작: {}", filePath);
+            }
+
+            stepExecution = StepSynchronizationManager.getContext().getStepExecution();
+            pipeline = new OrderPipeline(lineReader, lineNumber, header, lineMappers, processor, clock,
+                    stepExecution, workers, bufferSize);
+            metrics.registerPipeline(stepExecution, pipeline);
+            pipeline.start();
+        } catch (IOException e) {
+            if (lineReader != null) {
+                try {
+                    lineReader.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw new ItemStreamException("CSV 파일을 열 수 없습니다: " + filePath, e);
+        }
+    }
+
+    @Override
+    public StagedOrder read() throws Exception {
+        return pipeline.next();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (pipeline != null) {
+            executionContext.putLong(getExecutionContextKey(BYTE_OFFSET_KEY), pipeline.nextOffset());
+            executionContext.putLong(getExecutionContextKey(LINE_NUMBER_KEY), pipeline.lineNumber());
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (pipeline != null) {
+            pipeline.close();
+            log.info("### 파이프라인 종료: {}", pipeline.summary());
+            metrics.unregisterPipeline(stepExecution, pipeline);
+            pipeline = null;
+        }
+        super.close();
+    }
+
+    private String readHeader(ByteLineReader lineReader) throws IOException {
+        if (!lineReader.readLine()) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다: " + filePath);
+        }
+        String header = lineReader.lineAsString();
+        return header.startsWith("\uFEFF") ? header.substring(1) : header;
+    }
+
+}
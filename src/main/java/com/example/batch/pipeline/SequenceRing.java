@@ -0,0 +1,160 @@
+package com.example.batch.pipeline;
+
+import com.example.batch.error.PipelineAbortedException;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 시퀀스 번호로 칸을 찾는 고정 크기 링 버퍼. 칸 객체는 생성 시 한 번 만들어 두고 재사용한다.
+ * 시퀀스 s는 항상 s % capacity 칸을 쓰므로, 여러 생산자가 순서와 무관하게 채워도 소비자는 시퀀스 순서대로 꺼낼 수 있다.
+ * <ul>
+ *     <li>생산자: {@link #claim}으로 칸이 비기를 기다린 뒤 채우고 {@link #publish}</li>
+ *     <li>소비자: {@link #await}로 칸이 채워지기를 기다린 뒤 읽고 {@link #release}</li>
+ * </ul>
+ * 칸이 비거나 찰 때까지 기다린 시간을 생산자/소비자별로 누적해 어느 단계가 병목인지 보여 준다.
+ */
+public class SequenceRing<T> {
+
+    private static final int SPINS = 64;
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Object[] slots;
+    private final int mask;
+    // 칸마다 채워진 시퀀스와, 다음에 채울 수 있는 시퀀스
+    private final AtomicLongArray published;
+    private final AtomicLongArray writable;
+
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder releasedCount = new LongAdder();
+    private final LongAdder producerWaitNanos = new LongAdder();
+    private final LongAdder consumerWaitNanos = new LongAdder();
+
+    private volatile long end = Long.MAX_VALUE;
+    private volatile Throwable abortCause;
+
+    /**
+     * @param capacity 2의 거듭제곱으로 올림한다
+     */
+    public SequenceRing(int capacity, Supplier<T> slotFactory) {
+        int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+        this.slots = new Object[size];
+        this.mask = size - 1;
+        this.published = new AtomicLongArray(size);
+        this.writable = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            slots[i] = slotFactory.get();
+            published.set(i, i - size);
+            writable.set(i, i);
+        }
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * 시퀀스의 칸이 빌 때까지 기다린 뒤 채울 칸을 돌려준다.
+     */
+    @SuppressWarnings("unchecked")
+    public T claim(long sequence) {
+        int index = index(sequence);
+        if (writable.get(index) != sequence) {
+            long start = System.nanoTime();
+            int attempt = 0;
+            while (writable.get(index) != sequence) {
+                idle(attempt++);
+            }
+            producerWaitNanos.add(System.nanoTime() - start);
+        }
+        return (T) slots[index];
+    }
+
+    public void publish(long sequence) {
+        publishedCount.increment();
+        published.set(index(sequence), sequence);
+    }
+
+    /**
+     * 시퀀스의 칸이 채워질 때까지 기다린다.
+     *
+     * @return {@link #close}로 지정한 끝 시퀀스 이상이면 null
+     */
+    @SuppressWarnings("unchecked")
+    public T await(long sequence) {
+        int index = index(sequence);
+        if (published.get(index) != sequence) {
+            long start = System.nanoTime();
+            int attempt = 0;
+            while (published.get(index) != sequence) {
+                if (sequence >= end) {
+                    consumerWaitNanos.add(System.nanoTime() - start);
+                    return null;
+                }
+                idle(attempt++);
+            }
+            consumerWaitNanos.add(System.nanoTime() - start);
+        }
+        return (T) slots[index];
+    }
+
+    /**
+     * 칸을 다 읽었으니 다음 바퀴의 생산자가 쓸 수 있게 한다.
+     */
+    public void release(long sequence) {
+        releasedCount.increment();
+        writable.set(index(sequence), sequence + slots.length);
+    }
+
+    /**
+     * 생산이 끝났음을 알린다. 이 시퀀스 이상을 기다리는 소비자는 null을 받는다.
+     */
+    public void close(long endSequence) {
+        this.end = endSequence;
+    }
+
+    /**
+     * 기다리는 모든 스레드를 깨워 예외로 빠져나오게 한다.
+     */
+    public void abort(Throwable cause) {
+        this.abortCause = cause;
+    }
+
+    /**
+     * 채워졌지만 아직 소비되지 않은 칸 수.
+     */
+    public long occupancy() {
+        return Math.max(0, publishedCount.sum() - releasedCount.sum());
+    }
+
+    public long producerWaitNanos() {
+        return producerWaitNanos.sum();
+    }
+
+    public long consumerWaitNanos() {
+        return consumerWaitNanos.sum();
+    }
+
+    private int index(long sequence) {
+        return (int) (sequence & mask);
+    }
+
+    /**
+     * 잠깐은 바쁜 대기로, 이후에는 점점 길게 park한다.
+     */
+    private void idle(int attempt) {
+        Throwable cause = abortCause;
+        if (cause != null) {
+            throw new PipelineAbortedException(cause);
+        }
+        if (attempt < SPINS) {
+            Thread.onSpinWait();
+        } else {
+            LockSupport.parkNanos(Math.min(MAX_PARK_NANOS, 1_000L << Math.min(attempt - SPINS, 10)));
+        }
+    }
+
+}
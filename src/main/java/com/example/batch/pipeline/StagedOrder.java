@@ -0,0 +1,13 @@
+package com.example.batch.pipeline;
+
+import com.example.batch.domain.Order;
+import com.example.batch.dto.OrderInputDto;
+
+/**
+ * 처리 스레드가 미리 검증/변환해 둔 아이템. pipelined 모드 Step의 리더가 파일 순서대로 돌려준다.
+ *
+ * @param order 검증에 실패했으면 null
+ * @param error 검증/변환 중 발생한 예외. Step의 processor에서 다시 던져 process skip으로 처리된다
+ */
+public record StagedOrder(OrderInputDto input, Order order, RuntimeException error) {
+}
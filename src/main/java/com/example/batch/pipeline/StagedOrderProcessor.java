@@ -0,0 +1,35 @@
+package com.example.batch.pipeline;
+
+import com.example.batch.domain.Order;
+import com.example.batch.processor.OrderItemProcessor;
+import com.example.batch.validation.ChunkClock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * pipelined 모드 Step의 processor. 처리 스레드가 미리 만들어 둔 결과에 Step 스레드에서만 할 수 있는 처리
+ * (중복 order_id 검사, 거부 기록)를 마저 적용한다. 둘 다 청크 트랜잭션과 함께 되돌려져야 하는 상태를 가진다.
+ * <p>
+ * 처리 스레드는 청크보다 앞서 달리므로 변환 시점의 ChunkClock 값은 이전 청크의 시각일 수 있다. processed_at은
+ * 여기서 현재 청크의 시각으로 다시 찍어 다른 모드와 같이 한 청크의 행이 같은 처리 시각을 갖게 한다.
+ * 미래 날짜 검사는 처리 스레드가 읽은 시각을 그대로 쓰므로 최대 버퍼 크기만큼 앞선 청크의 시각 기준이다.
+ */
+@RequiredArgsConstructor
+public class StagedOrderProcessor implements ItemProcessor<StagedOrder, Order> {
+
+    private final OrderItemProcessor delegate;
+    private final ChunkClock chunkClock;
+
+    @Override
+    public Order process(StagedOrder item) {
+        if (item.error() != null) {
+            throw item.error();
+        }
+        Order order = delegate.complete(item.input(), item.order());
+        if (order != null) {
+            order.setProcessedAt(chunkClock.now());
+        }
+        return order;
+    }
+
+}
@@ -0,0 +1,214 @@
+package com.example.batch.policy;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ItemProcessListener;
+import org.springframework.batch.core.ItemReadListener;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.repeat.CompletionPolicy;
+import org.springframework.batch.repeat.RepeatContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.batch.repeat.context.RepeatContextSupport;
+
+import java.time.Duration;
+
+/**
+ * 측정한 청크 처리 시간에 맞춰 청크 크기를 조절하는 CompletionPolicy.
+ * 청크마다 읽기/처리/쓰기/커밋 시간을 재고, 초당 처리 건수에 목표 지연 시간을 곱한 값으로
+ * 다음 청크 크기를 정한다. 한 번에 2배 이상 늘거나 절반 이하로 줄지 않으며 [min, max] 범위를 벗어나지 않는다.
+ * 선택한 크기는 Step ExecutionContext에 저장되어 재시작 시 그 크기부터 다시 시작한다.
+ * Step마다 상태를 가지므로 반드시 @StepScope 빈으로 등록해야 한다.
+ */
+@Slf4j
+public class AdaptiveChunkCompletionPolicy extends ItemStreamSupport
+        implements CompletionPolicy, ChunkListener,
+        ItemReadListener<Object>, ItemProcessListener<Object, Object>, ItemWriteListener<Object> {
+
+    private static final String CHUNK_SIZE_KEY = "size";
+    private static final String RATE_KEY = "rate";
+    private static final String LAST_READ_MS_KEY = "last.read.ms";
+    private static final String LAST_PROCESS_MS_KEY = "last.process.ms";
+    private static final String LAST_WRITE_MS_KEY = "last.write.ms";
+    private static final String LAST_COMMIT_MS_KEY = "last.commit.ms";
+
+    /** 처리율 평활 계수. 클수록 최근 청크의 측정값을 더 많이 반영한다. */
+    private static final double SMOOTHING = 0.3;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetLatencyNanos;
+
+    private int chunkSize;
+    private double itemsPerSecond;
+
+    private long chunkStart;
+    private long phaseStart;
+    private long writeEnd;
+    private int itemsRead;
+    private long readNanos;
+    private long processNanos;
+    private long writeNanos;
+    private long commitNanos;
+
+    public AdaptiveChunkCompletionPolicy(int initialSize, int minSize, int maxSize, Duration targetLatency) {
+        if (minSize < 1 || minSize > maxSize) {
+            throw new IllegalArgumentException("청크 크기 범위가 올바르지 않습니다: [" + minSize + ", " + maxSize + "]");
+        }
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.targetLatencyNanos = targetLatency.toNanos();
+        this.chunkSize = clamp(initialSize);
+        setName("adaptiveChunk");
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    // ---- CompletionPolicy ----
+
+    @Override
+    public RepeatContext start(RepeatContext parent) {
+        return new RepeatContextSupport(parent);
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context, RepeatStatus result) {
+        return result == null || !result.isContinuable() || isComplete(context);
+    }
+
+    @Override
+    public boolean isComplete(RepeatContext context) {
+        return context.getStartedCount() >= chunkSize;
+    }
+
+    @Override
+    public void update(RepeatContext context) {
+        ((RepeatContextSupport) context).increment();
+    }
+
+    // ---- ItemStream: 선택한 청크 크기를 커밋과 함께 저장 ----
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (executionContext.containsKey(getExecutionContextKey(CHUNK_SIZE_KEY))) {
+            chunkSize = clamp(executionContext.getInt(getExecutionContextKey(CHUNK_SIZE_KEY)));
+            itemsPerSecond = executionContext.getDouble(getExecutionContextKey(RATE_KEY), 0);
+            log.info("저장된 청크 크기로 재시작: {}", chunkSize);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        executionContext.putInt(getExecutionContextKey(CHUNK_SIZE_KEY), chunkSize);
+        executionContext.putDouble(getExecutionContextKey(RATE_KEY), itemsPerSecond);
+        executionContext.putLong(getExecutionContextKey(LAST_READ_MS_KEY), toMillis(readNanos));
+        executionContext.putLong(getExecutionContextKey(LAST_PROCESS_MS_KEY), toMillis(processNanos));
+        executionContext.putLong(getExecutionContextKey(LAST_WRITE_MS_KEY), toMillis(writeNanos));
+        executionContext.putLong(getExecutionContextKey(LAST_COMMIT_MS_KEY), toMillis(commitNanos));
+    }
+
+    // ---- 청크 단위 측정 ----
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        chunkStart = System.nanoTime();
+        writeEnd = 0;
+        itemsRead = 0;
+        readNanos = 0;
+        processNanos = 0;
+        writeNanos = 0;
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        long now = System.nanoTime();
+        long chunkNanos = now - chunkStart;
+        commitNanos = writeEnd > 0 ? now - writeEnd : 0;
+
+        // 롤백 후 재처리처럼 새로 읽은 아이템이 없는 청크는 처리율 계산에서 제외
+        if (itemsRead == 0 || chunkNanos <= 0) {
+            return;
+        }
+
+        double measured = itemsRead * 1_000_000_000.0 / chunkNanos;
+        itemsPerSecond = itemsPerSecond == 0 ? measured : SMOOTHING * measured + (1 - SMOOTHING) * itemsPerSecond;
+
+        int ideal = (int) Math.min(Integer.MAX_VALUE, itemsPerSecond * targetLatencyNanos / 1_000_000_000.0);
+        int next = clamp(Math.max(chunkSize / 2, Math.min(chunkSize * 2, ideal)));
+
+        if (next != chunkSize) {
+            log.debug("청크 크기 조정: {} -> {} ({}건/초, 청크 {}ms: 읽기 {}ms, 처리 {}ms, 쓰기 {}ms, 커밋 {}ms)",
+                    chunkSize, next, (long) itemsPerSecond, toMillis(chunkNanos),
+                    toMillis(readNanos), toMillis(processNanos), toMillis(writeNanos), toMillis(commitNanos));
+            chunkSize = next;
+        }
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        // 실패한 청크는 크기를 절반으로 줄여 다음 시도에서 롤백 범위를 줄인다
+        chunkSize = clamp(chunkSize / 2);
+    }
+
+    @Override
+    public void beforeRead() {
+        phaseStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterRead(Object item) {
+        readNanos += System.nanoTime() - phaseStart;
+        itemsRead++;
+    }
+
+    @Override
+    public void onReadError(Exception ex) {
+        readNanos += System.nanoTime() - phaseStart;
+    }
+
+    @Override
+    public void beforeProcess(Object item) {
+        phaseStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterProcess(Object item, Object result) {
+        processNanos += System.nanoTime() - phaseStart;
+    }
+
+    @Override
+    public void onProcessError(Object item, Exception e) {
+        processNanos += System.nanoTime() - phaseStart;
+    }
+
+    @Override
+    public void beforeWrite(Chunk<?> items) {
+        phaseStart = System.nanoTime();
+    }
+
+    @Override
+    public void afterWrite(Chunk<?> items) {
+        writeEnd = System.nanoTime();
+        writeNanos += writeEnd - phaseStart;
+    }
+
+    @Override
+    public void onWriteError(Exception exception, Chunk<?> items) {
+        writeNanos += System.nanoTime() - phaseStart;
+    }
+
+    private int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+
+    private static long toMillis(long nanos) {
+        return nanos / 1_000_000;
+    }
+
+}
@@ -1,38 +1,50 @@
 package com.example.batch.processor;
 
+import com.example.batch.dedup.DuplicateOrderFilter;
 import com.example.batch.domain.Order;
 import com.example.batch.dto.OrderInputDto;
-import com.example.batch.error.ValidationException;
+import com.example.batch.validation.ChunkClock;
+import com.example.batch.validation.OrderValidator;
+import com.example.batch.writer.RejectedOrderSink;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.item.ItemProcessor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class OrderItemProcessor implements ItemProcessor<OrderInputDto, Order> {
 
-    private static final DateTimeFormatter DATE_FORMATTER =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private final RejectedOrderSink rejectedOrderSink;
+    private final DuplicateOrderFilter duplicateOrderFilter;
+    private final OrderValidator orderValidator;
+    private final ChunkClock chunkClock;
 
     @Override
     public Order process(OrderInputDto item) throws Exception {
         log.debug("데이터 처리 시작: {}", item.getOrderId());
 
-        // 1. 유효성 검증
-        validateItem(item);
+        // 미래 날짜 검사와 처리 시각은 청크 시작 시각 기준
+        return complete(item, convert(item, chunkClock.now()));
+    }
 
+    /**
+     * 1. 유효성 검증 후 유효하면 Order로 변환한다.
+     * 공유 상태를 바꾸지 않으므로 pipelined 모드의 처리 스레드처럼 청크 경계와 무관하게 미리 실행해도 된다.
+     *
+     * @return 검증에 실패하면 null (item에 사유가 기록됨)
+     */
+    public Order convert(OrderInputDto item, LocalDateTime now) {
+        validateItem(item, now);
         if (!item.isValid()) {
-            log.warn("데이터 유효성 검증 실패 - Order ID: {}, 이유: {}", item.getOrderId(), item.getErrorMessage());
-            // return null; // 필터링
-            throw new ValidationException(item.getErrorMessage());
+            return null;
         }
 
         // 2. 데이터 변환 및 Order 객체 생성
-        Order order = Order.builder()
+        return Order.builder()
                 .orderId(item.getOrderId())
                 .customerName(item.getCustomerName())
                 .productName(item.getProductName())
@@ -41,82 +53,38 @@ public class OrderItemProcessor implements ItemProcessor<OrderInputDto, Order> {
                 .totalAmount(item.getPrice() * item.getQuantity())
                 .orderDate(item.getOrderDate())
                 .status("PROCESSED")
-                .processedAt(LocalDateTime.now())
+                .processedAt(now)
                 .build();
-
-        log.debug("데이터 처리 완료: {}", order.getOrderId());
-        return order;
     }
 
-    private void validateItem(OrderInputDto item) {
-        // 기본값 설정
-        item.setValid(true);
-
-        // 필수 필드 검증
-        if (item.getOrderId() == null || item.getOrderId().trim().isEmpty()) {
-            markInvalid(item, "Order ID is required");
-            return;
+    /**
+     * 청크 안에서 실행해야 하는 나머지 단계. 중복 검사 등록과 거부 목록은 청크 롤백/커밋에 맞춰 관리되기 때문이다.
+     *
+     * @param order {@link #convert}의 결과
+     * @return 거부되면 null
+     */
+    public Order complete(OrderInputDto item, Order order) {
+        // 유효한 행만 중복 검사 대상으로 등록 (같은 파일에서 먼저 나온 order_id가 있으면 거부)
+        if (item.isValid() && duplicateOrderFilter.isDuplicate(item.getOrderId())) {
+            markInvalid(item, "Duplicate order_id in input file");
         }
 
-        if (item.getCustomerName() == null || item.getCustomerName().trim().isEmpty()) {
-            markInvalid(item, "Customer name is required");
-            return;
-        }
-
-        if (item.getProductName() == null || item.getProductName().trim().isEmpty()) {
-            markInvalid(item, "Product name is required");
-            return;
-        }
-
-        // 수량 검증
-        try {
-            int quantity = Integer.parseInt(item.getQuantityStr());
-            if (quantity <= 0) {
-                markInvalid(item, "Quantity must be greater than 0");
-                return;
-            }
-            if (quantity > 1000) {
-                markInvalid(item, "Quantity cannot exceed 1000");
-                return;
-            }
-            item.setQuantity(quantity);
-        } catch (NumberFormatException e) {
-            markInvalid(item, "Invalid quantity format: " + item.getQuantityStr());
-            return;
-        }
-
-        // 가격 검증
-        try {
-            Long price = Long.parseLong(item.getPriceStr());
-            if (price <= 0) {
-                markInvalid(item, "Price must be greater than 0");
-                return;
-            }
-            if (price > 1000000) {
-                markInvalid(item, "Price cannot exceed 1,000,000");
-                return;
-            }
-            item.setPrice(price);
-        } catch (NumberFormatException e) {
-            markInvalid(item, "Invalid price format: " + item.getPriceStr());
-            return;
+        if (!item.isValid()) {
+            log.debug("데이터 유효성 검증 실패 - Order ID: {}, 이유: {}", item.getOrderId(), item.getErrorMessage());
+            // 예외 대신 필터링: 청크 롤백/재스캔 없이 거부 파일로 보냄
+            rejectedOrderSink.reject(item);
+            return null;
         }
 
-        // 주문일자 검증
-        try {
-            if (item.getOrderDateStr() == null || item.getOrderDateStr().trim().isEmpty()) {
-                markInvalid(item, "Order date is required");
-                return;
-            }
+        log.debug("데이터 처리 완료: {}", order.getOrderId());
+        return order;
+    }
 
-            LocalDateTime orderDate = LocalDateTime.parse(item.getOrderDateStr(), DATE_FORMATTER);
-            if (orderDate.isAfter(LocalDateTime.now())) {
-                markInvalid(item, "Order date cannot be in the future");
-                return;
-            }
-            item.setOrderDate(orderDate);
-        } catch (DateTimeParseException e) {
-            markInvalid(item, "Invalid date format. Expected: yyyy-MM-dd HH:mm:ss, Actual: " + item.getOrderDateStr());
+    private void validateItem(OrderInputDto item, LocalDateTime now) {
+        // batch.validation.rules를 컴파일한 검사를 순서대로 실행 (통과 시 수량/가격/주문일자가 채워짐)
+        String error = orderValidator.validate(item, now);
+        if (error != null) {
+            markInvalid(item, error);
             return;
         }
 
@@ -0,0 +1,169 @@
+package com.example.batch.reader;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * FileChannel(또는 압축 해제 스트림) 위에서 줄 단위로 바이트를 읽는 리더.
+ * 고정 크기 버퍼 하나와 재사용하는 줄 버퍼만 사용하므로 파일 크기와 무관하게 힙 사용량이 일정하고,
+ * 다음 줄의 바이트 오프셋을 추적하기 때문에 재시작 시 해당 위치로 바로 이동할 수 있다.
+ * 스트림은 임의 위치로 이동할 수 없으므로 앞으로 건너뛰는 방식으로만 이동한다.
+ */
+public class ByteLineReader implements Closeable {
+
+    private static final byte LF = '\n';
+    private static final byte CR = '\r';
+
+    private final FileChannel channel;
+    private final InputStream stream;
+    private final ByteBuffer buffer;
+
+    private byte[] line = new byte[256];
+    private int lineLength;
+    private long position;
+
+    public ByteLineReader(FileChannel channel, int bufferSize) throws IOException {
+        this.channel = channel;
+        this.stream = null;
+        this.buffer = ByteBuffer.allocateDirect(bufferSize);
+        this.buffer.flip();
+        this.position = channel.position();
+    }
+
+    /**
+     * 스트림의 처음부터 읽는다. 스트림에서 힙 배열로 바로 읽도록 힙 버퍼를 사용한다.
+     */
+    public ByteLineReader(InputStream stream, int bufferSize) {
+        this.channel = null;
+        this.stream = stream;
+        this.buffer = ByteBuffer.allocate(bufferSize);
+        this.buffer.flip();
+        this.position = 0;
+    }
+
+    /**
+     * 다음 줄을 읽어 내부 줄 버퍼에 채운다. 줄 끝의 CR/LF는 포함하지 않는다.
+     *
+     * @return 파일 끝에 도달해 더 읽을 줄이 없으면 false
+     */
+    public boolean readLine() throws IOException {
+        lineLength = 0;
+        boolean readAny = false;
+
+        while (true) {
+            if (!buffer.hasRemaining() && !fill()) {
+                return readAny;
+            }
+
+            int start = buffer.position();
+            int limit = buffer.limit();
+            for (int i = start; i < limit; i++) {
+                if (buffer.get(i) == LF) {
+                    append(start, i - start);
+                    buffer.position(i + 1);
+                    position += i + 1 - start;
+                    if (lineLength > 0 && line[lineLength - 1] == CR) {
+                        lineLength--;
+                    }
+                    return true;
+                }
+            }
+
+            append(start, limit - start);
+            buffer.position(limit);
+            position += limit - start;
+            readAny = true;
+        }
+    }
+
+    /**
+     * 지정한 바이트 오프셋으로 이동한다. 오프셋은 항상 줄의 시작이어야 한다.
+     * 스트림은 현재 위치 이후로만 이동할 수 있으며, 그 사이의 바이트를 읽어서 버린다.
+     */
+    public void seek(long offset) throws IOException {
+        if (channel != null) {
+            channel.position(offset);
+            buffer.clear().flip();
+        } else {
+            skipForward(offset);
+        }
+        position = offset;
+        lineLength = 0;
+    }
+
+    public byte[] line() {
+        return line;
+    }
+
+    public int lineLength() {
+        return lineLength;
+    }
+
+    public String lineAsString() {
+        return new String(line, 0, lineLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 마지막으로 읽은 줄 바로 다음(= 다음 줄의 시작) 바이트 오프셋.
+     */
+    public long position() {
+        return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+        } else {
+            stream.close();
+        }
+    }
+
+    private boolean fill() throws IOException {
+        buffer.clear();
+        int read;
+        if (channel != null) {
+            read = channel.read(buffer);
+        } else {
+            read = stream.read(buffer.array(), 0, buffer.capacity());
+            if (read > 0) {
+                buffer.position(read);
+            }
+        }
+        buffer.flip();
+        return read > 0;
+    }
+
+    private void skipForward(long offset) throws IOException {
+        if (offset < position) {
+            throw new IOException("압축 스트림은 뒤로 이동할 수 없습니다: " + position + " -> " + offset);
+        }
+        long remaining = offset - position;
+        while (remaining > 0) {
+            if (!buffer.hasRemaining() && !fill()) {
+                throw new EOFException("저장된 위치가 스트림 끝을 넘습니다: " + offset);
+            }
+            int skip = (int) Math.min(remaining, buffer.remaining());
+            buffer.position(buffer.position() + skip);
+            remaining -= skip;
+        }
+    }
+
+    private void append(int from, int length) {
+        if (length == 0) {
+            return;
+        }
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.max(line.length * 2, lineLength + length));
+        }
+        buffer.get(from, line, lineLength, length);
+        lineLength += length;
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.example.batch.reader;
+
+import com.github.luben.zstd.ZstdInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * 입력 파일의 압축 형식. 확장자(.gz, .zst)로 판별하며, 압축 파일은 디스크에 풀지 않고 스트림으로 해제한다.
+ * 압축 스트림은 임의 위치로 이동할 수 없으므로 오프셋은 항상 해제된 바이트 기준이다.
+ */
+public enum InputCompression {
+
+    NONE,
+
+    /** 여러 멤버가 이어 붙은 gzip 파일도 하나의 스트림으로 읽는다 */
+    GZIP,
+
+    ZSTD;
+
+    /** 압축된 입력을 디스크에서 읽을 때 쓰는 버퍼 크기 */
+    static final int COMPRESSED_BUFFER_SIZE = 256 * 1024;
+
+    public static InputCompression of(String filePath) {
+        String name = filePath.toLowerCase();
+        if (name.endsWith(".gz")) {
+            return GZIP;
+        }
+        if (name.endsWith(".zst")) {
+            return ZSTD;
+        }
+        return NONE;
+    }
+
+    public boolean isCompressed() {
+        return this != NONE;
+    }
+
+    /**
+     * 압축을 해제하는 입력 스트림을 연다. NONE에는 사용하지 않는다(FileChannel로 직접 읽음).
+     */
+    public InputStream open(Path path) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(path), COMPRESSED_BUFFER_SIZE);
+        try {
+            return switch (this) {
+                case GZIP -> new GZIPInputStream(in, COMPRESSED_BUFFER_SIZE);
+                case ZSTD -> new ZstdInputStream(in);
+                case NONE -> in;
+            };
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.example.batch.reader;
+
+import com.example.batch.dto.OrderInputDto;
+import com.opencsv.CSVParser;
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.CSVReader;
+import com.opencsv.bean.HeaderColumnNameMappingStrategy;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * opencsv의 {@code @CsvBindByName} 매핑을 그대로 사용하는 기본 변환기.
+ */
+public class OpenCsvOrderLineMapper implements OrderLineMapper {
+
+    private final CSVParser csvParser = new CSVParserBuilder()
+            .withIgnoreLeadingWhiteSpace(true)
+            .build();
+
+    private HeaderColumnNameMappingStrategy<OrderInputDto> mappingStrategy;
+
+    @Override
+    public void readHeader(String header) {
+        mappingStrategy = new HeaderColumnNameMappingStrategy<>();
+        mappingStrategy.setType(OrderInputDto.class);
+        try (CSVReader headerReader = new CSVReader(new StringReader(header))) {
+            mappingStrategy.captureHeader(headerReader);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("CSV 헤더를 해석할 수 없습니다: " + header, e);
+        }
+    }
+
+    @Override
+    public OrderInputDto map(byte[] line, int length) throws Exception {
+        String[] fields = csvParser.parseLine(new String(line, 0, length, StandardCharsets.UTF_8));
+        return mappingStrategy.populateNewBean(fields);
+    }
+
+}
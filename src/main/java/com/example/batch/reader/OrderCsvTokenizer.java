@@ -0,0 +1,255 @@
+package com.example.batch.reader;
+
+import com.example.batch.columnar.NameDictionary;
+import com.example.batch.columnar.OrderColumns;
+import com.example.batch.dto.OrderInputDto;
+import com.example.batch.validation.OrderDateTimeParser;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 리플렉션 없이 주문 CSV 한 줄을 바이트 단위로 토큰화하는 변환기.
+ * 텍스트 컬럼만 UTF-8로 디코딩하고, quantity/price는 바이트에서 바로 정수로 파싱한다.
+ * 숫자로 파싱할 수 없는 값만 문자열로 남겨 기존 검증 메시지가 그대로 나오도록 한다.
+ * {@link #mapColumns}는 DTO 없이 컬럼 블록의 한 행으로 바로 옮긴다 (columnar 모드).
+ */
+public class OrderCsvTokenizer implements OrderLineMapper {
+
+    private static final String[] COLUMNS = {
+            "order_id", "customer_name", "product_name", "quantity", "price", "order_date"
+    };
+    private static final int ORDER_ID = 0;
+    private static final int CUSTOMER_NAME = 1;
+    private static final int PRODUCT_NAME = 2;
+    private static final int QUANTITY = 3;
+    private static final int PRICE = 4;
+    private static final int ORDER_DATE = 5;
+
+    private static final byte COMMA = ',';
+    private static final byte QUOTE = '"';
+
+    private final int[] columnPositions = new int[COLUMNS.length];
+
+    private int[] starts = new int[8];
+    private int[] ends = new int[8];
+    private boolean[] escaped = new boolean[8];
+    private int fieldCount;
+    private long parsedValue;
+
+    @Override
+    public void readHeader(String header) {
+        Arrays.fill(columnPositions, -1);
+        String[] names = header.split(",", -1);
+        for (int position = 0; position < names.length; position++) {
+            String name = names[position].trim();
+            if (name.length() >= 2 && name.charAt(0) == '"' && name.charAt(name.length() - 1) == '"') {
+                name = name.substring(1, name.length() - 1);
+            }
+            for (int column = 0; column < COLUMNS.length; column++) {
+                if (COLUMNS[column].equalsIgnoreCase(name)) {
+                    columnPositions[column] = position;
+                }
+            }
+        }
+    }
+
+    @Override
+    public OrderInputDto map(byte[] line, int length) {
+        tokenize(line, length);
+
+        OrderInputDto dto = new OrderInputDto();
+        dto.setOrderId(text(line, ORDER_ID));
+        dto.setCustomerName(text(line, CUSTOMER_NAME));
+        dto.setProductName(text(line, PRODUCT_NAME));
+        dto.setOrderDateStr(text(line, ORDER_DATE));
+
+        if (number(line, QUANTITY) && parsedValue >= Integer.MIN_VALUE && parsedValue <= Integer.MAX_VALUE) {
+            dto.setQuantity((int) parsedValue);
+        } else {
+            dto.setQuantityStr(text(line, QUANTITY));
+        }
+
+        if (number(line, PRICE)) {
+            dto.setPrice(parsedValue);
+        } else {
+            dto.setPriceStr(text(line, PRICE));
+        }
+
+        return dto;
+    }
+
+    /**
+     * 한 줄을 블록에 추가하고 컬럼 값을 채운다. order_id 외에는 문자열을 만들지 않는다:
+     * 고객명/상품명은 사전 코드로, quantity/price는 정수로, order_date는 epoch 초로 저장한다.
+     * 컬럼이 빠졌거나 숫자/날짜로 파싱할 수 없는 행은 값을 채우지 않고 남겨,
+     * 검증 단계에서 {@link #map}으로 다시 변환해 기존 검증 메시지를 만들게 한다.
+     *
+     * @return 추가된 행 번호
+     */
+    public int mapColumns(byte[] line, int length, OrderColumns block) {
+        int row = block.append(line, length);
+        tokenize(line, length);
+
+        String orderId = text(line, ORDER_ID);
+        int customer = code(line, CUSTOMER_NAME, block.customers());
+        int product = code(line, PRODUCT_NAME, block.products());
+        if (orderId == null || customer < 0 || product < 0) {
+            return row;
+        }
+
+        if (!number(line, QUANTITY) || parsedValue < Integer.MIN_VALUE || parsedValue > Integer.MAX_VALUE) {
+            return row;
+        }
+        int quantity = (int) parsedValue;
+        if (!number(line, PRICE)) {
+            return row;
+        }
+        long price = parsedValue;
+
+        int field = columnPositions[ORDER_DATE];
+        if (field < 0 || field >= fieldCount) {
+            return row;
+        }
+        long orderDate = OrderDateTimeParser.parseEpochSecond(line, starts[field], ends[field] - starts[field]);
+        if (orderDate == OrderDateTimeParser.INVALID) {
+            return row;
+        }
+
+        block.set(row, orderId, customer, product, quantity, price, orderDate);
+        return row;
+    }
+
+    private void tokenize(byte[] line, int length) {
+        fieldCount = 0;
+        int i = 0;
+
+        while (true) {
+            ensureCapacity(fieldCount + 1);
+
+            // 따옴표 밖의 선행 공백은 무시 (opencsv ignoreLeadingWhiteSpace와 동일)
+            while (i < length && (line[i] == ' ' || line[i] == '\t')) {
+                i++;
+            }
+
+            if (i < length && line[i] == QUOTE) {
+                int start = ++i;
+                boolean hasEscapedQuote = false;
+                while (i < length) {
+                    if (line[i] == QUOTE) {
+                        if (i + 1 < length && line[i + 1] == QUOTE) {
+                            hasEscapedQuote = true;
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                starts[fieldCount] = start;
+                ends[fieldCount] = i;
+                escaped[fieldCount] = hasEscapedQuote;
+                while (i < length && line[i] != COMMA) {
+                    i++;
+                }
+            } else {
+                int start = i;
+                while (i < length && line[i] != COMMA) {
+                    i++;
+                }
+                starts[fieldCount] = start;
+                ends[fieldCount] = i;
+                escaped[fieldCount] = false;
+            }
+
+            fieldCount++;
+            if (i >= length) {
+                return;
+            }
+            i++;
+        }
+    }
+
+    private String text(byte[] line, int column) {
+        int field = columnPositions[column];
+        if (field < 0 || field >= fieldCount) {
+            return null;
+        }
+
+        int start = starts[field];
+        int end = ends[field];
+        if (!escaped[field]) {
+            return new String(line, start, end - start, StandardCharsets.UTF_8);
+        }
+
+        byte[] unescaped = new byte[end - start];
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            unescaped[length++] = line[i];
+            if (line[i] == QUOTE) {
+                i++;
+            }
+        }
+        return new String(unescaped, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 텍스트 컬럼의 사전 코드. 컬럼이 없으면 -1.
+     */
+    private int code(byte[] line, int column, NameDictionary dictionary) {
+        int field = columnPositions[column];
+        if (field < 0 || field >= fieldCount) {
+            return -1;
+        }
+        if (escaped[field]) {
+            return dictionary.code(text(line, column));
+        }
+        return dictionary.code(line, starts[field], ends[field]);
+    }
+
+    /**
+     * 컬럼을 부호 있는 정수로 파싱해 {@link #parsedValue}에 담는다. 숫자가 아니거나 범위를 넘으면 false.
+     */
+    private boolean number(byte[] line, int column) {
+        int field = columnPositions[column];
+        if (field < 0 || field >= fieldCount) {
+            return false;
+        }
+
+        int i = starts[field];
+        int end = ends[field];
+        if (i == end) {
+            return false;
+        }
+
+        boolean negative = false;
+        if (line[i] == '-' || line[i] == '+') {
+            negative = line[i] == '-';
+            if (++i == end) {
+                return false;
+            }
+        }
+
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = line[i] - '0';
+            if (digit < 0 || digit > 9 || value > (Long.MAX_VALUE - digit) / 10) {
+                return false;
+            }
+            value = value * 10 + digit;
+        }
+
+        parsedValue = negative ? -value : value;
+        return true;
+    }
+
+    private void ensureCapacity(int size) {
+        if (size > starts.length) {
+            int capacity = starts.length * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            escaped = Arrays.copyOf(escaped, capacity);
+        }
+    }
+
+}
@@ -1,64 +1,156 @@
 package com.example.batch.reader;
 
 import com.example.batch.dto.OrderInputDto;
-import com.opencsv.bean.CsvToBean;
-import com.opencsv.bean.CsvToBeanBuilder;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.batch.item.ItemReader;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamReader;
+import org.springframework.batch.item.ItemStreamSupport;
 
-import java.io.File;
-import java.io.FileReader;
-import java.util.Iterator;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
+/**
+ * 주문 CSV를 한 줄씩 스트리밍으로 읽는 재시작 가능한 리더.
+ * 청크 커밋마다 다음 줄의 바이트 오프셋과 줄 번호를 ExecutionContext에 저장하고,
+ * 재시작 시에는 헤더만 다시 읽은 뒤 저장된 오프셋으로 바로 이동한다.
+ * 줄을 {@link OrderInputDto}로 바꾸는 일은 {@link OrderLineMapper}가 담당한다.
+ * 파티션 실행 시에는 [startOffset, endOffset) 구간에서 시작하는 줄만 읽는다.
+ * .gz / .zst 입력은 {@link InputCompression}으로 스트림 해제하며, 오프셋은 해제된 바이트 기준이라
+ * 재시작 시에는 처음부터 해제하면서 저장된 위치까지 건너뛴다(다시 파싱하지는 않는다).
+ * 줄은 따옴표와 관계없이 LF에서 나눈다. 따옴표 안에 줄바꿈이 있는 필드(opencsv CsvToBean은 한 행으로 읽었다)는
+ * 여러 줄로 나뉘어 각각 형식 오류가 되고, 읽기 오류로 스킵된다(skipLimit에 포함).
+ */
 @Slf4j
-public class OrderItemReader implements ItemReader<OrderInputDto> {
+public class OrderItemReader extends ItemStreamSupport implements ItemStreamReader<OrderInputDto> {
+
+    static final int BUFFER_SIZE = 1024 * 1024;
+
+    private static final String BYTE_OFFSET_KEY = "byte.offset";
+    private static final String LINE_NUMBER_KEY = "line.number";
 
-    private Iterator<OrderInputDto> orderIterator;
     private final String filePath;
+    private final OrderLineMapper lineMapper;
+
+    private long startOffset;
+    private long endOffset = Long.MAX_VALUE;
+
+    private ByteLineReader lineReader;
+    private long lineNumber;
 
     public OrderItemReader(String filePath) {
-        log.info("OrderItemReader 생성 - 파일 경로: {}", filePath);
+        this(filePath, new OpenCsvOrderLineMapper());
+    }
+
+    public OrderItemReader(String filePath, OrderLineMapper lineMapper) {
+        log.info("OrderItemReader 생성 - 파일 경로: {}, 변환기: {}", filePath, lineMapper.getClass().getSimpleName());
         this.filePath = filePath;
+        this.lineMapper = lineMapper;
+        setName("orderItemReader");
+    }
+
+    /**
+     * 읽을 바이트 구간을 지정한다. 두 오프셋 모두 줄의 시작이어야 한다.
+     */
+    public void setRange(long startOffset, long endOffset) {
+        this.startOffset = startOffset;
+        this.endOffset = endOffset;
     }
 
     @Override
-    public OrderInputDto read() throws Exception {
-        if (orderIterator == null) {
-            log.info("CSV 파일 읽기 시작: {}", filePath);
-            if (filePath == null || filePath.trim().isEmpty()) {
-                throw new IllegalArgumentException("파일 경로가 null이거나 비어있습니다.");
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            throw new IllegalArgumentException("파일 경로가 null이거나 비어있습니다.");
+        }
+
+        Path path = Paths.get(filePath);
+        if (!Files.exists(path)) {
+            throw new IllegalArgumentException("파일이 존재하지 않습니다: " + filePath);
+        }
+
+        try {
+            InputCompression compression = InputCompression.of(filePath);
+            lineReader = compression.isCompressed()
+                    ? new ByteLineReader(compression.open(path), BUFFER_SIZE)
+                    : new ByteLineReader(FileChannel.open(path, StandardOpenOption.READ), BUFFER_SIZE);
+            readHeader();
+
+            if (executionContext.containsKey(getExecutionContextKey(BYTE_OFFSET_KEY))) {
+                long offset = executionContext.getLong(getExecutionContextKey(BYTE_OFFSET_KEY));
+                lineNumber = executionContext.getLong(getExecutionContextKey(LINE_NUMBER_KEY));
+                lineReader.seek(offset);
+                log.info("CSV 파일 재시작: {} (offset={}, line={})", filePath, offset, lineNumber);
+            } else if (startOffset > lineReader.position()) {
+                lineReader.seek(startOffset);
+                log.info("CSV 파일 구간 읽기 시작: {} [{}, {})", filePath, startOffset, endOffset);
+            } else {
+                log.info("CSV 파일 읽기 시작: {}{}", filePath,
+                        compression.isCompressed() ? " (압축 해제: " + compression + ")" : "");
             }
-            orderIterator = readCsvFile().iterator();
+        } catch (IOException e) {
+            closeQuietly();
+            throw new ItemStreamException("CSV 파일을 열 수 없습니다: " + filePath, e);
         }
+    }
 
-        if (orderIterator.hasNext()) {
-            OrderInputDto order = orderIterator.next();
+    @Override
+    public OrderInputDto read() throws Exception {
+        while (lineReader.position() < endOffset && lineReader.readLine()) {
+            lineNumber++;
+            if (lineReader.lineLength() == 0) {
+                continue;
+            }
+
+            OrderInputDto order = lineMapper.map(lineReader.line(), lineReader.lineLength());
             log.debug("데이터 읽기: {}", order.getOrderId());
             return order;
-        } else {
-            log.info("모든 데이터 읽기 완료");
-            return null;
         }
+
+        log.info("모든 데이터 읽기 완료");
+        return null;
     }
 
-    private Iterable<OrderInputDto> readCsvFile() throws Exception {
-        if (filePath == null) {
-            throw new IllegalArgumentException("파일 경로가 null입니다.");
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (lineReader != null) {
+            executionContext.putLong(getExecutionContextKey(BYTE_OFFSET_KEY), lineReader.position());
+            executionContext.putLong(getExecutionContextKey(LINE_NUMBER_KEY), lineNumber);
         }
+    }
 
-        File file = new File(filePath);
-        if (!file.exists()) {
-            throw new IllegalArgumentException("파일이 존재하지 않습니다: " + filePath);
-        }
+    @Override
+    public void close() throws ItemStreamException {
+        closeQuietly();
+        super.close();
+    }
 
-        FileReader reader = new FileReader(file);
+    private void readHeader() throws IOException {
+        if (!lineReader.readLine()) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다: " + filePath);
+        }
+        lineNumber = 1;
 
-        CsvToBean<OrderInputDto> csvToBean = new CsvToBeanBuilder<OrderInputDto>(reader)
-                .withType(OrderInputDto.class)
-                .withIgnoreLeadingWhiteSpace(true)
-                .build();
+        String header = lineReader.lineAsString();
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+        lineMapper.readHeader(header);
+    }
 
-        return csvToBean;
+    private void closeQuietly() {
+        if (lineReader == null) {
+            return;
+        }
+        try {
+            lineReader.close();
+        } catch (IOException e) {
+            log.warn("CSV 파일 닫기 실패: {}", filePath, e);
+        }
+        lineReader = null;
     }
 
-}
\ No newline at end of file
+}
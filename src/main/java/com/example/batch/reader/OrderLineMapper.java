@@ -0,0 +1,18 @@
+package com.example.batch.reader;
+
+import com.example.batch.dto.OrderInputDto;
+
+/**
+ * CSV 한 줄의 바이트를 {@link OrderInputDto}로 변환한다.
+ * {@link OrderItemReader}는 줄 경계와 오프셋만 관리하고, 컬럼 해석은 이 구현체에 위임한다.
+ */
+public interface OrderLineMapper {
+
+    /**
+     * 헤더 줄을 받아 컬럼 위치를 결정한다. 첫 데이터 줄을 변환하기 전에 한 번 호출된다.
+     */
+    void readHeader(String header);
+
+    OrderInputDto map(byte[] line, int length) throws Exception;
+
+}
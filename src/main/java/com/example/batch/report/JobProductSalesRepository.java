@@ -0,0 +1,65 @@
+package com.example.batch.report;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * job_product_sales 테이블 접근. (JobExecution, Step, 상품)마다 한 행이며, 청크 트랜잭션 안에서 증분으로 더한다.
+ * 재시작된 Step은 새 JobExecution으로 이어서 쓰므로 리포트는 Job 인스턴스의 모든 실행을 합산한다.
+ */
+@Component
+public class JobProductSalesRepository {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO job_product_sales (job_execution_id, step_name, product_id, quantity, sales)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity),
+                                    sales = sales + VALUES(sales)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobProductSalesRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 상품별 판매 현황 한 줄.
+     */
+    public record ProductSales(String productName, long quantity, long sales) {
+    }
+
+    /**
+     * 이번 청크의 상품별 수량/매출을 더한다. 호출한 쪽의 트랜잭션에 참여한다.
+     *
+     * @param deltas 상품 id → {수량, 매출}
+     */
+    public void add(long jobExecutionId, String stepName, Map<Long, long[]> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        deltas.forEach((productId, delta) -> rows.add(new Object[]{jobExecutionId, stepName, productId, delta[0], delta[1]}));
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+    }
+
+    /**
+     * 여러 JobExecution의 상품별 판매 현황을 합산해 매출액 내림차순으로 반환한다.
+     */
+    public List<ProductSales> findByJobExecutionIds(Collection<Long> jobExecutionIds) {
+        if (jobExecutionIds.isEmpty()) {
+            return List.of();
+        }
+        String sql = "SELECT p.name, SUM(s.quantity), SUM(s.sales) FROM job_product_sales s"
+                + " JOIN products p ON p.id = s.product_id"
+                + " WHERE s.job_execution_id IN (" + String.join(", ", Collections.nCopies(jobExecutionIds.size(), "?")) + ")"
+                + " GROUP BY p.id, p.name ORDER BY SUM(s.sales) DESC, p.name";
+        return jdbcTemplate.query(sql,
+                (rs, rowNum) -> new ProductSales(rs.getString(1), rs.getLong(2), rs.getLong(3)),
+                jobExecutionIds.toArray());
+    }
+
+}
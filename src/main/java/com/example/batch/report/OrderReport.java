@@ -0,0 +1,98 @@
+package com.example.batch.report;
+
+import com.example.batch.domain.Order;
+import org.springframework.batch.item.ExecutionContext;
+
+/**
+ * 한 번의 Job 실행에서 저장한 주문의 건수/매출 합계.
+ * Step ExecutionContext에 저장/복원할 수 있고, 여러 Step(파티션)의 결과를 합칠 수 있다.
+ * 상품별 판매 현황은 상품 수만큼 커지므로 ExecutionContext(매 커밋마다 직렬화되어 저장)에 두지 않고
+ * job_product_sales 테이블에 기록한다 ({@link JobProductSalesRepository}).
+ */
+public class OrderReport {
+
+    static final String SUCCESS_COUNT_KEY = "orderReport.successCount";
+    static final String PROCESSED_COUNT_KEY = "orderReport.processedCount";
+    static final String TOTAL_SALES_KEY = "orderReport.totalSales";
+
+    private static final String PROCESSED_STATUS = "PROCESSED";
+
+    private long successCount;
+    private long processedCount;
+    private long totalSales;
+
+    /**
+     * 상품별 판매 현황에 포함되는 주문인지 (orders에 PROCESSED 상태로 저장된 주문).
+     */
+    static boolean isProcessed(Order order) {
+        return PROCESSED_STATUS.equals(order.getStatus());
+    }
+
+    /**
+     * orders / processed_orders 두 테이블에 저장된 주문 한 건을 반영한다.
+     */
+    public void add(Order order) {
+        processedCount++;
+        if (!isProcessed(order)) {
+            return;
+        }
+        successCount++;
+        totalSales += order.getTotalAmount();
+    }
+
+    /**
+     * 저장에 성공한 주문 한 건을 Order 없이 반영한다 (columnar 모드).
+     */
+    public void addProcessed(long totalAmount) {
+        processedCount++;
+        successCount++;
+        totalSales += totalAmount;
+    }
+
+    public void merge(OrderReport other) {
+        successCount += other.successCount;
+        processedCount += other.processedCount;
+        totalSales += other.totalSales;
+    }
+
+    public void clear() {
+        successCount = 0;
+        processedCount = 0;
+        totalSales = 0;
+    }
+
+    public boolean isEmpty() {
+        return processedCount == 0;
+    }
+
+    public long getSuccessCount() {
+        return successCount;
+    }
+
+    public long getProcessedCount() {
+        return processedCount;
+    }
+
+    public long getTotalSales() {
+        return totalSales;
+    }
+
+    public void saveTo(ExecutionContext executionContext) {
+        executionContext.putLong(SUCCESS_COUNT_KEY, successCount);
+        executionContext.putLong(PROCESSED_COUNT_KEY, processedCount);
+        executionContext.putLong(TOTAL_SALES_KEY, totalSales);
+    }
+
+    /**
+     * ExecutionContext에 저장된 집계를 더한다. 집계가 없는 Step(예: 파티션 매니저)은 무시한다.
+     */
+    public void mergeFrom(ExecutionContext executionContext) {
+        if (!executionContext.containsKey(PROCESSED_COUNT_KEY)) {
+            return;
+        }
+        successCount += executionContext.getLong(SUCCESS_COUNT_KEY);
+        processedCount += executionContext.getLong(PROCESSED_COUNT_KEY);
+        totalSales += executionContext.getLong(TOTAL_SALES_KEY);
+    }
+
+}
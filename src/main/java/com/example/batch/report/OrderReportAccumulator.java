@@ -0,0 +1,106 @@
+package com.example.batch.report;
+
+import com.example.batch.columnar.OrderColumns;
+import com.example.batch.columnar.OrderColumnsWriter;
+import com.example.batch.domain.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Composite Writer의 마지막 delegate로 동작하며, 저장에 성공한 주문을 청크 단위로 집계한다.
+ * 건수/매출 합계는 pending에 모았다가 커밋된 뒤(afterChunk) 누적 집계에 합치고, 롤백되면 버린다.
+ * 누적 집계는 커밋 직전에 Step ExecutionContext에 저장되므로 재시작 후에도 이어서 집계된다.
+ * 상품별 수량/매출은 청크 트랜잭션 안에서 job_product_sales에 바로 더하므로 청크와 함께 커밋/롤백된다.
+ */
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class OrderReportAccumulator implements ItemWriter<Order>, OrderColumnsWriter, ItemStream, ChunkListener {
+
+    private final JobProductSalesRepository jobProductSalesRepository;
+
+    @Value("#{stepExecution}")
+    private StepExecution stepExecution;
+
+    private final OrderReport committed = new OrderReport();
+    private final OrderReport pending = new OrderReport();
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        committed.clear();
+        committed.mergeFrom(executionContext);
+    }
+
+    @Override
+    public void write(Chunk<? extends Order> chunk) {
+        Map<Long, long[]> productDeltas = new TreeMap<>();
+        for (Order order : chunk) {
+            pending.add(order);
+            if (OrderReport.isProcessed(order)) {
+                addDelta(productDeltas, order.getProductId(), order.getQuantity(), order.getTotalAmount());
+            }
+        }
+        saveProductDeltas(productDeltas);
+    }
+
+    @Override
+    public void write(OrderColumns block) {
+        Map<Long, long[]> productDeltas = new TreeMap<>();
+        for (int row = 0; row < block.size(); row++) {
+            pending.addProcessed(block.totalAmount(row));
+            addDelta(productDeltas, block.productId(row), block.quantity(row), block.totalAmount(row));
+        }
+        saveProductDeltas(productDeltas);
+    }
+
+    private static void addDelta(Map<Long, long[]> productDeltas, long productId, long quantity, long totalAmount) {
+        long[] delta = productDeltas.computeIfAbsent(productId, id -> new long[2]);
+        delta[0] += quantity;
+        delta[1] += totalAmount;
+    }
+
+    private void saveProductDeltas(Map<Long, long[]> productDeltas) {
+        if (!productDeltas.isEmpty()) {
+            jobProductSalesRepository.add(stepExecution.getJobExecutionId(), stepExecution.getStepName(), productDeltas);
+        }
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        // 커밋 직전에 호출되므로 이번 청크의 집계까지 포함해 저장
+        OrderReport snapshot = new OrderReport();
+        snapshot.merge(committed);
+        snapshot.merge(pending);
+        snapshot.saveTo(executionContext);
+    }
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        pending.clear();
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        committed.merge(pending);
+        pending.clear();
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        pending.clear();
+    }
+
+}
@@ -0,0 +1,296 @@
+package com.example.batch.runner;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 상주(daemon) 모드. inbox 디렉터리를 WatchService로 감시하다가 파일이 도착하면 파일마다 processOrderJob을 실행한다.
+ * 한 JVM이 계속 떠 있으므로 파일마다 JVM/Spring/Hibernate 기동 비용을 치르지 않고 JIT도 데워진 상태를 유지한다.
+ * <ul>
+ *     <li>쓰기가 끝나지 않은 파일을 읽지 않도록 크기/수정 시각이 batch.watch.settle-ms 동안 변하지 않아야 처리한다.</li>
+ *     <li>처리할 파일은 processing 디렉터리에 "{시각}-{임의 8자}-{원래 이름}"으로 옮긴 뒤 최대 batch.watch.concurrency개까지 동시에 Job을 실행한다.
+ *     이름이 겹치지 않으므로 같은 이름의 파일이 다시 도착해도 처리 중이거나 실패한 파일을 덮어쓰지 않는다.</li>
+ *     <li>Job이 COMPLETED면 done 디렉터리로 옮긴다. 실패하면 processing에 그대로 두어(inputFile 경로 유지) 다음 기동 때
+ *     RestartableJobLocator가 같은 Job 인스턴스를 찾아 커밋된 위치부터 재시작한다.
+ *     같은 파일이 batch.watch.max-attempts번 실패하면 더 시도하지 않고 failed 디렉터리로 옮긴다.</li>
+ *     <li>기동 시 processing에 남은 파일(실패 또는 비정상 종료)은 제자리에서 다시 실행한다. 이 JVM만 processing을 처리하므로
+ *     STARTED로 남은 실행은 비정상 종료로 보고 FAILED로 바꾼 뒤 재시작한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "batch.watch.enabled", havingValue = "true")
+public class InboxWatchRunner implements CommandLineRunner {
+
+    private final Job processOrderJob;
+    private final JobRepository jobRepository;
+    private final JobExplorer jobExplorer;
+    private final RestartableJobLocator restartableJobLocator;
+
+    @Value("${batch.mode:chunk}")
+    private String mode;
+
+    @Value("${batch.watch.inbox-dir:inbox}")
+    private String inboxDir;
+
+    @Value("${batch.watch.processing-dir:inbox/processing}")
+    private String processingDir;
+
+    @Value("${batch.watch.done-dir:inbox/done}")
+    private String doneDir;
+
+    @Value("${batch.watch.failed-dir:inbox/failed}")
+    private String failedDir;
+
+    @Value("${batch.watch.pattern:*.{csv,csv.gz,csv.zst}}")
+    private String pattern;
+
+    @Value("${batch.watch.concurrency:2}")
+    private int concurrency;
+
+    @Value("${batch.watch.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${batch.watch.settle-ms:1000}")
+    private long settleMs;
+
+    @Value("${batch.watch.virtual-threads:false}")
+    private boolean virtualThreads;
+
+    private final Map<Path, FileState> candidates = new HashMap<>();
+
+    private volatile boolean running = true;
+    private WatchService watchService;
+    private TaskExecutorJobLauncher jobLauncher;
+    private TaskExecutor jobExecutor;
+
+    @Override
+    public void run(String... args) throws Exception {
+        Path inbox = Paths.get(inboxDir);
+        for (String dir : new String[]{inboxDir, processingDir, doneDir, failedDir}) {
+            Files.createDirectories(Paths.get(dir));
+        }
+        PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+
+        jobLauncher = new TaskExecutorJobLauncher();
+        jobLauncher.setJobRepository(jobRepository);
+        jobLauncher.setTaskExecutor(new SyncTaskExecutor()); // 작업 스레드 안에서 동기 실행
+        jobLauncher.afterPropertiesSet();
+        jobExecutor = jobExecutor();
+
+        recoverProcessing();
+
+        watchService = FileSystems.getDefault().newWatchService();
+        inbox.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        scan(inbox, matcher);
+        log.info("inbox 감시 시작: {} (패턴: {}, 동시 실행: {}, 실행 모드: {})", inbox.toAbsolutePath(), pattern, concurrency, mode);
+
+        try {
+            while (running) {
+                WatchKey key = watchService.poll(Math.max(settleMs / 2, 100), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                            // 이벤트가 유실되었으므로 디렉터리 전체를 다시 확인
+                            scan(inbox, matcher);
+                        } else {
+                            Path file = inbox.resolve((Path) event.context());
+                            if (matcher.matches(file.getFileName()) && Files.isRegularFile(file)) {
+                                candidates.putIfAbsent(file, new FileState());
+                            }
+                        }
+                    }
+                    key.reset();
+                }
+                submitSettledFiles();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            log.info("inbox 감시 종료");
+        } finally {
+            if (jobExecutor instanceof ThreadPoolTaskExecutor pool) {
+                pool.shutdown();  // 실행 중인 Job이 끝날 때까지 대기
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        running = false;
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private TaskExecutor jobExecutor() {
+        if (virtualThreads) {
+            // JDK 21 이상에서만 사용 가능. 동시 실행 수를 넘으면 감시 스레드가 빈 자리가 날 때까지 기다린다
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("inbox-job-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrency);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setThreadNamePrefix("inbox-job-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(Integer.MAX_VALUE);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이전 실행에서 끝나지 않은 processing 파일을 같은 경로로 다시 실행한다.
+     */
+    private void recoverProcessing() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(Paths.get(processingDir))) {
+            for (Path file : files) {
+                if (Files.isRegularFile(file)) {
+                    log.warn("이전 실행에서 끝나지 않은 파일을 이어서 처리합니다: {}", file.getFileName());
+                    jobExecutor.execute(() -> process(file, true));
+                }
+            }
+        }
+    }
+
+    private void scan(Path inbox, PathMatcher matcher) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(inbox)) {
+            for (Path file : files) {
+                if (matcher.matches(file.getFileName()) && Files.isRegularFile(file)) {
+                    candidates.putIfAbsent(file, new FileState());
+                }
+            }
+        }
+    }
+
+    /**
+     * 크기와 수정 시각이 settle-ms 동안 변하지 않은 파일을 processing으로 옮기고 Job 실행을 요청한다.
+     */
+    private void submitSettledFiles() {
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<Path, FileState>> iterator = candidates.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, FileState> entry = iterator.next();
+            Path file = entry.getKey();
+            FileState state = entry.getValue();
+            try {
+                if (!Files.exists(file)) {
+                    iterator.remove();
+                    continue;
+                }
+                long size = Files.size(file);
+                long modified = Files.getLastModifiedTime(file).toMillis();
+                if (size != state.size || modified != state.modified) {
+                    state.size = size;
+                    state.modified = modified;
+                    state.since = now;
+                    continue;
+                }
+                if (now - state.since < settleMs) {
+                    continue;
+                }
+
+                iterator.remove();
+                // ATOMIC_MOVE는 대상이 있으면 덮어쓸 수 있으므로 processing 안에서 겹치지 않는 이름을 쓴다
+                Path processing = Paths.get(processingDir).resolve(System.currentTimeMillis() + "-"
+                        + UUID.randomUUID().toString().substring(0, 8) + "-" + file.getFileName());
+                Files.move(file, processing, StandardCopyOption.ATOMIC_MOVE);
+                jobExecutor.execute(() -> process(processing, false));
+            } catch (IOException e) {
+                log.warn("파일 확인 실패, 다음 주기에 다시 시도합니다: {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * @param recovering 기동 시 processing에 남아 있던 파일이면 true. STARTED로 남은 이전 실행을 비정상 종료로 보고 재시작한다
+     */
+    private void process(Path file, boolean recovering) {
+        BatchStatus status = BatchStatus.FAILED;
+        JobExecution jobExecution = null;
+        try {
+            long inputFileSize = Files.size(file);
+            JobParameters jobParameters = restartableJobLocator
+                    .find(processOrderJob.getName(), file.toString(), mode, inputFileSize, recovering)
+                    .orElseGet(() -> new JobParametersBuilder()
+                            .addString("inputFile", file.toString())
+                            .addString("mode", mode)
+                            .addLong("time", System.currentTimeMillis())
+                            .addLong("inputFileSize", inputFileSize, false)
+                            .toJobParameters());
+
+            log.info("배치 작업 시작 - 입력 파일: {}, 실행 모드: {}", file, mode);
+            jobExecution = jobLauncher.run(processOrderJob, jobParameters);
+            status = jobExecution.getStatus();
+        } catch (Exception e) {
+            log.error("배치 작업 실행 중 오류 발생: {}", file, e);
+        }
+
+        Path targetDir;
+        if (status == BatchStatus.COMPLETED) {
+            targetDir = Paths.get(doneDir);
+        } else {
+            // 실행을 시작하지도 못한 경우(파라미터/저장소 오류 등)는 재시작할 인스턴스가 없으므로 바로 failed로 옮긴다
+            int attempts = jobExecution == null ? maxAttempts
+                    : jobExplorer.getJobExecutions(jobExecution.getJobInstance()).size();
+            if (attempts < maxAttempts) {
+                log.warn("배치 작업 종료 - 상태: {}, 다음 기동 때 이어서 실행하도록 {}에 남겨 둡니다 ({}/{}회)",
+                        status, file, attempts, maxAttempts);
+                return;
+            }
+            targetDir = Paths.get(failedDir);
+        }
+        try {
+            Path target = targetDir.resolve(file.getFileName());
+            Files.move(file, target);
+            log.info("배치 작업 종료 - 상태: {}, 파일 이동: {}", status, target);
+        } catch (IOException e) {
+            log.error("처리 완료 파일 이동 실패: {} -> {}", file, targetDir, e);
+        }
+    }
+
+    private static final class FileState {
+        private long size = -1;
+        private long modified = -1;
+        private long since;
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.example.batch.runner;
 
+import com.example.batch.partition.PartitionWorker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.batch.core.Job;
@@ -7,26 +8,60 @@ import org.springframework.batch.core.JobParameters;
 import org.springframework.batch.core.JobParametersBuilder;
 import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
 import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "batch.watch.enabled", havingValue = "false", matchIfMissing = true)
 public class JobRunner implements CommandLineRunner {
 
     private final Job processOrderJob;
+    private final Job exportProcessedOrdersJob;
     private final JobRepository jobRepository;
+    private final PartitionWorker partitionWorker;
+    private final RestartableJobLocator restartableJobLocator;
+
+    @Value("${batch.mode:chunk}")
+    private String mode;
+
+    @Value("${batch.job:process}")
+    private String job;
+
+    @Value("${batch.distributed.idle-exit-ms:0}")
+    private long workerIdleExitMs;
+
+    @Value("${batch.export.from:}")
+    private String exportFrom;
+
+    @Value("${batch.export.to:}")
+    private String exportTo;
+
+    @Value("${batch.export.output:}")
+    private String exportOutput;
 
     @Override
     public void run(String... args) throws Exception {
         log.info("JobRunner 실행 시작");
 
+        if ("export".equalsIgnoreCase(job)) {
+            runExport();
+            return;
+        }
+        if ("worker".equalsIgnoreCase(job)) {
+            runWorker();
+            return;
+        }
+
         // 입력 파일 경로
         String inputFile = "input/orders.csv";
 
@@ -45,14 +80,54 @@ public class JobRunner implements CommandLineRunner {
 
         log.info("입력 파일 확인 완료: {}", inputFile);
 
-        // Job 파라미터 설정
+        // 같은 파일의 실패/중지된 실행이 있으면 같은 파라미터로 재시작해 마지막 커밋 위치부터 이어서 읽는다
+        long inputFileSize = Files.size(inputPath);
+        JobParameters jobParameters = restartableJobLocator
+                .find(processOrderJob.getName(), inputFile, mode, inputFileSize)
+                .orElseGet(() -> new JobParametersBuilder()
+                        .addString("inputFile", inputFile)
+                        .addString("mode", mode)
+                        .addLong("time", System.currentTimeMillis())
+                        .addLong("inputFileSize", inputFileSize, false)  // 재시작 시 같은 파일인지 확인용
+                        .toJobParameters());
+
+        log.info("배치 작업 시작 - 입력 파일: {}, 실행 모드: {}", inputFile, mode);
+
+        launch(processOrderJob, jobParameters);
+    }
+
+    /**
+     * processed_orders를 batch.export.from ~ batch.export.to(주문일, 양 끝 포함) 기간으로 내보낸다.
+     */
+    private void runExport() throws Exception {
+        if (exportFrom.isBlank() || exportTo.isBlank()) {
+            throw new IllegalArgumentException("batch.export.from, batch.export.to를 지정해야 합니다 (yyyy-MM-dd)");
+        }
+        String outputFile = exportOutput.isBlank()
+                ? "export/processed_orders_" + exportFrom + "_" + exportTo + ".csv.gz"
+                : exportOutput;
+
         JobParameters jobParameters = new JobParametersBuilder()
-                .addString("inputFile", inputFile)
+                .addString("from", exportFrom)
+                .addString("to", exportTo)
+                .addString("outputFile", outputFile)
                 .addLong("time", System.currentTimeMillis())
                 .toJobParameters();
 
-        log.info("배치 작업 시작 - 입력 파일: {}", inputFile);
+        log.info("내보내기 작업 시작 - 기간: {} ~ {}, 출력 파일: {}", exportFrom, exportTo, outputFile);
+        launch(exportProcessedOrdersJob, jobParameters);
+    }
+
+    /**
+     * Job을 실행하지 않고, 다른 JVM의 distributed 모드 manager가 게시한 파티션을 가져가 실행한다.
+     */
+    private void runWorker() {
+        log.info("파티션 워커 시작 - worker: {}, 동시 파티션: {}", partitionWorker.getWorkerId(), partitionWorker.getWorkers());
+        partitionWorker.start(() -> false, Duration.ofMillis(workerIdleExitMs)).join();
+        log.info("파티션 워커 종료 - {}ms 동안 가져갈 파티션 없음", workerIdleExitMs);
+    }
 
+    private void launch(Job job, JobParameters jobParameters) throws Exception {
         try {
             // TaskExecutorJobLauncher 생성 및 설정
             TaskExecutorJobLauncher jobLauncher = new TaskExecutorJobLauncher();
@@ -61,7 +136,7 @@ public class JobRunner implements CommandLineRunner {
             jobLauncher.afterPropertiesSet(); // 초기화
 
             // Job 실행
-            jobLauncher.run(processOrderJob, jobParameters);
+            jobLauncher.run(job, jobParameters);
             log.info("배치 작업 완료");
         } catch (Exception e) {
             log.error("배치 작업 실행 중 오류 발생", e);
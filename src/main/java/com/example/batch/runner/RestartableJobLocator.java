@@ -0,0 +1,142 @@
+package com.example.batch.runner;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 같은 입력 파일로 실행했다가 끝나지 않은(FAILED / STOPPED) processOrderJob 인스턴스를 찾는다.
+ * 찾으면 그 인스턴스의 Job 파라미터(식별 파라미터 time 포함)를 그대로 돌려주므로, JobLauncher는 새 인스턴스가 아니라
+ * 재시작으로 실행하고 각 Step은 마지막 커밋의 ExecutionContext(byte.offset / line.number)부터 이어서 읽는다.
+ * <ul>
+ *     <li>같은 파일의 가장 최근 인스턴스만 본다. COMPLETED면 재시작하지 않는다 (새 time으로 다시 처리).</li>
+ *     <li>실행 모드(mode)나 파일 크기(inputFileSize)가 다르면 다른 입력으로 보고 새로 시작한다.</li>
+ *     <li>비정상 종료(kill 등)로 STARTED 상태가 남은 실행은 다른 JVM이 실행 중일 수도 있으므로,
+ *     호출한 쪽이 그렇지 않다고 알 때(abandonRunning)만 FAILED로 바꾼 뒤 재시작한다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RestartableJobLocator {
+
+    static final String INPUT_FILE = "inputFile";
+    static final String INPUT_FILE_SIZE = "inputFileSize";
+    static final String MODE = "mode";
+
+    private static final int PAGE_SIZE = 100;
+
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+
+    @Value("${batch.restart.enabled:true}")
+    private boolean enabled;
+
+    @Value("${batch.restart.abandon-running:false}")
+    private boolean abandonRunningByDefault;
+
+    /**
+     * batch.restart.abandon-running 설정에 따라 남아 있는 실행 중 상태를 처리한다.
+     */
+    public Optional<JobParameters> find(String jobName, String inputFile, String mode, long inputFileSize) {
+        return find(jobName, inputFile, mode, inputFileSize, abandonRunningByDefault);
+    }
+
+    /**
+     * @param abandonRunning true면 STARTED / STOPPING 상태로 남은 실행을 비정상 종료로 보고 FAILED로 바꾼 뒤 재시작한다
+     * @return 재시작할 Job 파라미터. 재시작할 실행이 없으면 empty
+     */
+    public Optional<JobParameters> find(String jobName, String inputFile, String mode, long inputFileSize,
+                                        boolean abandonRunning) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        JobExecution last = lastExecution(jobName, inputFile);
+        if (last == null) {
+            return Optional.empty();
+        }
+
+        JobParameters parameters = last.getJobParameters();
+        BatchStatus status = last.getStatus();
+        if (status.isRunning()) {
+            if (!abandonRunning) {
+                log.warn("입력 파일 {}의 이전 실행(JobExecution {})이 {} 상태로 남아 있어 처음부터 새로 실행합니다. "
+                                + "비정상 종료된 실행이면 batch.restart.abandon-running=true로 이어서 실행할 수 있습니다",
+                        inputFile, last.getId(), status);
+                return Optional.empty();
+            }
+            markAbandoned(last);
+            status = BatchStatus.FAILED;
+        }
+        if (status != BatchStatus.FAILED && status != BatchStatus.STOPPED) {
+            return Optional.empty();
+        }
+
+        if (!mode.equals(parameters.getString(MODE))) {
+            log.warn("입력 파일 {}의 이전 실행(JobExecution {})은 실행 모드가 {}이므로 이어서 실행하지 않습니다 (현재: {})",
+                    inputFile, last.getId(), parameters.getString(MODE), mode);
+            return Optional.empty();
+        }
+        Long previousSize = parameters.getLong(INPUT_FILE_SIZE);
+        if (previousSize != null && previousSize != inputFileSize) {
+            log.warn("입력 파일 {}의 크기가 이전 실행(JobExecution {})과 달라 처음부터 새로 실행합니다 ({} -> {} bytes)",
+                    inputFile, last.getId(), previousSize, inputFileSize);
+            return Optional.empty();
+        }
+
+        log.info("입력 파일 {}의 {} 실행(JobExecution {})을 이어서 실행합니다", inputFile, status, last.getId());
+        return Optional.of(parameters);
+    }
+
+    /**
+     * 같은 입력 파일로 실행한 가장 최근 인스턴스의 마지막 실행. 인스턴스는 최근 것부터 조회된다.
+     */
+    private JobExecution lastExecution(String jobName, String inputFile) {
+        for (int start = 0; ; start += PAGE_SIZE) {
+            List<JobInstance> instances = jobExplorer.getJobInstances(jobName, start, PAGE_SIZE);
+            for (JobInstance instance : instances) {
+                JobExecution execution = jobExplorer.getLastJobExecution(instance);
+                if (execution != null && inputFile.equals(execution.getJobParameters().getString(INPUT_FILE))) {
+                    return execution;
+                }
+            }
+            if (instances.size() < PAGE_SIZE) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 비정상 종료로 끝나지 못한 실행과 그 Step 실행을 FAILED로 기록한다. 커밋된 ExecutionContext는 그대로 남는다.
+     */
+    private void markAbandoned(JobExecution execution) {
+        LocalDateTime now = LocalDateTime.now();
+        for (StepExecution stepExecution : execution.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(ExitStatus.FAILED.addExitDescription("비정상 종료된 실행"));
+                stepExecution.setEndTime(now);
+                jobRepository.update(stepExecution);
+            }
+        }
+        execution.setStatus(BatchStatus.FAILED);
+        execution.setExitStatus(ExitStatus.FAILED.addExitDescription("비정상 종료된 실행"));
+        execution.setEndTime(now);
+        jobRepository.update(execution);
+        log.warn("비정상 종료된 JobExecution {}을 FAILED로 기록했습니다", execution.getId());
+    }
+
+}
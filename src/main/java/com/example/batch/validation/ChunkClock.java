@@ -0,0 +1,34 @@
+package com.example.batch.validation;
+
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 청크가 시작될 때 현재 시각을 한 번 찍어 두는 시계. 미래 날짜 검사와 processed_at에 같은 값을 쓰므로
+ * 아이템마다 시스템 시계를 읽지 않고, 한 청크의 행은 모두 같은 처리 시각을 갖는다.
+ * 비동기 처리 스레드에서도 읽으므로 volatile로 둔다.
+ */
+@Component
+@StepScope
+public class ChunkClock implements ChunkListener {
+
+    private volatile LocalDateTime now;
+
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        now = LocalDateTime.now();
+    }
+
+    /**
+     * 현재 청크의 시작 시각. 청크 밖에서 호출되면 그 시점의 시각.
+     */
+    public LocalDateTime now() {
+        LocalDateTime snapshot = now;
+        return snapshot != null ? snapshot : LocalDateTime.now();
+    }
+
+}
@@ -0,0 +1,250 @@
+package com.example.batch.validation;
+
+import com.example.batch.dto.OrderInputDto;
+import com.example.batch.partition.OrderFilePartitioner;
+import com.example.batch.reader.ByteLineReader;
+import com.example.batch.reader.InputCompression;
+import com.example.batch.reader.OrderLineMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Supplier;
+
+/**
+ * DB에 쓰지 않고 입력 파일의 검증 결과만 확인하는 Tasklet (mode=dry-run).
+ * 파일을 줄 경계에 맞춘 바이트 구간으로 나누어 ForkJoinPool에서 구간마다 읽기 → 토큰화 → {@link OrderValidator} 검사만 수행하고,
+ * 구간별 {@link ValidationHistogram}을 파일 순서대로 합쳐 거부 사유별 건수와 예시 행을 보고한다.
+ * Order 객체, 중복 검사 상태, 거부 파일, Writer는 모두 사용하지 않는다.
+ * 같은 파일 안의 중복 order_id는 행 순서에 의존하므로 검사하지 않는다(실제 실행에서만 거부된다).
+ */
+@Slf4j
+public class DryRunValidationTasklet implements Tasklet {
+
+    private static final int BUFFER_SIZE = 256 * 1024;
+    private static final String ROWS_KEY = "dryRun.rows";
+    private static final String REJECTED_KEY = "dryRun.rejected";
+
+    private final String inputFile;
+    private final Supplier<OrderLineMapper> lineMappers;
+    private final OrderValidator orderValidator;
+    private final int parallelism;
+    private final int sampleSize;
+    private final String reportDir;
+    private final double maxRejectRatio;
+
+    /**
+     * @param lineMappers 구간마다 새 변환기를 만든다(변환기는 스레드 안전하지 않다)
+     * @param parallelism 동시에 검사할 구간 수. 0이면 CPU 코어 수
+     */
+    public DryRunValidationTasklet(String inputFile, Supplier<OrderLineMapper> lineMappers,
+                                   OrderValidator orderValidator, int parallelism, int sampleSize,
+                                   String reportDir, double maxRejectRatio) {
+        this.inputFile = inputFile;
+        this.lineMappers = lineMappers;
+        this.orderValidator = orderValidator;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.sampleSize = sampleSize;
+        this.reportDir = reportDir;
+        this.maxRejectRatio = maxRejectRatio;
+    }
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) throws Exception {
+        Path path = Paths.get(inputFile);
+        if (!Files.exists(path)) {
+            throw new IllegalArgumentException("파일이 존재하지 않습니다: " + inputFile);
+        }
+
+        long start = System.nanoTime();
+        String header = readHeader(path);
+        // 스레드마다 구간 몇 개씩 돌아가도록 잘게 나눈다 (구간별 처리 속도 차이 흡수)
+        List<long[]> segments = new ArrayList<>();
+        for (ExecutionContext context : new OrderFilePartitioner(inputFile).partition(parallelism * 4).values()) {
+            segments.add(new long[]{context.getLong(OrderFilePartitioner.START_OFFSET_KEY),
+                    context.getLong(OrderFilePartitioner.END_OFFSET_KEY)});
+        }
+
+        LocalDateTime now = LocalDateTime.now();  // 미래 날짜 검사 기준 시각 (실행 전체에서 한 번)
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        ValidationHistogram histogram;
+        try {
+            histogram = pool.invoke(new SegmentTask(path, header, now, segments, 0, segments.size()));
+        } finally {
+            pool.shutdown();
+        }
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        StepExecution stepExecution = contribution.getStepExecution();
+        stepExecution.setReadCount(histogram.getRows());
+        contribution.incrementFilterCount(histogram.getRejected());
+        stepExecution.getExecutionContext().putLong(ROWS_KEY, histogram.getRows());
+        stepExecution.getExecutionContext().putLong(REJECTED_KEY, histogram.getRejected());
+
+        List<String> report = report(histogram, segments.size(), elapsedMillis);
+        report.forEach(log::info);
+        writeReport(stepExecution, report);
+        return RepeatStatus.FINISHED;
+    }
+
+    /**
+     * 구간 목록 [from, to)를 반으로 나누어 병렬로 검사하고, 앞 구간 결과에 뒤 구간 결과를 합친다.
+     */
+    private final class SegmentTask extends RecursiveTask<ValidationHistogram> {
+
+        private final Path path;
+        private final String header;
+        private final LocalDateTime now;
+        private final List<long[]> segments;
+        private final int from;
+        private final int to;
+
+        SegmentTask(Path path, String header, LocalDateTime now, List<long[]> segments, int from, int to) {
+            this.path = path;
+            this.header = header;
+            this.now = now;
+            this.segments = segments;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ValidationHistogram compute() {
+            if (to - from <= 1) {
+                return from < to ? scan(path, header, now, segments.get(from)) : new ValidationHistogram(sampleSize);
+            }
+            int middle = (from + to) >>> 1;
+            SegmentTask head = new SegmentTask(path, header, now, segments, from, middle);
+            SegmentTask tail = new SegmentTask(path, header, now, segments, middle, to);
+            tail.fork();
+            return head.compute().merge(tail.join());
+        }
+    }
+
+    private ValidationHistogram scan(Path path, String header, LocalDateTime now, long[] segment) {
+        ValidationHistogram histogram = new ValidationHistogram(sampleSize);
+        OrderLineMapper lineMapper = lineMappers.get();
+        lineMapper.readHeader(header);
+
+        long end = segment[1];
+        try (ByteLineReader reader = open(path, segment[0])) {
+            long offset = reader.position();
+            while (offset < end && reader.readLine()) {
+                if (reader.lineLength() > 0) {
+                    String error;
+                    try {
+                        OrderInputDto item = lineMapper.map(reader.line(), reader.lineLength());
+                        error = orderValidator.validate(item, now);
+                    } catch (Exception e) {
+                        // 실제 실행에서는 읽기 스킵(skip-limit 대상)이 되는 행
+                        error = "Unreadable line: " + e.getClass().getSimpleName();
+                    }
+                    if (error == null) {
+                        histogram.accept();
+                    } else {
+                        histogram.reject(error, offset, reader.line(), reader.lineLength());
+                    }
+                }
+                offset = reader.position();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("입력 파일을 읽을 수 없습니다: " + inputFile, e);
+        }
+        return histogram;
+    }
+
+    /**
+     * 구간 시작 위치에 맞춘 리더. 압축 입력은 구간이 파일 전체 하나이므로 헤더만 건너뛴다.
+     */
+    private ByteLineReader open(Path path, long startOffset) throws IOException {
+        InputCompression compression = InputCompression.of(inputFile);
+        if (compression.isCompressed()) {
+            ByteLineReader reader = new ByteLineReader(compression.open(path), BUFFER_SIZE);
+            reader.readLine();
+            return reader;
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        channel.position(startOffset);
+        return new ByteLineReader(channel, BUFFER_SIZE);
+    }
+
+    private String readHeader(Path path) throws IOException {
+        InputCompression compression = InputCompression.of(inputFile);
+        try (ByteLineReader reader = compression.isCompressed()
+                ? new ByteLineReader(compression.open(path), BUFFER_SIZE)
+                : new ByteLineReader(FileChannel.open(path, StandardOpenOption.READ), BUFFER_SIZE)) {
+            if (!reader.readLine()) {
+                throw new IllegalArgumentException("CSV 헤더가 없습니다: " + inputFile);
+            }
+            String header = reader.lineAsString();
+            return header.startsWith("\uFEFF") ? header.substring(1) : header;
+        }
+    }
+
+    private List<String> report(ValidationHistogram histogram, int segments, long elapsedMillis) {
+        List<String> lines = new ArrayList<>();
+        lines.add("========================================");
+        lines.add("        검증 전용 실행(dry-run) 결과");
+        lines.add("========================================");
+        lines.add(String.format("입력 파일: %s", inputFile));
+        lines.add(String.format("검사 행 수: %,d (구간 %d개, 스레드 %d개, %,dms, %,.0f행/초)",
+                histogram.getRows(), segments, parallelism, elapsedMillis,
+                elapsedMillis == 0 ? 0.0 : histogram.getRows() * 1000.0 / elapsedMillis));
+        lines.add(String.format("거부 예상: %,d (%.2f%%)", histogram.getRejected(), histogram.getRejectRatio() * 100));
+        if (histogram.getRejectRatio() > maxRejectRatio) {
+            lines.add(String.format("  ! 거부 비율이 batch.reject.max-ratio(%.2f%%)를 넘어 실제 실행은 실패합니다",
+                    maxRejectRatio * 100));
+        }
+        lines.add("----------------------------------------");
+        for (Map.Entry<String, ValidationHistogram.Reason> entry : histogram.getReasons()) {
+            ValidationHistogram.Reason reason = entry.getValue();
+            lines.add(String.format("  - %s: %,d (%.2f%%)", entry.getKey(), reason.getCount(),
+                    histogram.getRows() == 0 ? 0.0 : reason.getCount() * 100.0 / histogram.getRows()));
+            for (ValidationHistogram.Sample sample : reason.getSamples()) {
+                lines.add(String.format("      @%d %s | %s", sample.offset(), sample.line(), sample.message()));
+            }
+        }
+        lines.add("========================================");
+        return lines;
+    }
+
+    private void writeReport(StepExecution stepExecution, List<String> report) {
+        if (reportDir == null || reportDir.isBlank()) {
+            return;
+        }
+        Path file = Paths.get(reportDir,
+                Paths.get(inputFile).getFileName() + "." + stepExecution.getJobExecutionId() + ".dryrun.txt");
+        try {
+            Files.createDirectories(file.getParent());
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                for (String line : report) {
+                    writer.write(line);
+                    writer.newLine();
+                }
+            }
+            log.info("### 검증 결과 저장: {}", file);
+        } catch (IOException e) {
+            log.warn("검증 결과 파일 저장 실패: {}", file, e);
+        }
+    }
+
+}
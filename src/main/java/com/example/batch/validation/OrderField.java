@@ -0,0 +1,36 @@
+package com.example.batch.validation;
+
+import java.util.Arrays;
+
+/**
+ * 검증 규칙을 걸 수 있는 주문 CSV 컬럼.
+ */
+enum OrderField {
+
+    ORDER_ID("order_id", "Order ID", Type.TEXT),
+    CUSTOMER_NAME("customer_name", "Customer name", Type.TEXT),
+    PRODUCT_NAME("product_name", "Product name", Type.TEXT),
+    QUANTITY("quantity", "Quantity", Type.NUMBER),
+    PRICE("price", "Price", Type.NUMBER),
+    ORDER_DATE("order_date", "Order date", Type.DATE_TIME);
+
+    enum Type { TEXT, NUMBER, DATE_TIME }
+
+    final String column;
+    final String label;
+    final Type type;
+
+    OrderField(String column, String label, Type type) {
+        this.column = column;
+        this.label = label;
+        this.type = type;
+    }
+
+    static OrderField of(String column) {
+        return Arrays.stream(values())
+                .filter(field -> field.column.equalsIgnoreCase(column == null ? "" : column.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("알 수 없는 검증 필드: " + column));
+    }
+
+}
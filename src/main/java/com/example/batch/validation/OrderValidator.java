@@ -0,0 +1,275 @@
+package com.example.batch.validation;
+
+import com.example.batch.columnar.OrderColumns;
+import com.example.batch.dto.OrderInputDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * batch.validation.rules를 기동 시 한 번 고정된 검사 배열로 컴파일해 두고 아이템마다 순서대로 실행한다.
+ * 숫자/날짜 컬럼은 처음 규칙이 나오는 위치에서 파싱되며, 규칙이 없더라도 Order 생성에 필요하므로 마지막에 파싱한다.
+ * 검사 중에는 trim()/정규식/DateTimeFormatter를 쓰지 않아 아이템당 할당이 거의 없다.
+ * columnar 모드를 위해 같은 규칙을 {@link OrderColumns} 행에 대한 통과 여부 검사로도 컴파일한다.
+ */
+@Slf4j
+@Component
+public class OrderValidator {
+
+    private static final String DATE_PATTERN = "yyyy-MM-dd HH:mm:ss";
+
+    /**
+     * 실패 사유를 반환하고, 통과하면 null.
+     */
+    @FunctionalInterface
+    interface Check {
+        String check(OrderInputDto item, LocalDateTime now);
+    }
+
+    /**
+     * 컬럼 블록의 한 행이 규칙을 통과하면 true. 사유 문자열은 만들지 않는다.
+     */
+    @FunctionalInterface
+    interface ColumnCheck {
+        boolean passes(OrderColumns block, int row, long nowEpochSecond);
+    }
+
+    private final Check[] checks;
+    private final ColumnCheck[] columnChecks;
+
+    public OrderValidator(ValidationRuleProperties properties) {
+        List<ValidationRuleProperties.Rule> rules = properties.getRules().isEmpty()
+                ? defaultRules()
+                : properties.getRules();
+        this.checks = compile(rules);
+        this.columnChecks = compileColumns(rules);
+        log.info("검증 규칙 {}개 → 검사 {}개로 컴파일", rules.size(), checks.length);
+    }
+
+    /**
+     * 규칙을 순서대로 검사하고, 통과하면 quantity/price/orderDate를 파싱된 값으로 채운다.
+     *
+     * @return 첫 번째 실패 사유. 모두 통과하면 null
+     */
+    public String validate(OrderInputDto item, LocalDateTime now) {
+        for (Check check : checks) {
+            String error = check.check(item, now);
+            if (error != null) {
+                return error;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 컬럼 블록의 한 행이 모든 규칙을 통과하는지 검사한다. 컬럼이 빠졌거나 숫자/날짜 파싱에 실패한 행은 통과하지 못한다.
+     * 실패 사유가 필요하면 {@link OrderColumns#toInput}으로 만든 DTO를 {@link #validate}에 넘긴다.
+     *
+     * @param nowEpochSecond 미래 날짜 기준 시각 ({@link OrderColumns}의 order_date와 같은 UTC 기준 epoch 초)
+     */
+    public boolean passes(OrderColumns block, int row, long nowEpochSecond) {
+        if (!block.isParsed(row)) {
+            return false;
+        }
+        for (ColumnCheck check : columnChecks) {
+            if (!check.passes(block, row, nowEpochSecond)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 기존 하드코딩 규칙과 같은 기본값 (application.yml에 규칙이 없을 때).
+     */
+    static List<ValidationRuleProperties.Rule> defaultRules() {
+        return List.of(
+                new ValidationRuleProperties.Rule("order_id", true, null, null, null, false),
+                new ValidationRuleProperties.Rule("customer_name", true, null, null, null, false),
+                new ValidationRuleProperties.Rule("product_name", true, null, null, null, false),
+                new ValidationRuleProperties.Rule("quantity", false, null, 1L, 1000L, false),
+                new ValidationRuleProperties.Rule("price", false, null, 1L, 1_000_000L, false),
+                new ValidationRuleProperties.Rule("order_date", true, null, null, null, true));
+    }
+
+    static Check[] compile(List<ValidationRuleProperties.Rule> rules) {
+        List<Check> checks = new ArrayList<>();
+        Set<OrderField> parsed = EnumSet.noneOf(OrderField.class);
+
+        for (ValidationRuleProperties.Rule rule : rules) {
+            OrderField field = OrderField.of(rule.getField());
+            verify(field, rule);
+
+            if (rule.isRequired()) {
+                checks.add(required(field));
+            }
+            if (rule.getMaxLength() != null) {
+                checks.add(maxLength(field, rule.getMaxLength()));
+            }
+            if (field.type != OrderField.Type.TEXT && parsed.add(field)) {
+                checks.add(parse(field));
+            }
+            if (rule.getMin() != null) {
+                checks.add(min(field, rule.getMin()));
+            }
+            if (rule.getMax() != null) {
+                checks.add(max(field, rule.getMax()));
+            }
+            if (rule.isNotFuture()) {
+                checks.add((item, now) -> item.getOrderDate().isAfter(now)
+                        ? field.label + " cannot be in the future" : null);
+            }
+        }
+
+        for (OrderField field : OrderField.values()) {
+            if (field.type != OrderField.Type.TEXT && parsed.add(field)) {
+                checks.add(parse(field));
+            }
+        }
+        return checks.toArray(new Check[0]);
+    }
+
+    /**
+     * {@link #compile}과 같은 규칙을 컬럼 블록용으로 컴파일한다. 파싱된 행에는 숫자/날짜 값이 항상 있으므로
+     * 숫자/날짜 컬럼의 required와 형식 검사는 {@link OrderColumns#isParsed}가 대신한다.
+     */
+    static ColumnCheck[] compileColumns(List<ValidationRuleProperties.Rule> rules) {
+        List<ColumnCheck> checks = new ArrayList<>();
+        for (ValidationRuleProperties.Rule rule : rules) {
+            OrderField field = OrderField.of(rule.getField());
+            if (rule.isRequired() && field.type == OrderField.Type.TEXT) {
+                checks.add((block, row, now) -> !text(block, row, field).isBlank());
+            }
+            if (rule.getMaxLength() != null) {
+                int maxLength = rule.getMaxLength();
+                checks.add((block, row, now) -> text(block, row, field).length() <= maxLength);
+            }
+            if (rule.getMin() != null) {
+                long min = rule.getMin();
+                checks.add((block, row, now) -> number(block, row, field) >= min);
+            }
+            if (rule.getMax() != null) {
+                long max = rule.getMax();
+                checks.add((block, row, now) -> number(block, row, field) <= max);
+            }
+            if (rule.isNotFuture()) {
+                checks.add((block, row, now) -> block.orderDateEpochSecond(row) <= now);
+            }
+        }
+        return checks.toArray(new ColumnCheck[0]);
+    }
+
+    private static void verify(OrderField field, ValidationRuleProperties.Rule rule) {
+        if (rule.getMaxLength() != null && field.type != OrderField.Type.TEXT) {
+            throw new IllegalArgumentException("max-length는 텍스트 컬럼에만 지정할 수 있습니다: " + field.column);
+        }
+        if ((rule.getMin() != null || rule.getMax() != null) && field.type != OrderField.Type.NUMBER) {
+            throw new IllegalArgumentException("min/max는 숫자 컬럼에만 지정할 수 있습니다: " + field.column);
+        }
+        if (rule.isNotFuture() && field.type != OrderField.Type.DATE_TIME) {
+            throw new IllegalArgumentException("not-future는 날짜 컬럼에만 지정할 수 있습니다: " + field.column);
+        }
+    }
+
+    private static Check required(OrderField field) {
+        String message = field.label + " is required";
+        return (item, now) -> {
+            String value = text(item, field);
+            if (value != null && !value.isBlank()) {
+                return null;
+            }
+            // 리더가 이미 숫자로 파싱해 원문을 남기지 않은 경우
+            return (field == OrderField.QUANTITY && item.getQuantity() != null)
+                    || (field == OrderField.PRICE && item.getPrice() != null) ? null : message;
+        };
+    }
+
+    private static Check maxLength(OrderField field, int maxLength) {
+        String message = field.label + " cannot exceed " + maxLength + " characters";
+        return (item, now) -> {
+            String value = text(item, field);
+            return value != null && value.length() > maxLength ? message : null;
+        };
+    }
+
+    private static Check parse(OrderField field) {
+        return switch (field) {
+            // 리더가 이미 숫자로 파싱한 경우 그대로 사용
+            case QUANTITY -> (item, now) -> {
+                if (item.getQuantity() != null) {
+                    return null;
+                }
+                try {
+                    item.setQuantity(Integer.parseInt(item.getQuantityStr()));
+                    return null;
+                } catch (NumberFormatException e) {
+                    return "Invalid quantity format: " + item.getQuantityStr();
+                }
+            };
+            case PRICE -> (item, now) -> {
+                if (item.getPrice() != null) {
+                    return null;
+                }
+                try {
+                    item.setPrice(Long.parseLong(item.getPriceStr()));
+                    return null;
+                } catch (NumberFormatException e) {
+                    return "Invalid price format: " + item.getPriceStr();
+                }
+            };
+            case ORDER_DATE -> (item, now) -> {
+                LocalDateTime orderDate = OrderDateTimeParser.parse(item.getOrderDateStr());
+                if (orderDate == null) {
+                    return "Invalid date format. Expected: " + DATE_PATTERN + ", Actual: " + item.getOrderDateStr();
+                }
+                item.setOrderDate(orderDate);
+                return null;
+            };
+            default -> throw new IllegalArgumentException("파싱할 수 없는 컬럼: " + field.column);
+        };
+    }
+
+    private static Check min(OrderField field, long min) {
+        String message = field.label + " must be greater than " + String.format("%,d", min - 1);
+        return (item, now) -> number(item, field) < min ? message : null;
+    }
+
+    private static Check max(OrderField field, long max) {
+        String message = field.label + " cannot exceed " + String.format("%,d", max);
+        return (item, now) -> number(item, field) > max ? message : null;
+    }
+
+    private static String text(OrderInputDto item, OrderField field) {
+        return switch (field) {
+            case ORDER_ID -> item.getOrderId();
+            case CUSTOMER_NAME -> item.getCustomerName();
+            case PRODUCT_NAME -> item.getProductName();
+            case QUANTITY -> item.getQuantityStr();
+            case PRICE -> item.getPriceStr();
+            case ORDER_DATE -> item.getOrderDateStr();
+        };
+    }
+
+    private static long number(OrderInputDto item, OrderField field) {
+        return field == OrderField.QUANTITY ? item.getQuantity() : item.getPrice();
+    }
+
+    private static String text(OrderColumns block, int row, OrderField field) {
+        return switch (field) {
+            case ORDER_ID -> block.orderId(row);
+            case CUSTOMER_NAME -> block.customerName(row);
+            case PRODUCT_NAME -> block.productName(row);
+            default -> throw new IllegalArgumentException("텍스트 컬럼이 아닙니다: " + field.column);
+        };
+    }
+
+    private static long number(OrderColumns block, int row, OrderField field) {
+        return field == OrderField.QUANTITY ? block.quantity(row) : block.price(row);
+    }
+
+}
@@ -0,0 +1,104 @@
+package com.example.batch.validation;
+
+import com.example.batch.metrics.OrderBatchMetrics;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검증 전용 실행(dry-run)에서 파일 구간 하나를 검사한 결과. 거부 사유별 건수와 앞쪽 예시 행 몇 개를 담는다.
+ * 사유는 지표의 reason 태그와 같은 규칙으로 묶는다(":" 앞까지, 값 제외).
+ * 구간 결과는 파일 순서대로 {@link #merge}하므로 합친 결과의 예시 행도 파일 앞쪽 행이 된다.
+ */
+public class ValidationHistogram {
+
+    /**
+     * @param offset  줄이 시작하는 바이트 오프셋 (압축 입력은 해제된 바이트 기준)
+     * @param message 전체 거부 사유
+     */
+    public record Sample(long offset, String message, String line) {
+    }
+
+    public static final class Reason {
+        private long count;
+        private final List<Sample> samples = new ArrayList<>();
+
+        public long getCount() {
+            return count;
+        }
+
+        public List<Sample> getSamples() {
+            return samples;
+        }
+    }
+
+    private final int sampleSize;
+    private final Map<String, Reason> reasons = new HashMap<>();
+    private long rows;
+    private long rejected;
+
+    public ValidationHistogram(int sampleSize) {
+        this.sampleSize = sampleSize;
+    }
+
+    public void accept() {
+        rows++;
+    }
+
+    public void reject(String message, long offset, byte[] line, int length) {
+        rows++;
+        rejected++;
+        Reason reason = reasons.computeIfAbsent(OrderBatchMetrics.normalizeReason(message), key -> new Reason());
+        reason.count++;
+        if (reason.samples.size() < sampleSize) {
+            // 예시로 남길 행만 문자열로 디코딩한다
+            reason.samples.add(new Sample(offset, message, new String(line, 0, length, StandardCharsets.UTF_8)));
+        }
+    }
+
+    /**
+     * 파일에서 이 구간 바로 뒤에 오는 구간의 결과를 합친다.
+     */
+    public ValidationHistogram merge(ValidationHistogram next) {
+        rows += next.rows;
+        rejected += next.rejected;
+        next.reasons.forEach((key, other) -> {
+            Reason reason = reasons.computeIfAbsent(key, k -> new Reason());
+            reason.count += other.count;
+            for (Sample sample : other.samples) {
+                if (reason.samples.size() >= sampleSize) {
+                    break;
+                }
+                reason.samples.add(sample);
+            }
+        });
+        return this;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public double getRejectRatio() {
+        return rows == 0 ? 0 : (double) rejected / rows;
+    }
+
+    /**
+     * 건수가 많은 사유부터.
+     */
+    public List<Map.Entry<String, Reason>> getReasons() {
+        List<Map.Entry<String, Reason>> entries = new ArrayList<>(reasons.entrySet());
+        entries.sort(Comparator.comparing((Map.Entry<String, Reason> entry) -> entry.getValue().count).reversed()
+                .thenComparing(Map.Entry::getKey));
+        return entries;
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.example.batch.validation;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * application.yml의 batch.validation.rules. 규칙은 나열된 순서대로 검사되며 첫 번째 실패 사유로 거부된다.
+ * 비어 있으면 {@link OrderValidator}가 기본 규칙을 사용한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "batch.validation")
+public class ValidationRuleProperties {
+
+    private List<Rule> rules = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /** CSV 컬럼 이름 (order_id, customer_name, product_name, quantity, price, order_date) */
+        private String field;
+
+        /** 값이 비어 있으면 거부 */
+        private boolean required;
+
+        /** 텍스트 컬럼의 최대 글자 수 */
+        private Integer maxLength;
+
+        /** 숫자 컬럼의 최솟값(포함) */
+        private Long min;
+
+        /** 숫자 컬럼의 최댓값(포함) */
+        private Long max;
+
+        /** 날짜 컬럼이 현재(청크 시작 시각)보다 미래면 거부 */
+        private boolean notFuture;
+
+        public Rule() {
+        }
+
+        Rule(String field, boolean required, Integer maxLength, Long min, Long max, boolean notFuture) {
+            this.field = field;
+            this.required = required;
+            this.maxLength = maxLength;
+            this.min = min;
+            this.max = max;
+            this.notFuture = notFuture;
+        }
+    }
+
+}
@@ -1,26 +1,94 @@
 package com.example.batch.writer;
 
+import com.example.batch.columnar.OrderColumnsWriter;
+import com.example.batch.dimension.DimensionResolver;
 import com.example.batch.domain.Order;
+import com.example.batch.metrics.OrderBatchMetrics;
+import com.example.batch.metrics.TimedItemWriter;
+import com.example.batch.report.OrderReportAccumulator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.ItemWriter;
 import org.springframework.batch.item.support.builder.CompositeItemWriterBuilder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.Arrays;
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
 public class CompositeOrderWriter {
 
+    private final DimensionResolver dimensionResolver;
+    private final DailySalesRollupWriter dailySalesRollupWriter;
     private final OrderItemWriter orderItemWriter;
     private final ProcessedOrderWriter processedOrderWriter;
+    private final OrderReportAccumulator orderReportAccumulator;
+    private final OrderBatchMetrics orderBatchMetrics;
+    private final DataSource dataSource;
 
-    @Bean
+    @Value("${batch.writer.fan-out.enabled:false}")
+    private boolean fanOutEnabled;
+
+    @Value("${batch.writer.fan-out.threads:8}")
+    private int fanOutThreads;
+
+    /**
+     * 스트림 open/update/close는 Step이 호출한다. 컨테이너 종료 시 close를 호출하면
+     * Step 범위 밖에서 Step 스코프 delegate(리포트 집계)에 접근하게 되므로 destroy 메서드 추론을 끈다.
+     */
+    @Bean(destroyMethod = "")
     public ItemWriter<Order> compositeWriter() {
+        ItemWriter<Order> orders = new TimedItemWriter<>("orders", orderItemWriter, orderBatchMetrics);
+        ItemWriter<Order> processedOrders = new TimedItemWriter<>("processed_orders", processedOrderWriter, orderBatchMetrics);
+
+        // 고객/상품 id를 먼저 채우고, 일별 집계는 orders를 덮어쓰기 전에 기존 값을 읽어야 하므로 orders보다 앞에 둔다.
+        // 리포트 집계는 두 테이블 저장이 모두 성공한 뒤에 반영되도록 마지막에 둔다
+        List<ItemWriter<? super Order>> delegates = new ArrayList<>();
+        delegates.add(new TimedItemWriter<>("dimensions", dimensionResolver, orderBatchMetrics));
+        delegates.add(new TimedItemWriter<>("daily_product_sales", dailySalesRollupWriter, orderBatchMetrics));
+        if (fanOutEnabled) {
+            // processed_orders를 다른 커넥션에서 orders와 동시에 쓰고 청크 커밋에 묶는다
+            delegates.add(new TimedItemWriter<>("fan_out",
+                    new FanOutOrderWriter(orders, processedOrders, dataSource, fanOutTaskExecutor()), orderBatchMetrics));
+        } else {
+            delegates.add(orders);
+            delegates.add(processedOrders);
+        }
+        delegates.add(new TimedItemWriter<>("report", orderReportAccumulator, orderBatchMetrics));
+
         return new CompositeItemWriterBuilder<Order>()
-                .delegates(Arrays.asList(orderItemWriter, processedOrderWriter))
+                .delegates(delegates)
                 .build();
     }
 
+    /**
+     * columnar 모드에서 블록을 쓰는 Writer들. 순서와 이름은 {@link #compositeWriter()}와 같고, fan-out은 적용하지 않는다.
+     */
+    public LinkedHashMap<String, OrderColumnsWriter> columnarWriters() {
+        LinkedHashMap<String, OrderColumnsWriter> writers = new LinkedHashMap<>();
+        writers.put("dimensions", dimensionResolver);
+        writers.put("daily_product_sales", dailySalesRollupWriter);
+        writers.put("orders", orderItemWriter);
+        writers.put("processed_orders", processedOrderWriter);
+        writers.put("report", orderReportAccumulator);
+        return writers;
+    }
+
+    @Bean
+    public TaskExecutor fanOutTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fanOutThreads);
+        executor.setMaxPoolSize(fanOutThreads);
+        executor.setThreadNamePrefix("fan-out-");
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+
 }
\ No newline at end of file
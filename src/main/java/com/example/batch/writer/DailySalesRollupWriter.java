@@ -0,0 +1,161 @@
+package com.example.batch.writer;
+
+import com.example.batch.columnar.OrderColumns;
+import com.example.batch.columnar.OrderColumnsWriter;
+import com.example.batch.domain.Order;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * 청크 트랜잭션 안에서 daily_product_sales(일자 × 상품) 집계 테이블을 증분 갱신하는 Writer.
+ * orders에 쓰기 전에 실행되어, 같은 order_id의 기존 행(재처리)을 FOR UPDATE로 읽어 그 기여분을 빼고
+ * 새 값의 기여분을 더한 차이만 INSERT ... ON DUPLICATE KEY UPDATE 배치로 반영한다.
+ * 따라서 같은 파일을 다시 처리해도 집계가 두 번 더해지지 않는다.
+ * 여러 파티션이 같은 집계 행을 갱신할 때 교착을 피하도록 (일자, 상품) 순으로 정렬해 쓴다.
+ * 청크 트랜잭션은 READ COMMITTED이므로 FOR UPDATE는 이미 있는 행만 잠그고 없는 order_id 구간에 갭 잠금을 걸지 않는다.
+ * 그래서 동시에 실행되는 두 청크가 같은 새 order_id를 쓰면 나중에 커밋한 쪽이 앞선 기여분을 빼지 못한다
+ * (한 JVM 안의 파일 내 중복은 DuplicateOrderFilter가 거르므로, 동시에 처리되는 다른 파일이나 다른 JVM의 파티션에 같은 주문이 있을 때만 해당).
+ * columnar 모드의 블록도 같은 방식으로 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailySalesRollupWriter implements ItemWriter<Order>, OrderColumnsWriter {
+
+    private static final int IN_LIST_SIZE = 500;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO daily_product_sales (sales_date, product_id, quantity, sales, order_count)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE quantity = quantity + VALUES(quantity),
+                                    sales = sales + VALUES(sales),
+                                    order_count = order_count + VALUES(order_count)
+            """;
+
+    private static final String DELETE_EMPTY_SQL =
+            "DELETE FROM daily_product_sales WHERE sales_date = ? AND product_id = ? AND order_count = 0";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // infra/mysql/partitioning.sql 적용 시 orders의 UNIQUE KEY가 (order_id, order_date)가 되므로
+    // 주문일이 같은 기존 행만 덮어써진다
+    @Value("${batch.rollup.match-order-date:false}")
+    private boolean matchOrderDate;
+
+    @Override
+    public void write(Chunk<? extends Order> chunk) {
+        // 같은 청크에 같은 order_id가 여러 번 있으면 orders에는 마지막 값만 남는다
+        Map<String, Order> latest = new LinkedHashMap<>();
+        for (Order order : chunk) {
+            latest.put(order.getOrderId(), order);
+        }
+
+        Map<RollupKey, Delta> deltas = new TreeMap<>();
+        for (Order order : latest.values()) {
+            deltas.computeIfAbsent(new RollupKey(order.getOrderDate().toLocalDate(), order.getProductId()), key -> new Delta())
+                    .add(order.getQuantity(), order.getTotalAmount(), 1);
+        }
+        subtractExisting(latest.keySet(), orderId -> latest.get(orderId).getOrderDate(), deltas);
+        apply(deltas);
+    }
+
+    @Override
+    public void write(OrderColumns block) {
+        // 중복 검사를 끄면 같은 order_id가 한 블록에 여러 번 있을 수 있다
+        Map<String, Integer> latest = new LinkedHashMap<>();
+        for (int row = 0; row < block.size(); row++) {
+            latest.put(block.orderId(row), row);
+        }
+
+        Map<RollupKey, Delta> deltas = new TreeMap<>();
+        for (int row : latest.values()) {
+            deltas.computeIfAbsent(new RollupKey(block.salesDate(row), block.productId(row)), key -> new Delta())
+                    .add(block.quantity(row), block.totalAmount(row), 1);
+        }
+        subtractExisting(latest.keySet(), orderId -> block.orderDate(latest.get(orderId)), deltas);
+        apply(deltas);
+    }
+
+    private void apply(Map<RollupKey, Delta> deltas) {
+        List<Object[]> rows = new ArrayList<>(deltas.size());
+        List<Object[]> shrunk = new ArrayList<>();
+        deltas.forEach((key, delta) -> {
+            if (!delta.isZero()) {
+                rows.add(new Object[]{key.salesDate(), key.productId(), delta.quantity, delta.sales, delta.count});
+            }
+            if (delta.count < 0) {
+                shrunk.add(new Object[]{key.salesDate(), key.productId()});
+            }
+        });
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        }
+        // 재처리로 주문일/상품이 바뀌어 주문이 하나도 남지 않은 집계 행은 지운다
+        if (!shrunk.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_EMPTY_SQL, shrunk);
+        }
+        log.debug("daily_product_sales {}행 갱신", rows.size());
+    }
+
+    /**
+     * 이번 청크가 덮어쓸 orders 기존 행의 기여분을 뺀다. 기존 행을 잠가 두어 orders에 쓰기 전까지 다른 트랜잭션이 바꾸지 못하게 한다.
+     */
+    private void subtractExisting(Collection<String> latestOrderIds, Function<String, LocalDateTime> latestOrderDate,
+                                  Map<RollupKey, Delta> deltas) {
+        List<String> orderIds = new ArrayList<>(latestOrderIds);
+        for (int from = 0; from < orderIds.size(); from += IN_LIST_SIZE) {
+            List<String> batch = orderIds.subList(from, Math.min(from + IN_LIST_SIZE, orderIds.size()));
+            String sql = "SELECT order_id, product_id, order_date, quantity, total_amount FROM orders WHERE order_id IN ("
+                    + String.join(", ", Collections.nCopies(batch.size(), "?")) + ") FOR UPDATE";
+            jdbcTemplate.query(sql, rs -> {
+                LocalDateTime orderDate = rs.getObject(3, LocalDateTime.class);
+                if (matchOrderDate && !orderDate.equals(latestOrderDate.apply(rs.getString(1)))) {
+                    return;
+                }
+                deltas.computeIfAbsent(new RollupKey(orderDate.toLocalDate(), rs.getLong(2)), key -> new Delta())
+                        .add(-rs.getLong(4), -rs.getLong(5), -1);
+            }, batch.toArray());
+        }
+    }
+
+    private record RollupKey(LocalDate salesDate, long productId) implements Comparable<RollupKey> {
+        @Override
+        public int compareTo(RollupKey other) {
+            int compare = salesDate.compareTo(other.salesDate);
+            return compare != 0 ? compare : Long.compare(productId, other.productId);
+        }
+    }
+
+    private static final class Delta {
+        private long quantity;
+        private long sales;
+        private long count;
+
+        void add(long quantity, long sales, long count) {
+            this.quantity += quantity;
+            this.sales += sales;
+            this.count += count;
+        }
+
+        boolean isZero() {
+            return quantity == 0 && sales == 0 && count == 0;
+        }
+    }
+
+}
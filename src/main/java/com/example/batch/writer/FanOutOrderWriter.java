@@ -0,0 +1,172 @@
+package com.example.batch.writer;
+
+import com.example.batch.domain.Order;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.datasource.ConnectionHolder;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+
+/**
+ * 두 테이블 쓰기를 동시에 보내는 Writer. primary는 Step 스레드에서 청크 트랜잭션의 커넥션으로,
+ * secondary는 작업 스레드에서 풀의 다른 커넥션으로 실행한다.
+ * 두 쓰기가 DB 왕복을 기다리는 동안만 겹치므로, 청크 쓰기 시간이 느린 쪽에 가까워지는 것은 쓰기가 왕복에 묶여 있고
+ * DB 서버에 남는 코어가 있을 때뿐이다. 쓰기가 CPU에 묶여 있으면(같은 JVM의 H2, 같은 코어를 나눠 쓰는 DB,
+ * rewriteBatchedStatements=true로 청크가 큰 문장 몇 개로 나가는 경우) 두 쓰기가 CPU를 나눠 쓸 뿐 합과 같거나 더 느리다.
+ * <p>
+ * secondary 커넥션의 트랜잭션은 청크 트랜잭션에 묶인다.
+ * <ul>
+ *     <li>청크 트랜잭션 커밋 직전(beforeCommit)에 secondary를 커밋한다. 실패하면 예외가 청크 트랜잭션을 롤백시킨다.</li>
+ *     <li>청크 트랜잭션이 롤백되면(쓰기 실패, 스킵 스캔 등) secondary도 롤백한다.</li>
+ * </ul>
+ * secondary 커밋 후 청크 트랜잭션 커밋 자체가 실패하는 경우에만 secondary 쪽 행이 먼저 반영된다.
+ * 이때 재시작 위치는 그 청크 앞에 남아 있고 두 테이블 모두 upsert이므로, 재시작하면 같은 행으로 다시 맞춰진다.
+ * 보상 DELETE는 재처리로 갱신된 기존 행까지 지우게 되므로 쓰지 않는다.
+ * <p>
+ * 청크마다 커넥션을 하나 더 쓰므로 커넥션 풀 크기는 동시에 실행되는 Step 수의 두 배 이상이어야 한다.
+ */
+@Slf4j
+public class FanOutOrderWriter implements ItemWriter<Order> {
+
+    private final ItemWriter<Order> primary;
+    private final ItemWriter<Order> secondary;
+    private final DataSource dataSource;
+    private final TaskExecutor taskExecutor;
+
+    public FanOutOrderWriter(ItemWriter<Order> primary, ItemWriter<Order> secondary,
+                             DataSource dataSource, TaskExecutor taskExecutor) {
+        this.primary = primary;
+        this.secondary = secondary;
+        this.dataSource = dataSource;
+        this.taskExecutor = taskExecutor;
+    }
+
+    @Override
+    public void write(Chunk<? extends Order> chunk) throws Exception {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            // 묶을 트랜잭션이 없으면 순서대로 쓴다
+            primary.write(chunk);
+            secondary.write(chunk);
+            return;
+        }
+
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        SecondaryTransaction transaction = new SecondaryTransaction();
+        TransactionSynchronizationManager.registerSynchronization(transaction);
+        FutureTask<Void> secondaryWrite = new FutureTask<>(() -> {
+            transaction.write(chunk, stepContext != null ? stepContext.getStepExecution() : null);
+            return null;
+        });
+        taskExecutor.execute(secondaryWrite);
+
+        Exception error = null;
+        try {
+            primary.write(chunk);
+        } catch (Exception e) {
+            error = e;
+        }
+
+        // primary가 실패해도 secondary가 커넥션을 다 쓸 때까지 기다린 뒤 롤백한다
+        try {
+            secondaryWrite.get();
+        } catch (ExecutionException e) {
+            Exception cause = e.getCause() instanceof Exception exception ? exception : e;
+            if (error == null) {
+                error = cause;
+            } else {
+                error.addSuppressed(cause);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            if (error == null) {
+                error = e;
+            }
+        }
+
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * 청크 하나의 secondary 쓰기용 커넥션과 트랜잭션. 쓰기는 작업 스레드에서, 커밋/롤백은 Step 스레드에서 한다.
+     */
+    private final class SecondaryTransaction implements TransactionSynchronization {
+
+        private volatile Connection connection;
+        private boolean committed;
+
+        void write(Chunk<? extends Order> chunk, StepExecution stepExecution) throws Exception {
+            if (stepExecution != null) {
+                StepSynchronizationManager.register(stepExecution);  // TimedItemWriter의 job / step 태그
+            }
+            try {
+                Connection con = dataSource.getConnection();
+                con.setAutoCommit(false);
+                connection = con;
+
+                // secondary의 JdbcTemplate이 이 스레드에서 위 커넥션을 쓰도록 바인딩한다
+                TransactionSynchronizationManager.bindResource(dataSource, new ConnectionHolder(con));
+                try {
+                    secondary.write(chunk);
+                } finally {
+                    TransactionSynchronizationManager.unbindResource(dataSource);
+                }
+            } finally {
+                if (stepExecution != null) {
+                    StepSynchronizationManager.close();
+                }
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            Connection con = connection;
+            if (con == null) {
+                return;
+            }
+            try {
+                con.commit();
+                committed = true;
+            } catch (SQLException e) {
+                throw new TransactionSystemException("secondary 커넥션 커밋 실패", e);
+            }
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            Connection con = connection;
+            if (con == null) {
+                return;
+            }
+            try {
+                if (!committed) {
+                    con.rollback();
+                }
+                con.setAutoCommit(true);
+            } catch (SQLException e) {
+                log.warn("secondary 커넥션 롤백 실패", e);
+            } finally {
+                try {
+                    con.close();
+                } catch (SQLException e) {
+                    log.warn("secondary 커넥션 반환 실패", e);
+                }
+            }
+        }
+
+    }
+
+}
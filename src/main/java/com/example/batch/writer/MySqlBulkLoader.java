@@ -0,0 +1,94 @@
+package com.example.batch.writer;
+
+import com.mysql.cj.jdbc.JdbcStatement;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 청크를 {@code LOAD DATA LOCAL INFILE}로 적재한다.
+ * 대상 테이블에 바로 넣지 않고, 커넥션별 임시 스테이징 테이블({@code <table>_load})에 적재한 뒤
+ * {@code INSERT ... SELECT ... ON DUPLICATE KEY UPDATE}로 옮긴다. 그래서 이미 있는 order_id는 배치 INSERT와 같은 방식으로
+ * 기존 행을 갱신한다(id / created_at 유지). REPLACE는 행을 지우고 다시 넣으므로 id가 바뀌고 created_at이 초기화된다.
+ * <p>
+ * LOCAL 적재는 변환 오류(숫자/날짜 형식, 길이 초과)를 경고로만 남기고 계속 진행하므로, 적재 직후 경고나 건수 차이가 있으면
+ * 예외로 청크를 실패시킨다(배치 INSERT가 오류로 실패하는 경우와 같게).
+ * JdbcTemplate을 통해 현재 청크 트랜잭션의 커넥션을 그대로 사용하므로 롤백 단위는 배치 INSERT와 같다.
+ * 서버의 local_infile이 필요하고, 커넥션의 allowLoadLocalInfile은 bulk 모드에서만 {@link com.example.batch.config.JdbcConfig}가 켠다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MySqlBulkLoader {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${batch.writer.mode:batch}")
+    private String mode;
+
+    @Value("${batch.writer.bulk-min-rows:500}")
+    private int bulkMinRows;
+
+    /**
+     * bulk 모드이고 청크가 충분히 클 때만 true. 작은 청크는 배치 INSERT가 더 빠르다.
+     */
+    public boolean shouldBulkLoad(int rows) {
+        return "bulk".equalsIgnoreCase(mode) && rows >= bulkMinRows;
+    }
+
+    /**
+     * @param columns       rows의 필드 순서대로 나열한 대상 테이블 컬럼
+     * @param updateColumns UNIQUE KEY가 겹칠 때 갱신할 컬럼 (배치 INSERT의 ON DUPLICATE KEY UPDATE 절과 같은 값)
+     * @return 대상 테이블에 넣거나 갱신한 행 수 (스테이징 테이블에 적재한 행 수)
+     */
+    public int load(String table, String columns, String updateColumns, TabSeparatedRows rows) {
+        String stage = table + "_load";
+        Integer loaded = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                // 임시 테이블은 커넥션마다 따로 있고 CREATE/DROP TEMPORARY는 트랜잭션을 커밋하지 않는다.
+                // 인덱스 없이 컬럼 정의만 복사한다. 비울 때 DELETE는 행마다 언두를 남겨 청크당 적재만큼 느리므로
+                // 청크마다 새로 만들고 지운다 (실패한 청크가 남긴 테이블도 처음에 지움)
+                statement.execute("DROP TEMPORARY TABLE IF EXISTS " + stage);
+                statement.execute("CREATE TEMPORARY TABLE " + stage
+                        + " SELECT " + columns + " FROM " + table + " LIMIT 0");
+
+                statement.unwrap(JdbcStatement.class).setLocalInfileInputStream(rows.toInputStream());
+                int count = statement.executeUpdate("LOAD DATA LOCAL INFILE 'chunk.tsv' INTO TABLE " + stage
+                        + " CHARACTER SET utf8mb4 (" + columns + ")");
+                checkWarnings(statement, table, count, rows.rowCount());
+
+                statement.executeUpdate("INSERT INTO " + table + " (" + columns + ") SELECT " + columns
+                        + " FROM " + stage + " ON DUPLICATE KEY UPDATE " + updateColumns);
+                statement.execute("DROP TEMPORARY TABLE " + stage);
+                return count;
+            }
+        });
+
+        log.debug("{} 테이블에 LOAD DATA로 {}건 적재 ({} bytes)", table, loaded, rows.size());
+        return loaded != null ? loaded : 0;
+    }
+
+    private void checkWarnings(Statement statement, String table, int loaded, int expected) throws SQLException {
+        List<String> warnings = new ArrayList<>();
+        try (ResultSet rs = statement.executeQuery("SHOW WARNINGS LIMIT 3")) {
+            while (rs.next()) {
+                warnings.add(rs.getString("Level") + " " + rs.getInt("Code") + ": " + rs.getString("Message"));
+            }
+        }
+        if (!warnings.isEmpty() || loaded != expected) {
+            throw new DataIntegrityViolationException(table + " LOAD DATA 적재 결과가 입력과 다릅니다 (적재 "
+                    + loaded + " / 입력 " + expected + "행): " + warnings);
+        }
+    }
+
+}
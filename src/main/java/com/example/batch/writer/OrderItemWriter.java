@@ -1,5 +1,7 @@
 package com.example.batch.writer;
 
+import com.example.batch.columnar.OrderColumns;
+import com.example.batch.columnar.OrderColumnsWriter;
 import com.example.batch.domain.Order;
 import lombok.RequiredArgsConstructor;
 import org.springframework.batch.item.Chunk;
@@ -10,37 +12,53 @@ import org.springframework.stereotype.Component;
 
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.time.LocalDateTime;
 import java.util.List;
 
 @Component
 @RequiredArgsConstructor
-public class OrderItemWriter implements ItemWriter<Order> {
+public class OrderItemWriter implements ItemWriter<Order>, OrderColumnsWriter {
+
+    private static final String COLUMNS =
+            "order_id, customer_id, product_id, quantity, price, total_amount, order_date, status, processed_at";
+
+    // 같은 order_id가 다시 들어오면(파일 재처리 등) 새 값으로 갱신한다. VALUES()는 H2 MySQL 모드와도 호환된다.
+    private static final String UPDATE_COLUMNS =
+            "customer_id = VALUES(customer_id), product_id = VALUES(product_id), "
+            + "quantity = VALUES(quantity), price = VALUES(price), "
+            + "total_amount = VALUES(total_amount), order_date = VALUES(order_date), "
+            + "status = VALUES(status), processed_at = VALUES(processed_at)";
 
     private final JdbcTemplate jdbcTemplate;
+    private final MySqlBulkLoader bulkLoader;
 
     @Override
     public void write(Chunk<? extends Order> chunk) throws Exception {
         List<? extends Order> orders = chunk.getItems();
 
+        if (bulkLoader.shouldBulkLoad(orders.size())) {
+            bulkLoad(orders);
+            return;
+        }
+
         String sql = """
-                INSERT INTO orders (order_id, customer_name, product_name, quantity, price, total_amount, order_date, status, processed_at)
+                INSERT INTO orders (%s)
                 VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
-                """;
+                ON DUPLICATE KEY UPDATE %s
+                """.formatted(COLUMNS, UPDATE_COLUMNS);
 
         jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
             @Override
             public void setValues(PreparedStatement ps, int i) throws SQLException {
                 Order order = orders.get(i);
                 ps.setString(1, order.getOrderId());
-                ps.setString(2, order.getCustomerName());
-                ps.setString(3, order.getProductName());
+                ps.setLong(2, order.getCustomerId());
+                ps.setLong(3, order.getProductId());
                 ps.setInt(4, order.getQuantity());
                 ps.setLong(5, order.getPrice());
                 ps.setLong(6, order.getTotalAmount());
                 ps.setObject(7, order.getOrderDate());
                 ps.setString(8, order.getStatus());
-                ps.setObject(9, LocalDateTime.now());
+                ps.setObject(9, order.getProcessedAt());
             }
 
             @Override
@@ -49,4 +67,76 @@ public class OrderItemWriter implements ItemWriter<Order> {
             }
         });
     }
-}
\ No newline at end of file
+
+    /**
+     * columnar 모드의 블록을 같은 SQL로 쓴다. 주문일만 바인딩할 때 LocalDateTime으로 바꾼다.
+     */
+    @Override
+    public void write(OrderColumns block) throws Exception {
+        if (bulkLoader.shouldBulkLoad(block.size())) {
+            bulkLoad(block);
+            return;
+        }
+
+        String sql = """
+                INSERT INTO orders (%s)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE %s
+                """.formatted(COLUMNS, UPDATE_COLUMNS);
+
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, block.orderId(i));
+                ps.setLong(2, block.customerId(i));
+                ps.setLong(3, block.productId(i));
+                ps.setInt(4, block.quantity(i));
+                ps.setLong(5, block.price(i));
+                ps.setLong(6, block.totalAmount(i));
+                ps.setObject(7, block.orderDate(i));
+                ps.setString(8, block.status());
+                ps.setObject(9, block.processedAt());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return block.size();
+            }
+        });
+    }
+
+    private void bulkLoad(List<? extends Order> orders) {
+        TabSeparatedRows rows = new TabSeparatedRows(orders.size() * 96);
+        for (Order order : orders) {
+            rows.field(order.getOrderId())
+                    .field(order.getCustomerId())
+                    .field(order.getProductId())
+                    .field(order.getQuantity())
+                    .field(order.getPrice())
+                    .field(order.getTotalAmount())
+                    .field(order.getOrderDate())
+                    .field(order.getStatus())
+                    .field(order.getProcessedAt())
+                    .endRow();
+        }
+        bulkLoader.load("orders", COLUMNS, UPDATE_COLUMNS, rows);
+    }
+
+    private void bulkLoad(OrderColumns block) {
+        TabSeparatedRows rows = new TabSeparatedRows(block.size() * 96);
+        for (int i = 0; i < block.size(); i++) {
+            rows.field(block.orderId(i))
+                    .field(block.customerId(i))
+                    .field(block.productId(i))
+                    .field(block.quantity(i))
+                    .field(block.price(i))
+                    .field(block.totalAmount(i))
+                    .field(block.orderDate(i))
+                    .field(block.status())
+                    .field(block.processedAt())
+                    .endRow();
+        }
+        bulkLoader.load("orders", COLUMNS, UPDATE_COLUMNS, rows);
+    }
+
+}
@@ -0,0 +1,203 @@
+package com.example.batch.writer;
+
+import com.example.batch.domain.ProcessedOrder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.ItemStreamSupport;
+import org.springframework.batch.item.ItemStreamWriter;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * processed_orders 행을 CSV 파일로 내보내는 Writer. 파일 이름이 .gz로 끝나면 gzip으로 압축한다.
+ * 청크마다 독립된 gzip 멤버를 이어 붙이고(gzip/zcat은 이어진 멤버를 하나의 스트림으로 읽는다)
+ * 커밋 시점의 파일 길이와 마지막 id를 ExecutionContext에 저장한다.
+ * 재시작 시에는 파일을 저장된 길이로 잘라 커밋되지 않은 청크를 버리고 이어서 쓴다.
+ */
+@Slf4j
+public class ProcessedOrderCsvExportWriter extends ItemStreamSupport implements ItemStreamWriter<ProcessedOrder> {
+
+    public static final String LAST_ID_KEY = "export.lastId";
+
+    private static final String BYTES_KEY = "export.bytes";
+    private static final String ROWS_KEY = "export.rows";
+    private static final String CSV_HEADER =
+            "id,original_order_id,customer_name,product_name,quantity,price,total_amount,order_date,status,processed_at,processing_result";
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private final String outputFile;
+    private final boolean gzip;
+
+    private FileChannel channel;
+    private OutputStream fileOut;
+    private long bytes;
+    private long rows;
+    private long lastId;
+
+    public ProcessedOrderCsvExportWriter(String outputFile) {
+        this.outputFile = outputFile;
+        this.gzip = outputFile.toLowerCase().endsWith(".gz");
+        setName("processedOrderCsvExportWriter");
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        Path path = Paths.get(outputFile);
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            // 청크마다 압축 스트림을 닫아도 파일은 열어 둔다
+            fileOut = new FilterOutputStream(Channels.newOutputStream(channel)) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            };
+
+            if (executionContext.containsKey(getExecutionContextKey(BYTES_KEY))) {
+                bytes = executionContext.getLong(getExecutionContextKey(BYTES_KEY));
+                rows = executionContext.getLong(getExecutionContextKey(ROWS_KEY));
+                lastId = executionContext.getLong(getExecutionContextKey(LAST_ID_KEY));
+                if (channel.size() < bytes) {
+                    throw new ItemStreamException("내보내기 파일이 저장된 위치보다 짧습니다: " + outputFile
+                            + " (size=" + channel.size() + ", checkpoint=" + bytes + ")");
+                }
+                channel.truncate(bytes);
+                channel.position(bytes);
+                log.info("내보내기 재시작: {} (rows={}, bytes={}, lastId={})", outputFile, rows, bytes, lastId);
+            } else {
+                channel.truncate(0);
+                writeSegment(CSV_HEADER + "\n", null);
+                log.info("내보내기 시작: {}{}", outputFile, gzip ? " (gzip)" : "");
+            }
+        } catch (IOException e) {
+            closeQuietly();
+            throw new ItemStreamException("내보내기 파일을 열 수 없습니다: " + outputFile, e);
+        }
+    }
+
+    @Override
+    public void write(Chunk<? extends ProcessedOrder> chunk) throws Exception {
+        writeSegment(null, chunk);
+        rows += chunk.size();
+        lastId = chunk.getItems().get(chunk.size() - 1).getId();
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        if (channel != null) {
+            executionContext.putLong(getExecutionContextKey(BYTES_KEY), bytes);
+            executionContext.putLong(getExecutionContextKey(ROWS_KEY), rows);
+            executionContext.putLong(getExecutionContextKey(LAST_ID_KEY), lastId);
+        }
+    }
+
+    @Override
+    public void close() throws ItemStreamException {
+        if (channel != null) {
+            log.info("내보내기 완료: {} ({}행, {}바이트)", outputFile, rows, bytes);
+        }
+        closeQuietly();
+        super.close();
+    }
+
+    /**
+     * 헤더 또는 청크 하나를 (gzip이면 독립된 멤버로) 쓰고 디스크에 반영한 뒤 파일 길이를 기록한다.
+     */
+    private void writeSegment(String header, Chunk<? extends ProcessedOrder> chunk) throws IOException {
+        OutputStream out = gzip ? new GZIPOutputStream(fileOut, BUFFER_SIZE) : fileOut;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (header != null) {
+            writer.write(header);
+        }
+        if (chunk != null) {
+            for (ProcessedOrder order : chunk) {
+                writeRow(writer, order);
+            }
+        }
+        writer.close();  // gzip 멤버 종료. fileOut은 flush만 된다
+        channel.force(false);
+        bytes = channel.position();
+    }
+
+    private static void writeRow(Writer writer, ProcessedOrder order) throws IOException {
+        writer.write(Long.toString(order.getId()));
+        writer.write(',');
+        writeField(writer, order.getOriginalOrderId());
+        writer.write(',');
+        writeField(writer, order.getCustomerName());
+        writer.write(',');
+        writeField(writer, order.getProductName());
+        writer.write(',');
+        writer.write(Integer.toString(order.getQuantity()));
+        writer.write(',');
+        writer.write(Long.toString(order.getPrice()));
+        writer.write(',');
+        writer.write(Long.toString(order.getTotalAmount()));
+        writer.write(',');
+        writer.write(format(order.getOrderDate()));
+        writer.write(',');
+        writeField(writer, order.getStatus());
+        writer.write(',');
+        writer.write(format(order.getProcessedAt()));
+        writer.write(',');
+        writeField(writer, order.getProcessingResult());
+        writer.write('\n');
+    }
+
+    private static void writeField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String format(LocalDateTime value) {
+        return value == null ? "" : DATE_TIME_FORMAT.format(value);
+    }
+
+    private void closeQuietly() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.warn("내보내기 파일 닫기 실패: {}", outputFile, e);
+        }
+        channel = null;
+        fileOut = null;
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.example.batch.writer;
 
+import com.example.batch.columnar.OrderColumns;
+import com.example.batch.columnar.OrderColumnsWriter;
 import com.example.batch.domain.Order;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,26 +18,45 @@ import java.util.List;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ProcessedOrderWriter implements ItemWriter<Order> {
+public class ProcessedOrderWriter implements ItemWriter<Order>, OrderColumnsWriter {
+
+    private static final String COLUMNS =
+            "original_order_id, customer_id, product_id, quantity, price, total_amount, order_date, status, processed_at, processing_result";
+
+    // uk_processed_orders_original_order_id 충돌 시 기존 행을 갱신
+    private static final String UPDATE_COLUMNS =
+            "customer_id = VALUES(customer_id), product_id = VALUES(product_id), "
+            + "quantity = VALUES(quantity), price = VALUES(price), "
+            + "total_amount = VALUES(total_amount), order_date = VALUES(order_date), "
+            + "status = VALUES(status), processed_at = VALUES(processed_at), "
+            + "processing_result = VALUES(processing_result)";
 
     private final JdbcTemplate jdbcTemplate;
+    private final MySqlBulkLoader bulkLoader;
 
     @Override
     public void write(Chunk<? extends Order> chunk) throws Exception {
         List<? extends Order> orders = chunk.getItems();
 
+        if (bulkLoader.shouldBulkLoad(orders.size())) {
+            bulkLoad(orders);
+            log.info("ProcessedOrders 테이블에 " + orders.size() + "개 레코드 적재 완료 (LOAD DATA)");
+            return;
+        }
+
         String sql = """
-                INSERT INTO processed_orders (original_order_id, customer_name, product_name, quantity, price, total_amount, order_date, status, processed_at, processing_result) 
+                INSERT INTO processed_orders (%s)
                 VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-                """;
+                ON DUPLICATE KEY UPDATE %s
+                """.formatted(COLUMNS, UPDATE_COLUMNS);
 
         jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
             @Override
             public void setValues(PreparedStatement ps, int i) throws SQLException {
                 Order order = orders.get(i);
                 ps.setString(1, order.getOrderId());
-                ps.setString(2, order.getCustomerName());
-                ps.setString(3, order.getProductName());
+                ps.setLong(2, order.getCustomerId());
+                ps.setLong(3, order.getProductId());
                 ps.setInt(4, order.getQuantity());
                 ps.setLong(5, order.getPrice());
                 ps.setLong(6, order.getTotalAmount());
@@ -54,4 +75,81 @@ public class ProcessedOrderWriter implements ItemWriter<Order> {
         log.info("ProcessedOrders 테이블에 " + orders.size() + "개 레코드 저장 완료");
     }
 
-}
\ No newline at end of file
+    /**
+     * columnar 모드의 블록을 같은 SQL로 쓴다. 주문일만 바인딩할 때 LocalDateTime으로 바꾼다.
+     */
+    @Override
+    public void write(OrderColumns block) throws Exception {
+        if (bulkLoader.shouldBulkLoad(block.size())) {
+            bulkLoad(block);
+            log.info("ProcessedOrders 테이블에 " + block.size() + "개 레코드 적재 완료 (LOAD DATA)");
+            return;
+        }
+
+        String sql = """
+                INSERT INTO processed_orders (%s)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE %s
+                """.formatted(COLUMNS, UPDATE_COLUMNS);
+
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, block.orderId(i));
+                ps.setLong(2, block.customerId(i));
+                ps.setLong(3, block.productId(i));
+                ps.setInt(4, block.quantity(i));
+                ps.setLong(5, block.price(i));
+                ps.setLong(6, block.totalAmount(i));
+                ps.setObject(7, block.orderDate(i));
+                ps.setString(8, block.status());
+                ps.setObject(9, block.processedAt());
+                ps.setString(10, "SUCCESS");
+            }
+
+            @Override
+            public int getBatchSize() {
+                return block.size();
+            }
+        });
+
+        log.info("ProcessedOrders 테이블에 " + block.size() + "개 레코드 저장 완료");
+    }
+
+    private void bulkLoad(List<? extends Order> orders) {
+        TabSeparatedRows rows = new TabSeparatedRows(orders.size() * 104);
+        for (Order order : orders) {
+            rows.field(order.getOrderId())
+                    .field(order.getCustomerId())
+                    .field(order.getProductId())
+                    .field(order.getQuantity())
+                    .field(order.getPrice())
+                    .field(order.getTotalAmount())
+                    .field(order.getOrderDate())
+                    .field(order.getStatus())
+                    .field(order.getProcessedAt())
+                    .field("SUCCESS")
+                    .endRow();
+        }
+        bulkLoader.load("processed_orders", COLUMNS, UPDATE_COLUMNS, rows);
+    }
+
+    private void bulkLoad(OrderColumns block) {
+        TabSeparatedRows rows = new TabSeparatedRows(block.size() * 104);
+        for (int i = 0; i < block.size(); i++) {
+            rows.field(block.orderId(i))
+                    .field(block.customerId(i))
+                    .field(block.productId(i))
+                    .field(block.quantity(i))
+                    .field(block.price(i))
+                    .field(block.totalAmount(i))
+                    .field(block.orderDate(i))
+                    .field(block.status())
+                    .field(block.processedAt())
+                    .field("SUCCESS")
+                    .endRow();
+        }
+        bulkLoader.load("processed_orders", COLUMNS, UPDATE_COLUMNS, rows);
+    }
+
+}
@@ -0,0 +1,270 @@
+package com.example.batch.writer;
+
+import com.example.batch.dto.OrderInputDto;
+import com.example.batch.error.RejectThresholdExceededException;
+import com.example.batch.metrics.OrderBatchMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ChunkListener;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStream;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * 검증에 실패한 주문을 모아 두었다가 청크 트랜잭션이 커밋되기 직전(beforeCommit)에 거부 CSV(및 선택적으로 rejected_orders 테이블)에 기록한다.
+ * 예외로 스킵하지 않으므로 잘못된 행이 롤백이나 아이템 단위 재스캔을 일으키지 않는다.
+ * rejected_orders INSERT는 청크와 같은 트랜잭션에서 실행되므로 주문 행과 함께 커밋되거나 함께 롤백된다.
+ * CSV는 트랜잭션에 묶이지 않으므로 커밋이 실패하면 실패한 실행의 거부 파일에 그 청크의 거부 건이 남을 수 있다 (누락 대신 중복).
+ * 롤백된 청크의 거부 건은 버리고, 재처리 과정에서 다시 수집된다.
+ * 누적 거부율이 batch.reject.max-ratio를 넘으면 Step을 실패시킨다.
+ */
+@Slf4j
+@Component
+@StepScope
+@RequiredArgsConstructor
+public class RejectedOrderSink implements ChunkListener, StepExecutionListener, ItemStream {
+
+    private static final String REJECTED_COUNT_KEY = "rejectedOrders.count";
+    private static final String CSV_HEADER = "order_id,customer_name,product_name,quantity,price,order_date,reason";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderBatchMetrics orderBatchMetrics;
+
+    @Value("${batch.reject.dir:rejects}")
+    private String rejectDir;
+
+    @Value("${batch.reject.table-enabled:false}")
+    private boolean tableEnabled;
+
+    @Value("${batch.reject.max-ratio:0.05}")
+    private double maxRejectRatio;
+
+    @Value("${batch.reject.min-sample-size:1000}")
+    private long minSampleSize;
+
+    @Value("#{jobParameters['inputFile']}")
+    private String inputFile;
+
+    @Value("#{stepExecution}")
+    private StepExecution stepExecution;
+
+    private final Queue<OrderInputDto> pending = new ConcurrentLinkedQueue<>();
+    private BufferedWriter csvWriter;
+    private long rejectedCount;
+
+    /**
+     * 검증 실패 아이템을 현재 청크의 거부 목록에 추가한다. 비동기 처리 스레드에서 호출될 수 있다.
+     */
+    public void reject(OrderInputDto item) {
+        pending.add(item);
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        rejectedCount = executionContext.getLong(REJECTED_COUNT_KEY, 0L);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        // 커밋 직전에 호출되므로 이번 청크의 거부 건까지 포함해 저장
+        executionContext.putLong(REJECTED_COUNT_KEY, rejectedCount + pending.size());
+    }
+
+    /**
+     * 청크 트랜잭션 안에서 호출되므로 이 청크의 커밋에 거부 건 기록을 묶는다.
+     */
+    @Override
+    public void beforeChunk(ChunkContext context) {
+        pending.clear();
+        TransactionSynchronizationManager.registerSynchronization(new ChunkRejects());
+    }
+
+    @Override
+    public void afterChunk(ChunkContext context) {
+        checkThreshold(context.getStepContext().getStepExecution().getReadCount());
+    }
+
+    @Override
+    public void afterChunkError(ChunkContext context) {
+        pending.clear();
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        closeCsv();
+        if (rejectedCount > 0) {
+            log.info("### 거부 건수: {} ({})", rejectedCount, rejectFile());
+        }
+        return null;
+    }
+
+    /**
+     * 이번 청크의 거부 건. 커밋 직전에 기록하고, 커밋된 경우에만 누적 건수와 지표에 반영한다.
+     * 기록 중 예외가 나면 청크 트랜잭션이 롤백되고 Step이 실패한다.
+     */
+    private class ChunkRejects implements TransactionSynchronization {
+
+        private List<OrderInputDto> rejected = List.of();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            rejected = new ArrayList<>(pending);
+            pending.clear();
+            if (tableEnabled) {
+                insertRows(rejected);
+            }
+            writeCsv(rejected);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            pending.clear();
+            if (status != STATUS_COMMITTED) {
+                return;
+            }
+            rejectedCount += rejected.size();
+            rejected.forEach(item -> orderBatchMetrics.recordReject(stepExecution, item.getErrorMessage()));
+        }
+    }
+
+    private void checkThreshold(long readCount) {
+        if (readCount < minSampleSize || readCount == 0) {
+            return;
+        }
+        double ratio = (double) rejectedCount / readCount;
+        if (ratio > maxRejectRatio) {
+            throw new RejectThresholdExceededException(String.format(
+                    "거부 비율 %.2f%% (%d/%d)가 허용치 %.2f%%를 초과했습니다.",
+                    ratio * 100, rejectedCount, readCount, maxRejectRatio * 100));
+        }
+    }
+
+    private void writeCsv(List<OrderInputDto> rejected) {
+        try {
+            if (csvWriter == null) {
+                Path file = rejectFile();
+                Files.createDirectories(file.getParent());
+                boolean newFile = !Files.exists(file) || Files.size(file) == 0;
+                csvWriter = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                if (newFile) {
+                    csvWriter.write(CSV_HEADER);
+                    csvWriter.newLine();
+                }
+            }
+            for (OrderInputDto item : rejected) {
+                csvWriter.write(csv(item.getOrderId()));
+                csvWriter.write(',');
+                csvWriter.write(csv(item.getCustomerName()));
+                csvWriter.write(',');
+                csvWriter.write(csv(item.getProductName()));
+                csvWriter.write(',');
+                csvWriter.write(csv(quantityText(item)));
+                csvWriter.write(',');
+                csvWriter.write(csv(priceText(item)));
+                csvWriter.write(',');
+                csvWriter.write(csv(item.getOrderDateStr()));
+                csvWriter.write(',');
+                csvWriter.write(csv(item.getErrorMessage()));
+                csvWriter.newLine();
+            }
+            csvWriter.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("거부 파일 기록 실패: " + rejectFile(), e);
+        }
+    }
+
+    private void insertRows(List<OrderInputDto> rejected) {
+        String sql = """
+                INSERT INTO rejected_orders (job_execution_id, order_id, customer_name, product_name, quantity, price, order_date, reason, rejected_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """;
+        Long jobExecutionId = stepExecution.getJobExecutionId();
+        LocalDateTime rejectedAt = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(sql, rejected, rejected.size(), (ps, item) -> {
+            ps.setLong(1, jobExecutionId);
+            ps.setString(2, item.getOrderId());
+            ps.setString(3, item.getCustomerName());
+            ps.setString(4, item.getProductName());
+            ps.setString(5, quantityText(item));
+            ps.setString(6, priceText(item));
+            ps.setString(7, item.getOrderDateStr());
+            ps.setString(8, item.getErrorMessage());
+            ps.setObject(9, rejectedAt);
+        });
+    }
+
+    private Path rejectFile() {
+        String baseName = Paths.get(inputFile).getFileName().toString();
+        String stepName = stepExecution.getStepName().replace(':', '-');
+        return Paths.get(rejectDir, baseName + "." + stepExecution.getJobExecutionId() + "." + stepName + ".rejected.csv");
+    }
+
+    private void closeCsv() {
+        if (csvWriter == null) {
+            return;
+        }
+        try {
+            csvWriter.close();
+        } catch (IOException e) {
+            log.warn("거부 파일 닫기 실패: {}", rejectFile(), e);
+        }
+        csvWriter = null;
+    }
+
+    private static String quantityText(OrderInputDto item) {
+        if (item.getQuantityStr() != null) {
+            return item.getQuantityStr();
+        }
+        return item.getQuantity() != null ? item.getQuantity().toString() : null;
+    }
+
+    private static String priceText(OrderInputDto item) {
+        if (item.getPriceStr() != null) {
+            return item.getPriceStr();
+        }
+        return item.getPrice() != null ? item.getPrice().toString() : null;
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+}
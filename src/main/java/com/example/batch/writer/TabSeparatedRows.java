@@ -0,0 +1,157 @@
+package com.example.batch.writer;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * LOAD DATA의 기본 형식(탭 구분, 역슬래시 이스케이프, LF 줄바꿈)으로 행을 쌓는 메모리 버퍼.
+ * 문자열은 중간 byte[]를 만들지 않고 바로 UTF-8로 인코딩한다.
+ */
+public class TabSeparatedRows {
+
+    private byte[] buffer;
+    private int size;
+    private int rowCount;
+    private boolean rowStarted;
+
+    public TabSeparatedRows(int initialCapacity) {
+        this.buffer = new byte[Math.max(initialCapacity, 64)];
+    }
+
+    public TabSeparatedRows field(String value) {
+        separator();
+        if (value == null) {
+            write('\\');
+            write('N');
+            return this;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                switch (c) {
+                    case '\t' -> escape('t');
+                    case '\n' -> escape('n');
+                    case '\r' -> escape('r');
+                    case '\0' -> escape('0');
+                    case '\\' -> escape('\\');
+                    default -> write(c);
+                }
+            } else if (c < 0x800) {
+                write(0xC0 | (c >> 6));
+                write(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                write(0xF0 | (codePoint >> 18));
+                write(0x80 | ((codePoint >> 12) & 0x3F));
+                write(0x80 | ((codePoint >> 6) & 0x3F));
+                write(0x80 | (codePoint & 0x3F));
+            } else {
+                write(0xE0 | (c >> 12));
+                write(0x80 | ((c >> 6) & 0x3F));
+                write(0x80 | (c & 0x3F));
+            }
+        }
+        return this;
+    }
+
+    public TabSeparatedRows field(long value) {
+        separator();
+        if (value < 0) {
+            write('-');
+            if (value == Long.MIN_VALUE) {
+                // -Long.MIN_VALUE는 표현할 수 없으므로 문자열로 처리
+                String digits = Long.toString(value).substring(1);
+                for (int i = 0; i < digits.length(); i++) {
+                    write(digits.charAt(i));
+                }
+                return this;
+            }
+            value = -value;
+        }
+        writeDigits(value);
+        return this;
+    }
+
+    /**
+     * DATETIME 형식(yyyy-MM-dd HH:mm:ss)으로 기록한다. 초 미만은 버린다.
+     */
+    public TabSeparatedRows field(LocalDateTime value) {
+        separator();
+        if (value == null) {
+            write('\\');
+            write('N');
+            return this;
+        }
+        writePadded(value.getYear(), 4);
+        write('-');
+        writePadded(value.getMonthValue(), 2);
+        write('-');
+        writePadded(value.getDayOfMonth(), 2);
+        write(' ');
+        writePadded(value.getHour(), 2);
+        write(':');
+        writePadded(value.getMinute(), 2);
+        write(':');
+        writePadded(value.getSecond(), 2);
+        return this;
+    }
+
+    public TabSeparatedRows endRow() {
+        write('\n');
+        rowStarted = false;
+        rowCount++;
+        return this;
+    }
+
+    public int rowCount() {
+        return rowCount;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public InputStream toInputStream() {
+        return new ByteArrayInputStream(buffer, 0, size);
+    }
+
+    private void separator() {
+        if (rowStarted) {
+            write('\t');
+        }
+        rowStarted = true;
+    }
+
+    private void escape(char c) {
+        write('\\');
+        write(c);
+    }
+
+    private void writeDigits(long value) {
+        if (value >= 10) {
+            writeDigits(value / 10);
+        }
+        write((int) ('0' + value % 10));
+    }
+
+    private void writePadded(int value, int width) {
+        for (int i = 1, limit = 10; i < width; i++, limit *= 10) {
+            if (value < limit) {
+                write('0');
+            }
+        }
+        writeDigits(value);
+    }
+
+    private void write(int b) {
+        if (size == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        buffer[size++] = (byte) b;
+    }
+
+}
@@ -0,0 +1,280 @@
+package com.example.batch.perf;
+
+import com.example.batch.OrderSpringBatchApplication;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * processOrderJob 전체를 H2(MySQL 모드) 위에서 실행해 설정별 처리량을 비교하는 벤치마크.
+ * 설정마다 별도 JVM을 띄워 JIT/힙 상태가 섞이지 않게 하고, 각 JVM은 초당 처리 건수, 최대 힙 사용량,
+ * GC 시간을 한 줄(E2E_RESULT)로 보고한다. 스키마는 infra/mysql/init.sql을 그대로 사용한다.
+ *
+ * <pre>
+ * gradle e2eBenchmark -Pe2e.args="--rows=1000000 --configs=chunk/opencsv,chunk/fast,async/fast,partitioned/fast"
+ * </pre>
+ * 설정은 {@code 모드/파서} 형식이다. bulk 쓰기 모드는 LOAD DATA가 필요하므로 H2에서는 측정할 수 없다.
+ */
+public class EndToEndBenchmark {
+
+    private static final String RESULT_PREFIX = "E2E_RESULT ";
+    private static final String CHILD_FLAG = "--child";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && CHILD_FLAG.equals(args[0])) {
+            runChild(Arrays.copyOfRange(args, 1, args.length));
+            return;
+        }
+
+        Map<String, String> options = OrderCsvGenerator.parseOptions(args);
+        long rows = Long.parseLong(options.getOrDefault("rows", "100000"));
+        List<String> configs = split(options.getOrDefault("configs",
+                "chunk/opencsv,chunk/fast,async/fast,partitioned/fast"));
+        List<String> jvmArgs = split(options.getOrDefault("jvm-args", "-Xmx1g"));
+        List<String> extraArgs = split(options.getOrDefault("extra", ""));
+        Path baseDir = Paths.get(options.getOrDefault("dir", "build/perf")).toAbsolutePath();
+        Path resultFile = Paths.get(options.getOrDefault("result", "build/reports/e2e/results.json"));
+
+        Path input = prepareInput(options, rows, baseDir);
+        Path schema = prepareSchema(baseDir);
+
+        List<Map<String, String>> results = new ArrayList<>();
+        for (String config : configs) {
+            System.out.printf("### %s 실행 중 (%,d행)...%n", config, rows);
+            Map<String, String> result = new LinkedHashMap<>();
+            result.put("config", config);
+            result.put("rows", Long.toString(rows));
+            result.putAll(runConfig(config, input, schema, baseDir, jvmArgs, extraArgs));
+            results.add(result);
+        }
+
+        printTable(results);
+        writeJson(resultFile, results);
+        System.out.println("결과 저장: " + resultFile.toAbsolutePath());
+    }
+
+    static Path prepareInput(Map<String, String> options, long rows, Path baseDir) throws IOException {
+        if (options.containsKey("input")) {
+            return Paths.get(options.get("input")).toAbsolutePath();
+        }
+        // 생성 옵션이 같으면 이전에 만든 파일을 재사용
+        String name = "orders-" + rows + "-" + options.getOrDefault("bad-ratio", "0.02")
+                + "-" + options.getOrDefault("seed", "42") + ".csv";
+        Path input = baseDir.resolve(name);
+        if (!Files.exists(input)) {
+            System.out.printf("### 입력 파일 생성: %s%n", input);
+            OrderCsvGenerator.fromOptions(options).write(input);
+        }
+        return input;
+    }
+
+    static Path prepareSchema(Path baseDir) throws IOException {
+        // H2에는 devdb 스키마가 없으므로 USE 문만 제외한다
+        List<String> lines = Files.readAllLines(Paths.get("infra/mysql/init.sql"), StandardCharsets.UTF_8).stream()
+                .filter(line -> !line.trim().toUpperCase().startsWith("USE "))
+                .toList();
+        Path schema = baseDir.resolve("schema.sql");
+        Files.createDirectories(baseDir);
+        Files.write(schema, lines, StandardCharsets.UTF_8);
+        return schema;
+    }
+
+    private static Map<String, String> runConfig(String config, Path input, Path schema, Path baseDir,
+                                                 List<String> jvmArgs, List<String> extraArgs)
+            throws IOException, InterruptedException {
+        String[] parts = config.split("/");
+        String mode = parts[0];
+        String parser = parts.length > 1 ? parts[1] : "opencsv";
+
+        // JobRunner는 작업 디렉터리 기준 input/orders.csv를 읽으므로 설정별 디렉터리에 링크를 만든다
+        Path workDir = baseDir.resolve("run-" + config.replace('/', '-'));
+        deleteRecursively(workDir);
+        Files.createDirectories(workDir.resolve("input"));
+        Path link = workDir.resolve("input/orders.csv");
+        try {
+            Files.createSymbolicLink(link, input);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(input, link);
+        }
+
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(EndToEndBenchmark.class.getName());
+        command.add(CHILD_FLAG);
+        command.addAll(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:e2e;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.sql.init.mode=always",
+                "--spring.sql.init.schema-locations=file:" + schema,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.batch=WARN",
+                "--logging.level.org.springframework.batch=WARN",
+                "--batch.mode=" + mode,
+                "--batch.reader.parser=" + parser,
+                "--batch.reject.max-ratio=1.0"));
+        command.addAll(extraArgs);
+
+        Process process = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .start();
+
+        Map<String, String> result = null;
+        List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    result = parseResult(line.substring(RESULT_PREFIX.length()));
+                } else {
+                    output.add(line);
+                }
+            }
+        }
+        int exitCode = process.waitFor();
+        if (result == null) {
+            output.forEach(System.err::println);
+            throw new IllegalStateException(config + " 실행 실패 (exit=" + exitCode + ")");
+        }
+        return result;
+    }
+
+    /**
+     * 자식 JVM: 애플리케이션을 실행(JobRunner가 Job 실행)한 뒤 측정값을 한 줄로 출력한다.
+     */
+    private static void runChild(String[] springArgs) {
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        int exitCode = 0;
+        try (ConfigurableApplicationContext context =
+                     SpringApplication.run(OrderSpringBatchApplication.class, springArgs)) {
+            JobExplorer jobExplorer = context.getBean(JobExplorer.class);
+            JobInstance jobInstance = jobExplorer.getLastJobInstance("processOrderJob");
+            JobExecution jobExecution = jobExplorer.getLastJobExecution(jobInstance);
+
+            // 파티션 워커 Step(이름에 ':')의 건수는 매니저 Step에 이미 합산되어 있으므로 제외
+            List<StepExecution> steps = jobExecution.getStepExecutions().stream()
+                    .filter(step -> !step.getStepName().contains(":"))
+                    .toList();
+            long readCount = steps.stream().mapToLong(StepExecution::getReadCount).sum();
+            long writeCount = steps.stream().mapToLong(StepExecution::getWriteCount).sum();
+            Duration duration = Duration.between(jobExecution.getStartTime(), jobExecution.getEndTime());
+            double seconds = Math.max(duration.toMillis(), 1) / 1000.0;
+
+            long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            long gcTime = 0;
+            long gcCount = 0;
+            for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+                gcTime += Math.max(gc.getCollectionTime(), 0);
+                gcCount += Math.max(gc.getCollectionCount(), 0);
+            }
+
+            System.out.println(RESULT_PREFIX + String.join(";",
+                    "status=" + jobExecution.getStatus(),
+                    "readCount=" + readCount,
+                    "writeCount=" + writeCount,
+                    "jobMillis=" + duration.toMillis(),
+                    "rowsPerSecond=" + Math.round(readCount / seconds),
+                    "peakHeapMb=" + peakHeap / (1024 * 1024),
+                    "gcMillis=" + gcTime,
+                    "gcCount=" + gcCount));
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        }
+        // 파티션/비동기 스레드 풀 등이 남아 있어도 바로 종료
+        System.exit(exitCode);
+    }
+
+    private static Map<String, String> parseResult(String line) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String pair : line.split(";")) {
+            int eq = pair.indexOf('=');
+            result.put(pair.substring(0, eq), pair.substring(eq + 1));
+        }
+        return result;
+    }
+
+    private static void printTable(List<Map<String, String>> results) {
+        System.out.println();
+        System.out.printf("%-22s %-10s %12s %10s %12s %10s %8s%n",
+                "config", "status", "rows/sec", "job(ms)", "peakHeap(MB)", "gc(ms)", "gc(n)");
+        for (Map<String, String> result : results) {
+            System.out.printf("%-22s %-10s %,12d %,10d %,12d %,10d %8s%n",
+                    result.get("config"), result.get("status"),
+                    Long.parseLong(result.get("rowsPerSecond")), Long.parseLong(result.get("jobMillis")),
+                    Long.parseLong(result.get("peakHeapMb")), Long.parseLong(result.get("gcMillis")),
+                    result.get("gcCount"));
+        }
+        System.out.println();
+    }
+
+    static void writeJson(Path file, List<Map<String, String>> results) throws IOException {
+        String json = results.stream()
+                .map(result -> result.entrySet().stream()
+                        .map(entry -> "\"" + entry.getKey() + "\": " + jsonValue(entry.getValue()))
+                        .collect(Collectors.joining(", ", "  {", "}")))
+                .collect(Collectors.joining(",\n", "[\n", "\n]\n"));
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, json);
+    }
+
+    private static String jsonValue(String value) {
+        return value.matches("-?\\d+") ? value : "\"" + value.replace("\"", "\\\"") + "\"";
+    }
+
+    static List<String> split(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .toList();
+    }
+
+    static void deleteRecursively(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+}
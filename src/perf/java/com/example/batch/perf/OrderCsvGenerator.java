@@ -0,0 +1,224 @@
+package com.example.batch.perf;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * 처리량 측정용 주문 CSV 생성기.
+ * 행 수, 잘못된 행의 비율, 고객/상품 이름의 쏠림(Zipf 지수), 주문일자 범위를 지정할 수 있고
+ * 같은 시드로는 항상 같은 파일을 만든다. 1억 행까지 일정한 메모리로 스트리밍해서 쓴다.
+ *
+ * <pre>
+ * gradle generateOrders -Pgenerator.args="--rows=1000000 --bad-ratio=0.02 --output=build/perf/orders.csv"
+ * </pre>
+ */
+public class OrderCsvGenerator {
+
+    static final String HEADER = "order_id,customer_name,product_name,quantity,price,order_date";
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final String[] SURNAMES = {
+            "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임",
+            "한", "오", "서", "신", "권", "황", "안", "송", "류", "홍"
+    };
+    private static final String[] GIVEN = {
+            "민", "서", "지", "현", "준", "우", "은", "영", "수", "연",
+            "하", "도", "윤", "재", "성", "진", "아", "유", "태", "경",
+            "호", "희", "석", "빈", "혁"
+    };
+    private static final String[] PRODUCTS = {
+            "노트북", "스마트폰", "태블릿", "헤드폰", "키보드", "마우스", "모니터", "의자",
+            "책상", "스피커", "웹캠", "프린터", "외장하드", "공유기", "충전기", "USB-C, 2m 케이블"
+    };
+
+    private final long rows;
+    private final double badRatio;
+    private final LocalDateTime from;
+    private final long rangeSeconds;
+    private final SplittableRandom random;
+    private final ZipfSampler customers;
+    private final ZipfSampler products;
+
+    public OrderCsvGenerator(long rows, double badRatio, double customerSkew, int customerCount,
+                             double productSkew, int productCount, LocalDate from, LocalDate to, long seed) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("주문일자 범위가 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        this.rows = rows;
+        this.badRatio = badRatio;
+        this.from = from.atStartOfDay();
+        this.rangeSeconds = ChronoUnit.SECONDS.between(this.from, to.atStartOfDay());
+        this.random = new SplittableRandom(seed);
+        this.customers = new ZipfSampler(customerCount, customerSkew);
+        this.products = new ZipfSampler(productCount, productSkew);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        long rows = Long.parseLong(options.getOrDefault("rows", "1000000"));
+        Path output = Paths.get(options.getOrDefault("output", "build/perf/orders-" + rows + ".csv"));
+
+        long start = System.nanoTime();
+        fromOptions(options).write(output);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("%,d행 생성 완료: %s (%,d bytes, %,dms)%n", rows, output, Files.size(output), elapsedMs);
+    }
+
+    static OrderCsvGenerator fromOptions(Map<String, String> options) {
+        return new OrderCsvGenerator(
+                Long.parseLong(options.getOrDefault("rows", "1000000")),
+                Double.parseDouble(options.getOrDefault("bad-ratio", "0.02")),
+                Double.parseDouble(options.getOrDefault("customer-skew", "1.0")),
+                Integer.parseInt(options.getOrDefault("customers", "10000")),
+                Double.parseDouble(options.getOrDefault("product-skew", "0.8")),
+                Integer.parseInt(options.getOrDefault("products", "500")),
+                LocalDate.parse(options.getOrDefault("from", "2023-01-01")),
+                LocalDate.parse(options.getOrDefault("to", "2025-01-01")),
+                Long.parseLong(options.getOrDefault("seed", "42")));
+    }
+
+    /**
+     * --key=value 형식의 인자를 읽는다.
+     */
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || arg.indexOf('=') < 0) {
+                throw new IllegalArgumentException("--key=value 형식이 아닙니다: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    public void write(Path output) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (BufferedWriter writer = new BufferedWriter(
+                Files.newBufferedWriter(output, StandardCharsets.UTF_8), 1 << 20)) {
+            writer.write(HEADER);
+            writer.write('\n');
+            StringBuilder line = new StringBuilder(128);
+            for (long i = 0; i < rows; i++) {
+                line.setLength(0);
+                appendRow(line, i);
+                line.append('\n');
+                writer.append(line);
+            }
+        }
+    }
+
+    private void appendRow(StringBuilder line, long index) {
+        int customer = customers.next(random);
+        int product = products.next(random);
+        String customerName = customerName(customer);
+        String productName = productName(product);
+        // 수량은 작은 값이 많도록, 가격은 상품마다 고정 (합계가 DECIMAL(10,2)를 넘지 않는 범위)
+        String quantity = Integer.toString(1 + (int) (10 * random.nextDouble() * random.nextDouble()));
+        String price = Long.toString(productPrice(product));
+        String orderDate = from.plusSeconds(random.nextLong(rangeSeconds)).format(DATE_FORMATTER);
+
+        if (random.nextDouble() < badRatio) {
+            switch (random.nextInt(6)) {
+                case 0 -> price = "1500000";
+                case 1 -> quantity = "0";
+                case 2 -> quantity = "N/A";
+                case 3 -> orderDate = orderDate.replace(' ', 'T');
+                case 4 -> orderDate = "2999-01-01 00:00:00";
+                default -> customerName = "";
+            }
+        }
+
+        line.append("ORD");
+        appendPadded(line, index, 10).append(',');
+        appendField(line, customerName).append(',');
+        appendField(line, productName).append(',');
+        line.append(quantity).append(',')
+                .append(price).append(',')
+                .append(orderDate);
+    }
+
+    private static StringBuilder appendPadded(StringBuilder line, long value, int width) {
+        String digits = Long.toString(value);
+        for (int i = digits.length(); i < width; i++) {
+            line.append('0');
+        }
+        return line.append(digits);
+    }
+
+    private static StringBuilder appendField(StringBuilder line, String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0) {
+            return line.append(value);
+        }
+        return line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static String customerName(int rank) {
+        return SURNAMES[rank % SURNAMES.length]
+                + GIVEN[(rank / SURNAMES.length) % GIVEN.length]
+                + GIVEN[(rank / (SURNAMES.length * GIVEN.length)) % GIVEN.length]
+                + (rank >= SURNAMES.length * GIVEN.length * GIVEN.length ? Integer.toString(rank) : "");
+    }
+
+    private static String productName(int rank) {
+        String base = PRODUCTS[rank % PRODUCTS.length];
+        int model = rank / PRODUCTS.length;
+        return model == 0 ? base : base + " " + (char) ('A' + model % 26) + (model / 26 + 1);
+    }
+
+    private static long productPrice(int rank) {
+        // 상품 번호에서 결정적으로 1,000원 ~ 900,000원 사이의 가격을 만든다
+        long hash = (rank * 0x9E3779B97F4A7C15L) >>> 40;
+        return 1_000L * (1 + hash % 900);
+    }
+
+    /**
+     * 1..n 순위를 Zipf 분포로 뽑는다. 지수가 0이면 균등 분포.
+     */
+    static final class ZipfSampler {
+
+        private final double[] cumulative;
+
+        ZipfSampler(int size, double exponent) {
+            cumulative = new double[size];
+            double sum = 0;
+            for (int rank = 0; rank < size; rank++) {
+                sum += 1.0 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = sum;
+            }
+            for (int rank = 0; rank < size; rank++) {
+                cumulative[rank] /= sum;
+            }
+        }
+
+        int next(SplittableRandom random) {
+            double u = random.nextDouble();
+            int low = 0;
+            int high = cumulative.length - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (cumulative[mid] < u) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+}
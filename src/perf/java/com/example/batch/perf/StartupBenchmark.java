@@ -0,0 +1,236 @@
+package com.example.batch.perf;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실행 가능한 jar의 기동 방식별로 프로세스 시작부터 첫 청크 커밋까지 걸리는 시간(time-to-first-chunk)을 비교하는 벤치마크.
+ * bootJar를 압축 해제한 레이아웃(app/)에 H2 드라이버를 더해 설정마다 새 JVM을 repeat번 띄우고 중앙값을 보고한다.
+ * <ul>
+ *     <li>jpa — 기본 설정 (Hibernate EntityManagerFactory, 스키마 검증 포함)</li>
+ *     <li>jdbc — jdbc 프로필 (JPA/Spring Integration 자동 구성 제외)</li>
+ *     <li>jdbc-aot — jdbc 프로필 + 빌드 시 생성한 AOT 빈 정의 (-Dspring.aot.enabled=true)</li>
+ *     <li>jdbc-aot-cds — 위 설정 + 기동만 하는 학습 실행으로 만든 CDS 아카이브</li>
+ * </ul>
+ * 첫 청크 시점은 OrderBatchMetrics가 남기는 "첫 청크 커밋" 로그가 출력된 순간을 부모 프로세스에서 잰다.
+ *
+ * <pre>
+ * gradle startupBenchmark -Pstartup.args="--repeat=5 --configs=jpa,jdbc,jdbc-aot,jdbc-aot-cds"
+ * </pre>
+ */
+public class StartupBenchmark {
+
+    private static final String MAIN_CLASS = "com.example.batch.OrderSpringBatchApplication";
+    private static final Pattern FIRST_CHUNK = Pattern.compile("### 첫 청크 커밋: JVM 기동 후 (\\d+)ms");
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([\\d.]+) seconds");
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = OrderCsvGenerator.parseOptions(args);
+        Path bootJar = Paths.get(options.getOrDefault("jar", "build/libs/order-spring-batch-0.0.1-SNAPSHOT.jar"))
+                .toAbsolutePath();
+        long rows = Long.parseLong(options.getOrDefault("rows", "1000"));
+        int repeat = Integer.parseInt(options.getOrDefault("repeat", "5"));
+        List<String> configs = EndToEndBenchmark.split(options.getOrDefault("configs", "jpa,jdbc,jdbc-aot,jdbc-aot-cds"));
+        List<String> jvmArgs = EndToEndBenchmark.split(options.getOrDefault("jvm-args", "-Xmx512m"));
+        Path baseDir = Paths.get(options.getOrDefault("dir", "build/perf/startup")).toAbsolutePath();
+        Path resultFile = Paths.get(options.getOrDefault("result", "build/reports/startup/results.json"));
+
+        Path appDir = extract(bootJar, baseDir);
+        Path input = EndToEndBenchmark.prepareInput(options, rows, baseDir.getParent());
+        Path schema = EndToEndBenchmark.prepareSchema(baseDir);
+        String classPath = appDir.resolve(bootJar.getFileName()) + File.pathSeparator + h2Jar();
+
+        List<Map<String, String>> results = new ArrayList<>();
+        for (String config : configs) {
+            List<String> configArgs = configJvmArgs(config, baseDir);
+            if (config.endsWith("-cds")) {
+                System.out.printf("### %s CDS 학습 실행...%n", config);
+                train(config, classPath, jvmArgs, configArgs, input, schema, baseDir);
+            }
+
+            List<Long> firstChunk = new ArrayList<>();
+            List<Long> contextStartup = new ArrayList<>();
+            List<Long> total = new ArrayList<>();
+            for (int i = 0; i < repeat; i++) {
+                Map<String, Long> run = run(config, classPath, jvmArgs, configArgs, input, schema, baseDir);
+                firstChunk.add(run.get("firstChunkMillis"));
+                contextStartup.add(run.get("contextMillis"));
+                total.add(run.get("totalMillis"));
+            }
+            System.out.printf("### %s: 첫 청크 %s ms%n", config, firstChunk);
+
+            Map<String, String> result = new LinkedHashMap<>();
+            result.put("config", config);
+            result.put("runs", Integer.toString(repeat));
+            result.put("firstChunkMillis", Long.toString(median(firstChunk)));
+            result.put("contextMillis", Long.toString(median(contextStartup)));
+            result.put("totalMillis", Long.toString(median(total)));
+            results.add(result);
+        }
+
+        printTable(results);
+        EndToEndBenchmark.writeJson(resultFile, results);
+        System.out.println("결과 저장: " + resultFile.toAbsolutePath());
+    }
+
+    /**
+     * bootJar를 java -Djarmode=tools extract로 풀어 둔다. CDS는 중첩 jar가 아닌 일반 jar 클래스패스에서만 동작한다.
+     */
+    private static Path extract(Path bootJar, Path baseDir) throws IOException, InterruptedException {
+        Path appDir = baseDir.resolve("app");
+        EndToEndBenchmark.deleteRecursively(appDir);
+        Files.createDirectories(baseDir);
+        Process process = new ProcessBuilder(java(), "-Djarmode=tools", "-jar", bootJar.toString(),
+                "extract", "--destination", appDir.toString())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("bootJar 압축 해제 실패: " + bootJar);
+        }
+        return appDir;
+    }
+
+    private static List<String> configJvmArgs(String config, Path baseDir) {
+        List<String> args = new ArrayList<>();
+        if (config.contains("aot")) {
+            args.add("-Dspring.aot.enabled=true");
+        }
+        if (config.endsWith("-cds")) {
+            args.add("-XX:SharedArchiveFile=" + archive(config, baseDir));
+            args.add("-Xlog:cds=off");
+            args.add("-Xlog:class+path=off");
+        }
+        return args;
+    }
+
+    private static Path archive(String config, Path baseDir) {
+        return baseDir.resolve(config + ".jsa");
+    }
+
+    /**
+     * 컨텍스트 기동 직후 종료하는 학습 실행으로 로드된 클래스를 CDS 아카이브에 기록한다(Job은 실행하지 않는다).
+     */
+    private static void train(String config, String classPath, List<String> jvmArgs, List<String> configArgs,
+                              Path input, Path schema, Path baseDir) throws IOException, InterruptedException {
+        Path archive = archive(config, baseDir);
+        Files.deleteIfExists(archive);
+        List<String> trainingArgs = new ArrayList<>(configArgs.stream()
+                .filter(arg -> !arg.startsWith("-XX:SharedArchiveFile") && !arg.startsWith("-Xlog"))
+                .toList());
+        trainingArgs.add("-XX:ArchiveClassesAtExit=" + archive);
+        trainingArgs.add("-Dspring.context.exit=onRefresh");
+        run(config, classPath, jvmArgs, trainingArgs, input, schema, baseDir);
+        if (!Files.exists(archive)) {
+            throw new IllegalStateException("CDS 아카이브가 만들어지지 않았습니다: " + archive);
+        }
+    }
+
+    private static Map<String, Long> run(String config, String classPath, List<String> jvmArgs, List<String> configArgs,
+                                         Path input, Path schema, Path baseDir) throws IOException, InterruptedException {
+        Path workDir = baseDir.resolve("run-" + config);
+        EndToEndBenchmark.deleteRecursively(workDir);
+        Files.createDirectories(workDir.resolve("input"));
+        Files.copy(input, workDir.resolve("input/orders.csv"));
+
+        List<String> command = new ArrayList<>();
+        command.add(java());
+        command.addAll(jvmArgs);
+        command.addAll(configArgs);
+        command.add("-Dstdout.encoding=UTF-8");
+        command.add("-Dfile.encoding=UTF-8");
+        command.add("-cp");
+        command.add(classPath);
+        command.add(MAIN_CLASS);
+        command.addAll(List.of(
+                "--spring.datasource.url=jdbc:h2:mem:startup;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.sql.init.mode=always",
+                "--spring.sql.init.schema-locations=file:" + schema,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.example.batch.metrics.OrderBatchMetrics=INFO",
+                "--logging.level." + MAIN_CLASS + "=INFO",
+                "--batch.reject.max-ratio=1.0"));
+        if (config.startsWith("jdbc")) {
+            command.add("--spring.profiles.active=jdbc");
+        }
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .start();
+
+        Map<String, Long> result = new LinkedHashMap<>();
+        List<String> output = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher firstChunk = FIRST_CHUNK.matcher(line);
+                Matcher started = STARTED.matcher(line);
+                if (firstChunk.find() && !result.containsKey("firstChunkMillis")) {
+                    result.put("firstChunkMillis", (System.nanoTime() - start) / 1_000_000);
+                } else if (started.find()) {
+                    result.put("contextMillis", Math.round(Double.parseDouble(started.group(1)) * 1000));
+                }
+                output.add(line);
+            }
+        }
+        int exitCode = process.waitFor();
+        result.put("totalMillis", (System.nanoTime() - start) / 1_000_000);
+
+        boolean training = configArgs.stream().anyMatch(arg -> arg.startsWith("-XX:ArchiveClassesAtExit"));
+        if (exitCode != 0 || (!training && !result.containsKey("firstChunkMillis"))) {
+            output.forEach(System.err::println);
+            throw new IllegalStateException(config + " 실행 실패 (exit=" + exitCode + ")");
+        }
+        result.putIfAbsent("contextMillis", 0L);
+        return result;
+    }
+
+    private static String h2Jar() {
+        return Arrays.stream(System.getProperty("java.class.path").split(File.pathSeparator))
+                .filter(entry -> Paths.get(entry).getFileName().toString().startsWith("h2-"))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("클래스패스에 H2 드라이버가 없습니다"));
+    }
+
+    private static String java() {
+        return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = values.stream().sorted().toList();
+        return sorted.get(sorted.size() / 2);
+    }
+
+    private static void printTable(List<Map<String, String>> results) {
+        System.out.println();
+        System.out.printf("%-16s %6s %16s %14s %12s%n", "config", "runs", "firstChunk(ms)", "context(ms)", "total(ms)");
+        for (Map<String, String> result : results) {
+            System.out.printf("%-16s %6s %,16d %,14d %,12d%n",
+                    result.get("config"), result.get("runs"),
+                    Long.parseLong(result.get("firstChunkMillis")), Long.parseLong(result.get("contextMillis")),
+                    Long.parseLong(result.get("totalMillis")));
+        }
+        System.out.println();
+    }
+
+}
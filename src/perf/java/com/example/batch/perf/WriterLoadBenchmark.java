@@ -0,0 +1,239 @@
+package com.example.batch.perf;
+
+import com.example.batch.domain.Order;
+import com.example.batch.writer.MySqlBulkLoader;
+import com.example.batch.writer.OrderItemWriter;
+import com.example.batch.writer.ProcessedOrderWriter;
+import org.springframework.batch.item.Chunk;
+import org.springframework.beans.DirectFieldAccessor;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * orders / processed_orders 쓰기 방식별 처리량을 실제 MySQL에서 비교하는 벤치마크.
+ * <ul>
+ *     <li>{@code batch}: 배치 INSERT ... ON DUPLICATE KEY UPDATE, rewriteBatchedStatements=false (행마다 한 문장)</li>
+ *     <li>{@code batch-rewrite}: 같은 SQL, rewriteBatchedStatements=true (여러 행을 한 문장으로 합쳐 보냄, 기본 설정)</li>
+ *     <li>{@code bulk}: 임시 테이블로 LOAD DATA LOCAL INFILE 후 INSERT ... SELECT ... ON DUPLICATE KEY UPDATE ({@code batch.writer.mode=bulk})</li>
+ * </ul>
+ * 운영 Writer({@link OrderItemWriter}, {@link ProcessedOrderWriter})를 그대로 쓰고, Step처럼 청크마다 트랜잭션 하나로
+ * 두 테이블을 쓴다. 시나리오는 빈 테이블에 적재하는 {@code insert}와, 같은 행을 한 번 더 쓰는(파일 재처리) {@code upsert}다.
+ * 측정은 별도 데이터베이스({@code --database}, 기본 writer_bench)를 만들어 init.sql 스키마로 하므로 devdb 데이터는 건드리지 않는다.
+ *
+ * <pre>
+ * docker compose -f infra/docker-compose.yml up -d
+ * gradle writerBenchmark -Pwriter.args="--rows=200000 --chunk-sizes=1000,5000"
+ * </pre>
+ */
+public class WriterLoadBenchmark {
+
+    private static final String DEFAULT_URL =
+            "jdbc:mysql://localhost:3306/?allowPublicKeyRetrieval=true&useSSL=false&serverTimezone=Asia/Seoul"
+            + "&characterEncoding=UTF-8";
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = OrderCsvGenerator.parseOptions(args);
+        int rows = Integer.parseInt(options.getOrDefault("rows", "200000"));
+        List<Integer> chunkSizes = EndToEndBenchmark.split(options.getOrDefault("chunk-sizes", "1000,5000")).stream()
+                .map(Integer::parseInt)
+                .toList();
+        List<String> configs = EndToEndBenchmark.split(options.getOrDefault("configs", "batch,batch-rewrite,bulk"));
+        List<String> scenarios = EndToEndBenchmark.split(options.getOrDefault("scenarios", "insert,upsert"));
+        int rounds = Integer.parseInt(options.getOrDefault("rounds", "3"));
+        String url = options.getOrDefault("url", DEFAULT_URL);
+        String user = options.getOrDefault("user", "root");  // 데이터베이스를 만들어야 하므로 기본은 root
+        String password = options.getOrDefault("password", "rootpassword");
+        String database = options.getOrDefault("database", "writer_bench");
+        Path baseDir = Paths.get(options.getOrDefault("dir", "build/perf")).toAbsolutePath();
+        Path resultFile = Paths.get(options.getOrDefault("result", "build/reports/writer/results.json"));
+
+        // Writer가 청크마다 남기는 INFO 로그가 측정에 섞이지 않게 한다
+        LoggingSystem.get(WriterLoadBenchmark.class.getClassLoader())
+                .setLogLevel(LoggingSystem.ROOT_LOGGER_NAME, LogLevel.WARN);
+
+        prepareDatabase(url, user, password, database, baseDir);
+        List<Order> orders = orders(rows);
+
+        List<Map<String, String>> results = new ArrayList<>();
+        for (int chunkSize : chunkSizes) {
+            for (String config : configs) {
+                System.out.printf("### %s, 청크 %,d행 실행 중 (%,d행 × %d회)...%n", config, chunkSize, rows, rounds);
+                Map<String, long[]> millis = runConfig(config, databaseUrl(url, database, config), user, password,
+                        orders, chunkSize, scenarios, rounds);
+                for (String scenario : scenarios) {
+                    long median = median(millis.get(scenario));
+                    Map<String, String> result = new LinkedHashMap<>();
+                    result.put("config", config);
+                    result.put("scenario", scenario);
+                    result.put("chunkSize", Integer.toString(chunkSize));
+                    result.put("rows", Integer.toString(rows));
+                    result.put("medianMillis", Long.toString(median));
+                    result.put("rowsPerSecond", Long.toString(rows * 1000L / Math.max(median, 1)));
+                    result.put("roundMillis", Arrays.toString(millis.get(scenario)));
+                    results.add(result);
+                }
+            }
+        }
+
+        printTable(results);
+        EndToEndBenchmark.writeJson(resultFile, results);
+        System.out.println("결과 저장: " + resultFile.toAbsolutePath());
+    }
+
+    /**
+     * 측정용 데이터베이스를 만들고 init.sql 스키마를 적용한다 (USE 문 제외, 이미 있으면 그대로 둔다).
+     */
+    private static void prepareDatabase(String url, String user, String password, String database, Path baseDir)
+            throws Exception {
+        Path schema = EndToEndBenchmark.prepareSchema(baseDir);
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(url, user, password, true);
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE DATABASE IF NOT EXISTS " + database + " CHARACTER SET utf8mb4");
+            jdbcTemplate.execute("USE " + database);
+            new ResourceDatabasePopulator(new FileSystemResource(schema)).execute(dataSource);
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    private static String databaseUrl(String url, String database, String config) {
+        int query = url.indexOf('?');
+        String base = query < 0 ? url : url.substring(0, query);
+        String params = query < 0 ? "" : url.substring(query + 1) + "&";
+        boolean rewrite = !"batch".equals(config);
+        // 애플리케이션과 같이 bulk 설정에서만 LOAD DATA LOCAL INFILE을 허용한다
+        return base.substring(0, base.lastIndexOf('/') + 1) + database + "?" + params
+                + "rewriteBatchedStatements=" + rewrite + ("bulk".equals(config) ? "&allowLoadLocalInfile=true" : "");
+    }
+
+    /**
+     * 설정 하나를 rounds번 실행한다. 각 회차는 테이블을 비운 뒤 insert → upsert 순서로 측정한다.
+     * 첫 회차 앞에 같은 순서로 한 번 더 실행해 JIT과 버퍼 풀을 데워 둔다.
+     *
+     * @return 시나리오 → 회차별 소요 시간(ms)
+     */
+    private static Map<String, long[]> runConfig(String config, String url, String user, String password,
+                                                 List<Order> orders, int chunkSize, List<String> scenarios,
+                                                 int rounds) throws Exception {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(url, user, password, true);
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            MySqlBulkLoader bulkLoader = new MySqlBulkLoader(jdbcTemplate);
+            // @Value가 주입되지 않으므로 batch.writer.mode / bulk-min-rows를 직접 지정한다
+            DirectFieldAccessor loaderFields = new DirectFieldAccessor(bulkLoader);
+            loaderFields.setPropertyValue("mode", "bulk".equals(config) ? "bulk" : "batch");
+            loaderFields.setPropertyValue("bulkMinRows", 0);
+            OrderItemWriter orderItemWriter = new OrderItemWriter(jdbcTemplate, bulkLoader);
+            ProcessedOrderWriter processedOrderWriter = new ProcessedOrderWriter(jdbcTemplate, bulkLoader);
+            TransactionTemplate transactionTemplate =
+                    new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+            Map<String, long[]> millis = new LinkedHashMap<>();
+            scenarios.forEach(scenario -> millis.put(scenario, new long[rounds]));
+            for (int round = -1; round < rounds; round++) {
+                jdbcTemplate.execute("TRUNCATE TABLE orders");
+                jdbcTemplate.execute("TRUNCATE TABLE processed_orders");
+                // upsert는 insert로 채운 테이블에 같은 행을 다시 쓰므로 insert는 측정하지 않더라도 항상 먼저 실행한다
+                long insert = writeAll(transactionTemplate, orderItemWriter, processedOrderWriter, orders, chunkSize);
+                long upsert = scenarios.contains("upsert")
+                        ? writeAll(transactionTemplate, orderItemWriter, processedOrderWriter, orders, chunkSize)
+                        : 0;
+                if (round >= 0) {
+                    if (millis.containsKey("insert")) {
+                        millis.get("insert")[round] = insert;
+                    }
+                    if (millis.containsKey("upsert")) {
+                        millis.get("upsert")[round] = upsert;
+                    }
+                }
+            }
+            return millis;
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    /**
+     * 주문 전체를 청크마다 트랜잭션 하나로 orders → processed_orders 순서로 쓴다.
+     *
+     * @return 소요 시간(ms)
+     */
+    private static long writeAll(TransactionTemplate transactionTemplate, OrderItemWriter orderItemWriter,
+                                 ProcessedOrderWriter processedOrderWriter, List<Order> orders, int chunkSize) {
+        long start = System.nanoTime();
+        for (int from = 0; from < orders.size(); from += chunkSize) {
+            Chunk<Order> chunk = new Chunk<>(orders.subList(from, Math.min(from + chunkSize, orders.size())));
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    orderItemWriter.write(chunk);
+                    processedOrderWriter.write(chunk);
+                } catch (Exception e) {
+                    throw new IllegalStateException("청크 쓰기 실패", e);
+                }
+            });
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * 고객/상품 id는 차원 테이블과 무관한 값이다 (orders에는 외래 키가 없다).
+     */
+    private static List<Order> orders(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime processedAt = LocalDateTime.of(2024, 2, 1, 0, 0);
+        List<Order> orders = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int quantity = 1 + random.nextInt(10);
+            long price = 1_000L * (1 + random.nextInt(900));
+            orders.add(Order.builder()
+                    .orderId("ORD" + String.format("%09d", i))
+                    .customerId(1L + random.nextInt(10_000))
+                    .productId(1L + random.nextInt(16))
+                    .quantity(quantity)
+                    .price(price)
+                    .totalAmount(price * quantity)
+                    .orderDate(from.plusSeconds(random.nextInt(365 * 24 * 3600)))
+                    .status("PROCESSED")
+                    .processedAt(processedAt)
+                    .build());
+        }
+        return orders;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static void printTable(List<Map<String, String>> results) {
+        System.out.println();
+        System.out.printf("%-14s %-8s %8s %12s %10s  %s%n", "config", "scenario", "chunk", "rows/sec", "median(ms)", "rounds(ms)");
+        for (Map<String, String> result : results) {
+            System.out.printf("%-14s %-8s %,8d %,12d %,10d  %s%n",
+                    result.get("config"), result.get("scenario"), Integer.parseInt(result.get("chunkSize")),
+                    Long.parseLong(result.get("rowsPerSecond")), Long.parseLong(result.get("medianMillis")),
+                    result.get("roundMillis"));
+        }
+        System.out.println();
+    }
+
+}
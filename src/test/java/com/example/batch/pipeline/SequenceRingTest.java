@@ -0,0 +1,165 @@
+package com.example.batch.pipeline;
+
+import com.example.batch.error.PipelineAbortedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SequenceRingTest {
+
+    private static final long TIMEOUT_SECONDS = 30;
+
+    // 기다리는 호출마다 스레드 하나 (공용 풀은 CPU 수에 따라 동시에 돌지 않을 수 있음)
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    /**
+     * 칸 객체. 생산자가 자기 시퀀스를 써 두면 소비자가 그 칸을 제 시퀀스로 읽었는지 확인할 수 있다.
+     */
+    private static final class Slot {
+        long sequence = -1;
+    }
+
+    @Test
+    void 여러_생산자가_순서없이_채워도_소비자는_시퀀스_순서대로_한번씩_받는다() throws Exception {
+        int producers = 4;
+        long total = 200_000;
+        SequenceRing<Slot> ring = new SequenceRing<>(8, Slot::new);
+        AtomicLong next = new AtomicLong();
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < producers; i++) {
+            futures.add(executor.submit(() -> {
+                for (long sequence = next.getAndIncrement(); sequence < total; sequence = next.getAndIncrement()) {
+                    Slot slot = ring.claim(sequence);
+                    slot.sequence = sequence;
+                    ring.publish(sequence);
+                }
+            }));
+        }
+        CompletableFuture.runAsync(() -> {
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            ring.close(total);
+        }, executor);
+
+        for (long sequence = 0; sequence < total; sequence++) {
+            Slot slot = ring.await(sequence);
+            assertThat(slot).isNotNull();
+            assertThat(slot.sequence).isEqualTo(sequence);
+            ring.release(sequence);
+        }
+        assertThat(ring.await(total)).isNull();
+        assertThat(ring.occupancy()).isZero();
+    }
+
+    @Test
+    void 칸이_다시_쓰이기_전에는_생산자가_소비자를_앞지르지_않는다() throws Exception {
+        SequenceRing<Slot> ring = new SequenceRing<>(2, Slot::new);
+        ring.claim(0).sequence = 0;
+        ring.publish(0);
+        ring.claim(1).sequence = 1;
+        ring.publish(1);
+
+        CompletableFuture<Slot> producer = CompletableFuture.supplyAsync(() -> ring.claim(2), executor);
+        assertNotCompleted(producer);
+
+        Slot first = ring.await(0);
+        assertThat(first.sequence).isZero();
+        ring.release(0);
+        assertThat(producer.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isSameAs(first);
+    }
+
+    @Test
+    void abort하면_기다리던_생산자와_소비자가_모두_예외로_빠져나온다() throws Exception {
+        SequenceRing<Slot> ring = new SequenceRing<>(4, Slot::new);
+        IllegalStateException cause = new IllegalStateException("처리 스레드 실패");
+
+        // 아무것도 채워지지 않았으므로 소비자는 0번을, 생산자는 다음 바퀴의 4·5번 칸을 기다린다
+        List<CompletableFuture<Slot>> waiters = List.of(
+                CompletableFuture.supplyAsync(() -> ring.await(0), executor),
+                CompletableFuture.supplyAsync(() -> ring.await(1), executor),
+                CompletableFuture.supplyAsync(() -> ring.claim(4), executor),
+                CompletableFuture.supplyAsync(() -> ring.claim(5), executor));
+        for (CompletableFuture<Slot> waiter : waiters) {
+            assertNotCompleted(waiter);
+        }
+
+        ring.abort(cause);
+
+        for (CompletableFuture<Slot> waiter : waiters) {
+            assertThatThrownBy(() -> waiter.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause()
+                    .isInstanceOf(PipelineAbortedException.class)
+                    .hasCause(cause);
+        }
+    }
+
+    @Test
+    void close된_뒤에도_끝_시퀀스_전까지는_null이_아니라_채워질_때까지_기다린다() throws Exception {
+        SequenceRing<Slot> ring = new SequenceRing<>(4, Slot::new);
+        ring.close(3);
+
+        CompletableFuture<Slot> consumer = CompletableFuture.supplyAsync(() -> ring.await(0), executor);
+        assertNotCompleted(consumer);
+
+        for (long sequence = 0; sequence < 3; sequence++) {
+            ring.claim(sequence).sequence = sequence;
+            ring.publish(sequence);
+        }
+        assertThat(consumer.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).sequence).isZero();
+        assertThat(ring.await(1).sequence).isEqualTo(1);
+        assertThat(ring.await(2).sequence).isEqualTo(2);
+        assertThat(ring.await(3)).isNull();
+        assertThat(ring.await(4)).isNull();
+    }
+
+    @Test
+    void 기다리는_중에_close되면_끝_시퀀스_이상만_null을_받는다() throws Exception {
+        SequenceRing<Slot> ring = new SequenceRing<>(4, Slot::new);
+        CompletableFuture<Slot> last = CompletableFuture.supplyAsync(() -> ring.await(1), executor);
+        CompletableFuture<Slot> afterEnd = CompletableFuture.supplyAsync(() -> ring.await(2), executor);
+        assertNotCompleted(last);
+        assertNotCompleted(afterEnd);
+
+        ring.close(2);
+
+        assertThat(afterEnd.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isNull();
+        assertNotCompleted(last);
+        ring.claim(1).sequence = 1;
+        ring.publish(1);
+        assertThat(last.get(TIMEOUT_SECONDS, TimeUnit.SECONDS).sequence).isEqualTo(1);
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static void assertNotCompleted(CompletableFuture<?> future) throws Exception {
+        try {
+            future.get(100, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return;
+        }
+        throw new AssertionError("기다려야 할 호출이 끝났습니다");
+    }
+
+}
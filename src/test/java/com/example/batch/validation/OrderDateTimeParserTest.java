@@ -0,0 +1,123 @@
+package com.example.batch.validation;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OrderDateTimeParser가 이전에 쓰던 {@code DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss")}(SMART)와
+ * 같은 값을 받고 같은 값을 거부하는지 비교한다.
+ */
+class OrderDateTimeParserTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2024-01-15 10:30:00",
+            "1970-01-01 00:00:00",
+            "1969-12-31 23:59:59",
+            "0001-01-01 00:00:00",
+            "9999-12-31 23:59:59",
+            // 그 달의 마지막 날을 넘는 일(day)은 마지막 날로 맞춤
+            "2023-02-29 12:00:00",
+            "2024-02-29 12:00:00",
+            "2024-02-30 12:00:00",
+            "2023-02-31 12:00:00",
+            "2100-02-29 00:00:00",
+            "2000-02-29 00:00:00",
+            "2024-04-31 08:00:00",
+            "2024-11-31 08:00:00",
+            // 24:00:00은 다음 날 00:00:00
+            "2024-12-31 24:00:00",
+            "2024-02-28 24:00:00",
+            "2023-02-30 24:00:00",
+            "9999-12-31 24:00:00",
+            // 거부
+            "2024-02-32 00:00:00",
+            "2024-02-00 00:00:00",
+            "2024-00-10 00:00:00",
+            "2024-13-10 00:00:00",
+            "0000-01-01 00:00:00",
+            "2024-01-01 24:00:01",
+            "2024-01-01 24:01:00",
+            "2024-01-01 25:00:00",
+            "2024-01-01 23:60:00",
+            "2024-01-01 23:59:60",
+            "2024-1-01 00:00:00",
+            "2024-01-01T00:00:00",
+            "2024/01/01 00:00:00",
+            "2024-01-01 00:00:0a",
+            "+024-01-01 00:00:00",
+            "-024-01-01 00:00:00",
+            "2024-01-01 00:00:00 ",
+            " 2024-01-01 00:00:00",
+            "2024-01-01",
+            ""
+    })
+    void DateTimeFormatter와_같은_값으로_파싱한다(String text) {
+        LocalDateTime expected = parseWithFormatter(text);
+
+        assertThat(OrderDateTimeParser.parse(text)).isEqualTo(expected);
+        assertThat(parseEpochSecond(text)).isEqualTo(expected == null
+                ? OrderDateTimeParser.INVALID
+                : expected.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    @Test
+    void 모든_달의_모든_일을_DateTimeFormatter와_같게_파싱한다() {
+        int[] years = {1, 4, 100, 400, 1900, 1970, 1999, 2000, 2023, 2024, 2100, 9999};
+        String[] times = {"00:00:00", "12:34:56", "23:59:59", "24:00:00"};
+        for (int year : years) {
+            for (int month = 1; month <= 12; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    for (String time : times) {
+                        String text = String.format("%04d-%02d-%02d %s", year, month, day, time);
+                        LocalDateTime expected = parseWithFormatter(text);
+
+                        assertThat(OrderDateTimeParser.parse(text)).as(text).isEqualTo(expected);
+                        assertThat(parseEpochSecond(text)).as(text).isEqualTo(expected == null
+                                ? OrderDateTimeParser.INVALID
+                                : expected.toEpochSecond(ZoneOffset.UTC));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void 바이트_구간의_위치와_상관없이_파싱한다() {
+        byte[] line = "A-1,2024-02-30 24:00:00,X".getBytes(StandardCharsets.US_ASCII);
+
+        assertThat(OrderDateTimeParser.parseEpochSecond(line, 4, 19))
+                .isEqualTo(LocalDateTime.of(2024, 3, 1, 0, 0).toEpochSecond(ZoneOffset.UTC));
+        assertThat(OrderDateTimeParser.parseEpochSecond(line, 4, 18)).isEqualTo(OrderDateTimeParser.INVALID);
+    }
+
+    @Test
+    void null은_거부한다() {
+        assertThat(OrderDateTimeParser.parse(null)).isNull();
+    }
+
+    private static LocalDateTime parseWithFormatter(String text) {
+        try {
+            return LocalDateTime.parse(text, FORMATTER);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static long parseEpochSecond(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        return OrderDateTimeParser.parseEpochSecond(bytes, 0, bytes.length);
+    }
+
+}
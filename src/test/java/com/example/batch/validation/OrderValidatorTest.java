@@ -0,0 +1,125 @@
+package com.example.batch.validation;
+
+import com.example.batch.columnar.NameDictionary;
+import com.example.batch.columnar.OrderColumns;
+import com.example.batch.dto.OrderInputDto;
+import com.example.batch.reader.OrderCsvTokenizer;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 규칙을 행(DTO) 검사({@link OrderValidator#compile})와 컬럼 블록 검사({@link OrderValidator#compileColumns})로
+ * 컴파일했을 때 한 줄에 대한 통과 여부가 같은지 비교한다. columnar 모드는 통과하지 못한 행만 DTO로 다시 검사해
+ * 사유를 만들므로, 둘이 어긋나면 사유 없이 거부되거나 잘못된 행이 적재된다.
+ */
+class OrderValidatorTest {
+
+    private static final String HEADER = "order_id,customer_name,product_name,quantity,price,order_date";
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 15, 12, 0, 0);
+
+    /** 기본 규칙 + 글자 수 제한 */
+    private static final List<ValidationRuleProperties.Rule> RULES = List.of(
+            new ValidationRuleProperties.Rule("order_id", true, 10, null, null, false),
+            new ValidationRuleProperties.Rule("customer_name", true, 5, null, null, false),
+            new ValidationRuleProperties.Rule("product_name", true, null, null, null, false),
+            new ValidationRuleProperties.Rule("quantity", false, null, 1L, 1000L, false),
+            new ValidationRuleProperties.Rule("price", false, null, 1L, 1_000_000L, false),
+            new ValidationRuleProperties.Rule("order_date", true, null, null, null, true));
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "ORD-1,Kim,Laptop,1,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,1000,1000000,2024-06-15 12:00:00",
+            // 필수 텍스트
+            "ORD-1,,Laptop,1,1000,2024-01-15 10:30:00",
+            "ORD-1,   ,Laptop,1,1000,2024-01-15 10:30:00",
+            ",Kim,Laptop,1,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,,1,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop",
+            // 글자 수 (바이트가 아니라 글자 기준)
+            "ORD-1,홍길동전설,Laptop,1,1000,2024-01-15 10:30:00",
+            "ORD-1,홍길동전설이,Laptop,1,1000,2024-01-15 10:30:00",
+            "ORD-1,\"Kim, A\",Laptop,1,1000,2024-01-15 10:30:00",
+            "ORD-1,\"K\"\"im\",Laptop,1,1000,2024-01-15 10:30:00",
+            "ORD-123456789,Kim,Laptop,1,1000,2024-01-15 10:30:00",
+            // 숫자 범위와 형식
+            "ORD-1,Kim,Laptop,0,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,1001,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,-1,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,+5,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,abc,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,99999999999,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,1,0,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,1,1000001,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,1,1.5,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,1,99999999999999999999,2024-01-15 10:30:00",
+            // 날짜 형식과 미래 날짜
+            "ORD-1,Kim,Laptop,1,1000,2024-06-15 12:00:01",
+            "ORD-1,Kim,Laptop,1,1000,2024-06-14 24:00:00",
+            "ORD-1,Kim,Laptop,1,1000,2024-06-15 24:00:00",
+            "ORD-1,Kim,Laptop,1,1000,2024-02-30 10:00:00",
+            "ORD-1,Kim,Laptop,1,1000,2024-02-32 10:00:00",
+            "ORD-1,Kim,Laptop,1,1000,2024-01-15T10:30:00",
+            "ORD-1,Kim,Laptop,1,1000,",
+            "ORD-1,Kim,Laptop,1,1000"
+    })
+    void 행_검사와_컬럼_검사의_통과_여부가_같다(String line) throws Exception {
+        OrderValidator validator = new OrderValidator(properties(RULES));
+        OrderCsvTokenizer tokenizer = new OrderCsvTokenizer();
+        tokenizer.readHeader(HEADER);
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+
+        OrderInputDto item = tokenizer.map(bytes, bytes.length);
+        String error = validator.validate(item, NOW);
+
+        OrderColumns block = new OrderColumns(1, new NameDictionary(), new NameDictionary(), tokenizer);
+        int row = tokenizer.mapColumns(bytes, bytes.length, block);
+        boolean passes = validator.passes(block, row, NOW.toEpochSecond(ZoneOffset.UTC));
+
+        assertThat(passes).as("행 검사 결과: %s", error).isEqualTo(error == null);
+        if (passes) {
+            assertThat(block.orderDate(row)).isEqualTo(item.getOrderDate());
+            assertThat(block.quantity(row)).isEqualTo(item.getQuantity());
+            assertThat(block.price(row)).isEqualTo(item.getPrice());
+        } else {
+            // columnar 모드가 사유를 만들 때 쓰는 경로
+            assertThat(validator.validate(block.toInput(row), NOW)).isEqualTo(error);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "ORD-1,Kim,Laptop,1,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,0,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,1,1000,2099-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,abc,1000,2024-01-15 10:30:00",
+            "ORD-1,Kim,Laptop,1,1000,2024-13-15 10:30:00"
+    })
+    void 규칙이_없으면_기본_규칙으로_같게_검사한다(String line) {
+        OrderValidator validator = new OrderValidator(properties(List.of()));
+        OrderCsvTokenizer tokenizer = new OrderCsvTokenizer();
+        tokenizer.readHeader(HEADER);
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+
+        String error = validator.validate(tokenizer.map(bytes, bytes.length), NOW);
+        OrderColumns block = new OrderColumns(1, new NameDictionary(), new NameDictionary(), tokenizer);
+        int row = tokenizer.mapColumns(bytes, bytes.length, block);
+
+        assertThat(validator.passes(block, row, NOW.toEpochSecond(ZoneOffset.UTC))).isEqualTo(error == null);
+    }
+
+    private static ValidationRuleProperties properties(List<ValidationRuleProperties.Rule> rules) {
+        ValidationRuleProperties properties = new ValidationRuleProperties();
+        properties.setRules(rules);
+        return properties;
+    }
+
+}